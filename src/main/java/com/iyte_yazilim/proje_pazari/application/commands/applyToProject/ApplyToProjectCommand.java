@@ -0,0 +1,9 @@
+package com.iyte_yazilim.proje_pazari.application.commands.applyToProject;
+
+/**
+ * Command for a user to apply to join a project.
+ *
+ * @param projectId the project's ULID
+ * @param userId the applicant's ULID, taken from the access token
+ */
+public record ApplyToProjectCommand(String projectId, String userId) {}
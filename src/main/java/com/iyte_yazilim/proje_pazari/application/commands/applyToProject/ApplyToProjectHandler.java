@@ -0,0 +1,108 @@
+package com.iyte_yazilim.proje_pazari.application.commands.applyToProject;
+
+import com.iyte_yazilim.proje_pazari.application.dtos.ProjectApplicationDTO;
+import com.iyte_yazilim.proje_pazari.application.services.MessageService;
+import com.iyte_yazilim.proje_pazari.application.services.UserProfileCache;
+import com.iyte_yazilim.proje_pazari.domain.enums.ApplicationStatus;
+import com.iyte_yazilim.proje_pazari.domain.enums.ProjectStatus;
+import com.iyte_yazilim.proje_pazari.domain.interfaces.IRequestHandler;
+import com.iyte_yazilim.proje_pazari.domain.models.ApiResponse;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.ProjectApplicationRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.ProjectRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.UserRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.ProjectApplicationEntity;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.ProjectEntity;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.UserEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+
+/**
+ * Handles the {@link ApplyToProjectCommand}.
+ *
+ * <p>Creates a {@code PENDING} application and increments the applicant's denormalized
+ * application counter in the same transaction.
+ *
+ * <h2>Error Scenarios:</h2>
+ *
+ * <ul>
+ *   <li>{@code NOT_FOUND} - Project or user does not exist
+ *   <li>{@code BAD_REQUEST} - The applicant owns the project
+ *   <li>{@code CONFLICT} - Project is not open or its team is full, or the user already applied.
+ *       A duplicate that races past the existence check is stopped by the unique constraint and
+ *       reported the same way.
+ * </ul>
+ *
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ */
+@Service
+@RequiredArgsConstructor
+public class ApplyToProjectHandler
+        implements IRequestHandler<ApplyToProjectCommand, ApiResponse<ProjectApplicationDTO>> {
+
+    private final ProjectApplicationRepository projectApplicationRepository;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final UserProfileCache userProfileCache;
+    private final MessageService messageService;
+
+    @Override
+    @Transactional
+    public ApiResponse<ProjectApplicationDTO> handle(ApplyToProjectCommand command) {
+
+        // --- 1. Load project and applicant ---
+        ProjectEntity project = projectRepository.findById(command.projectId()).orElse(null);
+        if (project == null) {
+            return ApiResponse.notFound(messageService.getMessage("project.not.found"));
+        }
+        UserEntity user = userRepository.findById(command.userId()).orElse(null);
+        if (user == null) {
+            return ApiResponse.notFound(messageService.getMessage("user.not.found"));
+        }
+
+        // --- 2. Business rules ---
+        if (project.getOwner().getId().equals(user.getId())) {
+            return ApiResponse.badRequest(messageService.getMessage("application.own.project"));
+        }
+        boolean full =
+                project.getMaxTeamSize() != null
+                        && project.getCurrentTeamSize() >= project.getMaxTeamSize();
+        if (project.getStatus() != ProjectStatus.OPEN || full) {
+            return ApiResponse.conflict(
+                    messageService.getMessage("project.not.accepting.applications"));
+        }
+        if (projectApplicationRepository.existsByProjectIdAndUserId(
+                project.getId(), user.getId())) {
+            return ApiResponse.conflict(messageService.getMessage("application.already.exists"));
+        }
+
+        // --- 3. Persistence ---
+        ProjectApplicationEntity application = new ProjectApplicationEntity();
+        application.setProject(project);
+        application.setUser(user);
+        application.setStatus(ApplicationStatus.PENDING);
+        try {
+            application = projectApplicationRepository.saveAndFlush(application);
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent request inserted the same (project, user) pair first
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return ApiResponse.conflict(messageService.getMessage("application.already.exists"));
+        }
+        userRepository.incrementApplicationsSubmitted(user.getId());
+        userProfileCache.evict(user.getId());
+
+        // --- 4. Response ---
+        return ApiResponse.created(
+                new ProjectApplicationDTO(
+                        application.getId(),
+                        project.getId(),
+                        user.getId(),
+                        application.getStatus().name(),
+                        application.getCreatedAt()),
+                messageService.getMessage("application.submitted"));
+    }
+}
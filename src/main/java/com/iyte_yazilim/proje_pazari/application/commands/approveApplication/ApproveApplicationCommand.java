@@ -0,0 +1,11 @@
+package com.iyte_yazilim.proje_pazari.application.commands.approveApplication;
+
+/**
+ * Command for a project owner to accept an applicant into the team.
+ *
+ * @param projectId the project's ULID
+ * @param applicationId the application's ULID
+ * @param reviewerId the reviewing user's ULID, taken from the access token
+ */
+public record ApproveApplicationCommand(
+        String projectId, String applicationId, String reviewerId) {}
@@ -0,0 +1,101 @@
+package com.iyte_yazilim.proje_pazari.application.commands.approveApplication;
+
+import com.iyte_yazilim.proje_pazari.application.dtos.ProjectApplicationDTO;
+import com.iyte_yazilim.proje_pazari.application.services.MessageService;
+import com.iyte_yazilim.proje_pazari.application.services.ProjectSkillIndex;
+import com.iyte_yazilim.proje_pazari.domain.enums.ApplicationStatus;
+import com.iyte_yazilim.proje_pazari.domain.interfaces.IRequestHandler;
+import com.iyte_yazilim.proje_pazari.domain.models.ApiResponse;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.ProjectApplicationRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.ProjectRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.ProjectApplicationEntity;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.ProjectEntity;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+
+/**
+ * Handles the {@link ApproveApplicationCommand}.
+ *
+ * <p>Approval takes two conditional updates in one transaction, with no read-check-write window:
+ *
+ * <ol>
+ *   <li>{@code PENDING → APPROVED} on the application, so a second approval of the same
+ *       application finds no pending row
+ *   <li>{@code currentTeamSize + 1} on the project, only while it is below {@code maxTeamSize}
+ * </ol>
+ *
+ * <p>If the team is full, the status change is rolled back and the application stays pending.
+ *
+ * <h2>Error Scenarios:</h2>
+ *
+ * <ul>
+ *   <li>{@code NOT_FOUND} - No such application on this project
+ *   <li>{@code FORBIDDEN} - The reviewer does not own the project
+ *   <li>{@code CONFLICT} - Application already reviewed, or the team is full
+ * </ul>
+ *
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ */
+@Service
+@RequiredArgsConstructor
+public class ApproveApplicationHandler
+        implements IRequestHandler<ApproveApplicationCommand, ApiResponse<ProjectApplicationDTO>> {
+
+    private final ProjectApplicationRepository projectApplicationRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectSkillIndex projectSkillIndex;
+    private final MessageService messageService;
+
+    @Override
+    @Transactional
+    public ApiResponse<ProjectApplicationDTO> handle(ApproveApplicationCommand command) {
+
+        // --- 1. Load application and check ownership ---
+        ProjectApplicationEntity application =
+                projectApplicationRepository
+                        .findWithProjectById(command.applicationId())
+                        .filter(a -> a.getProject().getId().equals(command.projectId()))
+                        .orElse(null);
+        if (application == null) {
+            return ApiResponse.notFound(messageService.getMessage("application.not.found"));
+        }
+        ProjectEntity project = application.getProject();
+        if (!project.getOwner().getId().equals(command.reviewerId())) {
+            return ApiResponse.forbidden(messageService.getMessage("error.forbidden"));
+        }
+
+        // --- 2. Claim the application ---
+        LocalDateTime now = LocalDateTime.now();
+        if (projectApplicationRepository.updateStatus(
+                        application.getId(),
+                        ApplicationStatus.PENDING,
+                        ApplicationStatus.APPROVED,
+                        now)
+                == 0) {
+            return ApiResponse.conflict(messageService.getMessage("application.not.pending"));
+        }
+
+        // --- 3. Take a place in the team ---
+        if (projectRepository.incrementTeamSizeIfRoom(project.getId(), now) == 0) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return ApiResponse.conflict(messageService.getMessage("project.team.full"));
+        }
+        projectSkillIndex.updateTeamSize(
+                project.getId(), projectRepository.findCurrentTeamSize(project.getId()));
+
+        // --- 4. Response ---
+        return ApiResponse.success(
+                new ProjectApplicationDTO(
+                        application.getId(),
+                        project.getId(),
+                        application.getUser().getId(),
+                        ApplicationStatus.APPROVED.name(),
+                        application.getCreatedAt()),
+                messageService.getMessage("application.approved"));
+    }
+}
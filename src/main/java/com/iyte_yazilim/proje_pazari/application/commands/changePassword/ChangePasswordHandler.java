@@ -1,26 +1,62 @@
 package com.iyte_yazilim.proje_pazari.application.commands.changePassword;
 
 import com.iyte_yazilim.proje_pazari.application.services.MessageService;
+import com.iyte_yazilim.proje_pazari.application.services.PasswordHashingService;
+import com.iyte_yazilim.proje_pazari.application.services.RefreshTokenService;
+import com.iyte_yazilim.proje_pazari.application.services.UserProfileCache;
 import com.iyte_yazilim.proje_pazari.domain.interfaces.IRequestHandler;
 import com.iyte_yazilim.proje_pazari.domain.models.ApiResponse;
 import com.iyte_yazilim.proje_pazari.infrastructure.persistence.UserRepository;
 import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.UserEntity;
-import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/**
+ * Handles the {@link ChangePasswordCommand}.
+ *
+ * <p>Both hashing steps run before the transaction starts, so a request waiting for a hashing
+ * thread does not hold a database connection. The new hash is written only if the stored one is
+ * still the hash the current password was checked against.
+ *
+ * <h2>Error Scenarios:</h2>
+ *
+ * <ul>
+ *   <li>{@code VALIDATION_ERROR} - Current password is wrong, or the new one is too weak
+ *   <li>{@code NOT_FOUND} - User doesn't exist
+ * </ul>
+ *
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ */
 @Service
-@RequiredArgsConstructor
 public class ChangePasswordHandler
         implements IRequestHandler<ChangePasswordCommand, ApiResponse<Void>> {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final MessageService messageService; // EKLENMELI
+    private final UserProfileCache userProfileCache;
+    private final RefreshTokenService refreshTokenService;
+    private final TransactionTemplate transactionTemplate;
+
+    public ChangePasswordHandler(
+            UserRepository userRepository,
+            PasswordHashingService passwordHashingService,
+            MessageService messageService,
+            UserProfileCache userProfileCache,
+            RefreshTokenService refreshTokenService,
+            PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.passwordHashingService = passwordHashingService;
+        this.messageService = messageService;
+        this.userProfileCache = userProfileCache;
+        this.refreshTokenService = refreshTokenService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
     @Override
-    @Transactional
     public ApiResponse<Void> handle(ChangePasswordCommand command) {
         try {
             command.validate();
@@ -35,7 +71,7 @@ public class ChangePasswordHandler
         }
 
         // Verify current password
-        if (!passwordEncoder.matches(command.currentPassword(), user.getPassword())) {
+        if (!passwordHashingService.matches(command.currentPassword(), user.getPassword())) {
             return ApiResponse.validationError(
                     messageService.getMessage("user.password.current.incorrect"));
         }
@@ -46,8 +82,29 @@ public class ChangePasswordHandler
         }
 
         // Hash and save new password
-        user.setPassword(passwordEncoder.encode(command.newPassword()));
+        String checkedHash = user.getPassword();
+        String newHash = passwordHashingService.encode(command.newPassword());
+        return transactionTemplate.execute(
+                status -> savePassword(user.getId(), checkedHash, newHash));
+    }
+
+    private ApiResponse<Void> savePassword(String userId, String checkedHash, String newHash) {
+        UserEntity user = userRepository.findById(userId).orElse(null);
+        if (user == null) {
+            return ApiResponse.notFound(messageService.getMessage("user.not.found"));
+        }
+        // Changed by a concurrent request since the current password was checked
+        if (!user.getPassword().equals(checkedHash)) {
+            return ApiResponse.validationError(
+                    messageService.getMessage("user.password.current.incorrect"));
+        }
+
+        user.setPassword(newHash);
         userRepository.save(user);
+        userProfileCache.evict(user.getId());
+
+        // Existing sessions must log in again
+        refreshTokenService.revokeAll(user.getId());
 
         return ApiResponse.success(null, messageService.getMessage("user.password.changed"));
     }
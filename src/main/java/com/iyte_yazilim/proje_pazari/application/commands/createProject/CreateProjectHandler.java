@@ -2,6 +2,9 @@ package com.iyte_yazilim.proje_pazari.application.commands.createProject;
 
 import com.iyte_yazilim.proje_pazari.application.mappers.CreateProjectMapper;
 import com.iyte_yazilim.proje_pazari.application.services.MessageService;
+import com.iyte_yazilim.proje_pazari.application.services.ProjectSearchIndex;
+import com.iyte_yazilim.proje_pazari.application.services.ProjectSkillIndex;
+import com.iyte_yazilim.proje_pazari.application.services.UserProfileCache;
 import com.iyte_yazilim.proje_pazari.domain.entities.Project;
 import com.iyte_yazilim.proje_pazari.domain.entities.User;
 import com.iyte_yazilim.proje_pazari.domain.interfaces.IRequestHandler;
@@ -16,6 +19,7 @@ import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.ProjectEn
 import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.UserEntity;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Handles the {@link CreateProjectCommand} to create new projects.
@@ -27,7 +31,8 @@ import org.springframework.stereotype.Service;
  *   <li>Verify owner exists in the system
  *   <li>Map command to domain entity
  *   <li>Associate owner with project
- *   <li>Persist project to database
+ *   <li>Persist project to database and increment the owner's project counter
+ *   <li>Evict the owner's cached profile and add the project to the search index
  *   <li>Return creation result
  * </ol>
  *
@@ -58,6 +63,9 @@ public class CreateProjectHandler
     private final ProjectMapper projectMapper;
     private final UserMapper userMapper;
     private final MessageService messageService; // EKLENMELI
+    private final UserProfileCache userProfileCache;
+    private final ProjectSearchIndex projectSearchIndex;
+    private final ProjectSkillIndex projectSkillIndex;
 
     /**
      * Handles project creation command.
@@ -68,6 +76,7 @@ public class CreateProjectHandler
      * @return API response with project result or error message
      */
     @Override
+    @Transactional
     public ApiResponse<CreateProjectCommandResult> handle(CreateProjectCommand command) {
 
         // --- 1. Validation ---
@@ -97,6 +106,10 @@ public class CreateProjectHandler
 
         // --- 6. Persistence ---
         ProjectEntity savedProject = projectRepository.save(persistenceProject);
+        userRepository.incrementProjectsCreated(ownerEntity.getId());
+        userProfileCache.evict(ownerEntity.getId());
+        projectSearchIndex.index(savedProject);
+        projectSkillIndex.index(savedProject);
 
         // --- 7. Mapping (Persistence -> Domain) ---
         Project savedDomainProject = projectMapper.entityToDomain(savedProject);
@@ -1,6 +1,8 @@
 package com.iyte_yazilim.proje_pazari.application.commands.deactivateAccount;
 
 import com.iyte_yazilim.proje_pazari.application.services.MessageService;
+import com.iyte_yazilim.proje_pazari.application.services.RefreshTokenService;
+import com.iyte_yazilim.proje_pazari.application.services.UserProfileCache;
 import com.iyte_yazilim.proje_pazari.domain.interfaces.IRequestHandler;
 import com.iyte_yazilim.proje_pazari.domain.models.ApiResponse;
 import com.iyte_yazilim.proje_pazari.infrastructure.persistence.UserRepository;
@@ -18,6 +20,8 @@ public class DeactivateAccountHandler
 
     private final UserRepository userRepository;
     private final MessageService messageService; // EKLENMELI
+    private final UserProfileCache userProfileCache;
+    private final RefreshTokenService refreshTokenService;
 
     @Override
     @Transactional
@@ -37,6 +41,10 @@ public class DeactivateAccountHandler
         // This preserves referential integrity with related entities (e.g., projects, applications)
         user.setIsActive(false);
         userRepository.save(user);
+        userProfileCache.evict(user.getId());
+
+        // Existing sessions must log in again
+        refreshTokenService.revokeAll(user.getId());
 
         return ApiResponse.success(null, messageService.getMessage("user.account.deactivated"));
     }
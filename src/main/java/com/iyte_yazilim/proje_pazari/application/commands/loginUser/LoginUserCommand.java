@@ -1,9 +1,5 @@
 package com.iyte_yazilim.proje_pazari.application.commands.loginUser;
 
-import io.swagger.v3.oas.annotations.media.Schema;
-import jakarta.validation.constraints.Email;
-import jakarta.validation.constraints.NotBlank;
-
 /**
  * Command to authenticate a user and obtain a JWT token.
  *
@@ -28,18 +24,17 @@ import jakarta.validation.constraints.NotBlank;
  *
  * @param email user's registered email address
  * @param password user's password
+ * @param clientIp client address used for throttling, resolved by the server from the connection
  * @author IYTE Yazılım Topluluğu
  * @version 1.0
  * @since 2024-01-01
  * @see LoginUserHandler
+ * @see LoginUserRequest
  * @see com.iyte_yazilim.proje_pazari.domain.models.results.LoginUserResult
  */
-@Schema(description = "Command to login a user")
-public record LoginUserCommand(
-        @Schema(description = "Email address", example = "user@example.com")
-                @NotBlank(message = "Email is required")
-                @Email(message = "Email must be valid")
-                String email,
-        @Schema(description = "Password", example = "SecurePassword123!")
-                @NotBlank(message = "Password is required")
-                String password) {}
+public record LoginUserCommand(String email, String password, String clientIp) {
+
+    public LoginUserCommand(String email, String password) {
+        this(email, password, null);
+    }
+}
@@ -1,6 +1,9 @@
 package com.iyte_yazilim.proje_pazari.application.commands.loginUser;
 
+import com.iyte_yazilim.proje_pazari.application.services.LoginRateLimiter;
 import com.iyte_yazilim.proje_pazari.application.services.MessageService;
+import com.iyte_yazilim.proje_pazari.application.services.PasswordHashingService;
+import com.iyte_yazilim.proje_pazari.application.services.RefreshTokenService;
 import com.iyte_yazilim.proje_pazari.domain.interfaces.IRequestHandler;
 import com.iyte_yazilim.proje_pazari.domain.interfaces.IValidator;
 import com.iyte_yazilim.proje_pazari.domain.models.ApiResponse;
@@ -9,7 +12,6 @@ import com.iyte_yazilim.proje_pazari.infrastructure.persistence.UserRepository;
 import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.UserEntity;
 import com.iyte_yazilim.proje_pazari.presentation.security.JwtUtil;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 /**
@@ -19,11 +21,12 @@ import org.springframework.stereotype.Service;
  *
  * <ol>
  *   <li>Validate command using {@link LoginUserValidator}
+ *   <li>Throttle attempts per email and per client IP with {@link LoginRateLimiter}
  *   <li>Find user by email address
  *   <li>Check if account is active
- *   <li>Verify password using BCrypt
- *   <li>Generate JWT token
- *   <li>Return login result with token
+ *   <li>Verify password using BCrypt on the {@link PasswordHashingService} executor
+ *   <li>Generate JWT token and refresh token
+ *   <li>Return login result with tokens
  * </ol>
  *
  * <h2>Error Scenarios:</h2>
@@ -32,6 +35,7 @@ import org.springframework.stereotype.Service;
  *   <li>{@code BAD_REQUEST} - Validation failed
  *   <li>{@code BAD_REQUEST} - Invalid email or password
  *   <li>{@code BAD_REQUEST} - Account deactivated
+ *   <li>{@code TOO_MANY_REQUESTS} - Too many attempts for this email or client IP
  * </ul>
  *
  * <h2>Security Notes:</h2>
@@ -39,6 +43,9 @@ import org.springframework.stereotype.Service;
  * <p>Error messages are intentionally vague ("Invalid email or password") to prevent user
  * enumeration attacks.
  *
+ * <p>Access tokens are short-lived. Clients renew them with the refresh token through {@code
+ * POST /api/v1/auth/refresh}, which avoids repeating the BCrypt check on every expiry.
+ *
  * @author IYTE Yazılım Topluluğu
  * @version 1.0
  * @since 2024-01-01
@@ -53,9 +60,11 @@ public class LoginUserHandler
 
     private final UserRepository userRepository;
     private final IValidator<LoginUserCommand> validator;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtUtil jwtUtil;
+    private final RefreshTokenService refreshTokenService;
     private final MessageService messageService;
+    private final LoginRateLimiter loginRateLimiter;
 
     /**
      * Handles user login command.
@@ -75,27 +84,36 @@ public class LoginUserHandler
             return ApiResponse.badRequest(errorMessage);
         }
 
-        // --- 2. Find user by email ---
+        // --- 2. Throttle before any database lookup or hash ---
+        if (!loginRateLimiter.tryAcquire(command.email(), command.clientIp())) {
+            return ApiResponse.tooManyRequests(messageService.getMessage("auth.login.throttled"));
+        }
+
+        // --- 3. Find user by email ---
         UserEntity user = userRepository.findByEmail(command.email()).orElse(null);
         if (user == null) {
             return ApiResponse.badRequest(messageService.getMessage("auth.login.failed"));
         }
 
-        // --- 3. Check if account is active ---
+        // --- 4. Check if account is active ---
         if (user.getIsActive() == null || !user.getIsActive()) {
             return ApiResponse.badRequest(messageService.getMessage("auth.account.deactivated"));
         }
 
-        // --- 4. Verify password with BCrypt ---
-        if (!passwordEncoder.matches(command.password(), user.getPassword())) {
+        // --- 5. Verify password with BCrypt ---
+        if (!passwordHashingService.matches(command.password(), user.getPassword())) {
             return ApiResponse.badRequest(messageService.getMessage("auth.login.failed"));
         }
 
-        // --- 5. Generate JWT token with userId, email, and role ---
+        // --- 6. Generate JWT token with userId, email, and role ---
+        loginRateLimiter.onSuccess(command.email());
         String role = user.getRole() != null ? user.getRole().toString() : "USER";
-        String token = jwtUtil.generateToken(user.getId(), user.getEmail(), role);
+        String token =
+                jwtUtil.generateToken(
+                        user.getId(), user.getEmail(), role, user.getPreferredLanguage());
+        String refreshToken = refreshTokenService.issue(user);
 
-        // --- 6. Create result ---
+        // --- 7. Create result ---
         var result =
                 new LoginUserResult(
                         user.getId(),
@@ -103,9 +121,11 @@ public class LoginUserHandler
                         user.getFirstName(),
                         user.getLastName(),
                         role,
-                        token);
+                        token,
+                        refreshToken,
+                        jwtUtil.getExpiration());
 
-        // --- 7. Response with localized message ---
+        // --- 8. Response with localized message ---
         return ApiResponse.success(result, messageService.getMessage("auth.login.success"));
     }
 }
@@ -0,0 +1,40 @@
+package com.iyte_yazilim.proje_pazari.application.commands.loginUser;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * Request body of {@code POST /api/v1/auth/login}.
+ *
+ * <p>Holds only what the client supplies. The controller adds the client address taken from the
+ * connection when it builds the {@link LoginUserCommand}, so a caller cannot choose the address
+ * its attempts are throttled under.
+ *
+ * @param email user's registered email address
+ * @param password user's password
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ * @see LoginUserCommand
+ */
+@Schema(description = "Command to login a user")
+public record LoginUserRequest(
+        @Schema(description = "Email address", example = "user@example.com")
+                @NotBlank(message = "Email is required")
+                @Email(message = "Email must be valid")
+                String email,
+        @Schema(description = "Password", example = "SecurePassword123!")
+                @NotBlank(message = "Password is required")
+                String password) {
+
+    /**
+     * Builds the login command for an attempt from the given address.
+     *
+     * @param clientIp the client address resolved by the server
+     * @return the command
+     */
+    public LoginUserCommand toCommand(String clientIp) {
+        return new LoginUserCommand(email, password, clientIp);
+    }
+}
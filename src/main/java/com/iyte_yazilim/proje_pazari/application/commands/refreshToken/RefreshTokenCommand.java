@@ -0,0 +1,22 @@
+package com.iyte_yazilim.proje_pazari.application.commands.refreshToken;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * Command to exchange a refresh token for a new access token.
+ *
+ * <p>The presented refresh token is consumed and replaced by a new one (rotation).
+ *
+ * @param refreshToken the refresh token returned by login or a previous refresh
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ * @see RefreshTokenHandler
+ * @see com.iyte_yazilim.proje_pazari.domain.models.results.RefreshTokenResult
+ */
+@Schema(description = "Command to refresh an access token")
+public record RefreshTokenCommand(
+        @Schema(description = "Refresh token", example = "q3Vx0pN1...")
+                @NotBlank(message = "Refresh token is required")
+                String refreshToken) {}
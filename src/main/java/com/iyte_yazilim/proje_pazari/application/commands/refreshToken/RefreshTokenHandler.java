@@ -0,0 +1,119 @@
+package com.iyte_yazilim.proje_pazari.application.commands.refreshToken;
+
+import com.iyte_yazilim.proje_pazari.application.services.MessageService;
+import com.iyte_yazilim.proje_pazari.application.services.RefreshTokenService;
+import com.iyte_yazilim.proje_pazari.domain.interfaces.IRequestHandler;
+import com.iyte_yazilim.proje_pazari.domain.models.ApiResponse;
+import com.iyte_yazilim.proje_pazari.domain.models.results.RefreshTokenResult;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.RefreshTokenRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.RefreshTokenEntity;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.UserEntity;
+import com.iyte_yazilim.proje_pazari.presentation.security.JwtUtil;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Handles the {@link RefreshTokenCommand} to renew an access token.
+ *
+ * <p>This handler orchestrates the refresh process:
+ *
+ * <ol>
+ *   <li>Find the refresh token by its SHA-256 hash (unique index lookup)
+ *   <li>Reject expired tokens
+ *   <li>Consume the token with a conditional update
+ *   <li>Check if account is active
+ *   <li>Issue a new access token and a new refresh token in the same family
+ * </ol>
+ *
+ * <h2>Error Scenarios:</h2>
+ *
+ * <ul>
+ *   <li>{@code UNAUTHORIZED} - Unknown, expired or already used refresh token
+ *   <li>{@code UNAUTHORIZED} - Account deactivated
+ * </ul>
+ *
+ * <h2>Security Notes:</h2>
+ *
+ * <p>A refresh token can be used exactly once. Presenting an already used token means it was
+ * copied, so every token of its family is revoked and the holder has to log in again.
+ *
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ * @see RefreshTokenCommand
+ * @see RefreshTokenResult
+ * @see RefreshTokenService
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenHandler
+        implements IRequestHandler<RefreshTokenCommand, ApiResponse<RefreshTokenResult>> {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenService refreshTokenService;
+    private final JwtUtil jwtUtil;
+    private final MessageService messageService;
+
+    /**
+     * Handles the refresh token command.
+     *
+     * @param command the command containing the refresh token
+     * @return API response with the new token pair, or error message
+     */
+    @Override
+    @Transactional
+    public ApiResponse<RefreshTokenResult> handle(RefreshTokenCommand command) {
+
+        // --- 1. Validation ---
+        if (command.refreshToken() == null || command.refreshToken().isBlank()) {
+            return ApiResponse.badRequest(messageService.getMessage("auth.refresh.invalid"));
+        }
+
+        // --- 2. Find token by hash ---
+        RefreshTokenEntity stored =
+                refreshTokenRepository
+                        .findByTokenHash(refreshTokenService.hash(command.refreshToken()))
+                        .orElse(null);
+        if (stored == null) {
+            return ApiResponse.unauthorized(messageService.getMessage("auth.refresh.invalid"));
+        }
+
+        // --- 3. Check expiry ---
+        LocalDateTime now = LocalDateTime.now();
+        if (stored.getExpiresAt().isBefore(now)) {
+            return ApiResponse.unauthorized(messageService.getMessage("auth.token.expired"));
+        }
+
+        // --- 4. Consume token, revoking the family on reuse ---
+        if (stored.getRevokedAt() != null
+                || refreshTokenRepository.revokeIfActive(stored.getId(), now) == 0) {
+            refreshTokenRepository.revokeFamily(stored.getFamilyId(), now);
+            log.warn(
+                    "Refresh token reuse detected for user {}, family {} revoked",
+                    stored.getUser().getId(),
+                    stored.getFamilyId());
+            return ApiResponse.unauthorized(messageService.getMessage("auth.refresh.invalid"));
+        }
+
+        // --- 5. Check if account is active ---
+        UserEntity user = stored.getUser();
+        if (user.getIsActive() == null || !user.getIsActive()) {
+            return ApiResponse.unauthorized(messageService.getMessage("auth.account.deactivated"));
+        }
+
+        // --- 6. Issue new token pair ---
+        String role = user.getRole() != null ? user.getRole().toString() : "USER";
+        String token =
+                jwtUtil.generateToken(
+                        user.getId(), user.getEmail(), role, user.getPreferredLanguage());
+        String refreshToken = refreshTokenService.issue(user, stored.getFamilyId());
+
+        // --- 7. Response with localized message ---
+        var result = new RefreshTokenResult(token, refreshToken, jwtUtil.getExpiration());
+        return ApiResponse.success(result, messageService.getMessage("auth.refresh.success"));
+    }
+}
@@ -2,6 +2,7 @@ package com.iyte_yazilim.proje_pazari.application.commands.registerUser;
 
 import com.iyte_yazilim.proje_pazari.application.mappers.RegisterUserMapper;
 import com.iyte_yazilim.proje_pazari.application.services.MessageService;
+import com.iyte_yazilim.proje_pazari.application.services.PasswordHashingService;
 import com.iyte_yazilim.proje_pazari.domain.entities.User;
 import com.iyte_yazilim.proje_pazari.domain.interfaces.IRequestHandler;
 import com.iyte_yazilim.proje_pazari.domain.interfaces.IValidator;
@@ -11,7 +12,6 @@ import com.iyte_yazilim.proje_pazari.infrastructure.persistence.UserRepository;
 import com.iyte_yazilim.proje_pazari.infrastructure.persistence.mappers.UserMapper;
 import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.UserEntity;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 /**
@@ -63,7 +63,7 @@ public class RegisterUserHandler
     private final IValidator<RegisterUserCommand> validator;
     private final RegisterUserMapper registerUserMapper;
     private final UserMapper userMapper;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final MessageService messageService;
 
     /**
@@ -95,7 +95,7 @@ public class RegisterUserHandler
         User domainUser = registerUserMapper.commandToDomain(command);
 
         // --- 4. Hash password ---
-        String hashedPassword = passwordEncoder.encode(command.password());
+        String hashedPassword = passwordHashingService.encode(command.password());
         domainUser.setPassword(hashedPassword);
 
         // --- 5. Mapping (Domain -> Persistence) ---
@@ -0,0 +1,11 @@
+package com.iyte_yazilim.proje_pazari.application.commands.rejectApplication;
+
+/**
+ * Command for a project owner to turn down an application.
+ *
+ * @param projectId the project's ULID
+ * @param applicationId the application's ULID
+ * @param reviewerId the reviewing user's ULID, taken from the access token
+ */
+public record RejectApplicationCommand(
+        String projectId, String applicationId, String reviewerId) {}
@@ -0,0 +1,78 @@
+package com.iyte_yazilim.proje_pazari.application.commands.rejectApplication;
+
+import com.iyte_yazilim.proje_pazari.application.dtos.ProjectApplicationDTO;
+import com.iyte_yazilim.proje_pazari.application.services.MessageService;
+import com.iyte_yazilim.proje_pazari.domain.enums.ApplicationStatus;
+import com.iyte_yazilim.proje_pazari.domain.interfaces.IRequestHandler;
+import com.iyte_yazilim.proje_pazari.domain.models.ApiResponse;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.ProjectApplicationRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.ProjectApplicationEntity;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Handles the {@link RejectApplicationCommand}.
+ *
+ * <p>Only a pending application can be rejected; the {@code PENDING → REJECTED} change is a
+ * conditional update, so it cannot overwrite a concurrent approval.
+ *
+ * <h2>Error Scenarios:</h2>
+ *
+ * <ul>
+ *   <li>{@code NOT_FOUND} - No such application on this project
+ *   <li>{@code FORBIDDEN} - The reviewer does not own the project
+ *   <li>{@code CONFLICT} - Application already reviewed
+ * </ul>
+ *
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ */
+@Service
+@RequiredArgsConstructor
+public class RejectApplicationHandler
+        implements IRequestHandler<RejectApplicationCommand, ApiResponse<ProjectApplicationDTO>> {
+
+    private final ProjectApplicationRepository projectApplicationRepository;
+    private final MessageService messageService;
+
+    @Override
+    @Transactional
+    public ApiResponse<ProjectApplicationDTO> handle(RejectApplicationCommand command) {
+
+        // --- 1. Load application and check ownership ---
+        ProjectApplicationEntity application =
+                projectApplicationRepository
+                        .findWithProjectById(command.applicationId())
+                        .filter(a -> a.getProject().getId().equals(command.projectId()))
+                        .orElse(null);
+        if (application == null) {
+            return ApiResponse.notFound(messageService.getMessage("application.not.found"));
+        }
+        if (!application.getProject().getOwner().getId().equals(command.reviewerId())) {
+            return ApiResponse.forbidden(messageService.getMessage("error.forbidden"));
+        }
+
+        // --- 2. Reject if still pending ---
+        if (projectApplicationRepository.updateStatus(
+                        application.getId(),
+                        ApplicationStatus.PENDING,
+                        ApplicationStatus.REJECTED,
+                        LocalDateTime.now())
+                == 0) {
+            return ApiResponse.conflict(messageService.getMessage("application.not.pending"));
+        }
+
+        // --- 3. Response ---
+        return ApiResponse.success(
+                new ProjectApplicationDTO(
+                        application.getId(),
+                        application.getProject().getId(),
+                        application.getUser().getId(),
+                        ApplicationStatus.REJECTED.name(),
+                        application.getCreatedAt()),
+                messageService.getMessage("application.rejected"));
+    }
+}
@@ -3,6 +3,7 @@ package com.iyte_yazilim.proje_pazari.application.commands.updateUserProfile;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
+import java.util.List;
 
 @Schema(description = "Command to update user profile")
 public record UpdateUserProfileCommand(
@@ -20,7 +21,18 @@ public record UpdateUserProfileCommand(
         @Schema(description = "GitHub profile URL") String githubUrl,
         @Schema(description = "Preferred language (tr, en)", example = "en")
                 @Pattern(regexp = "^(tr|en)$", message = "Language must be either 'tr' or 'en'")
-                String preferredLanguage) {
+                String preferredLanguage,
+        @Schema(
+                        description =
+                                "Skills offered, used for project recommendations; replaces the"
+                                        + " current list",
+                        example = "[\"Java\", \"React\"]")
+                @Size(max = 30, message = "At most 30 skills can be listed")
+                List<String> skills) {
+
+    /** Longest accepted skill name, matching the column length. */
+    public static final int MAX_SKILL_LENGTH = 50;
+
     public void validate() {
         if (linkedinUrl != null
                 && !linkedinUrl.isBlank()
@@ -32,5 +44,11 @@ public record UpdateUserProfileCommand(
                 && !githubUrl.matches("^https://github\\.com/[a-zA-Z0-9_-]+(/.*)?$")) {
             throw new IllegalArgumentException("Invalid GitHub URL format");
         }
+        if (skills != null
+                && skills.stream()
+                        .anyMatch(s -> s == null || s.strip().length() > MAX_SKILL_LENGTH)) {
+            throw new IllegalArgumentException(
+                    "Skills must not be null or longer than " + MAX_SKILL_LENGTH + " characters");
+        }
     }
 }
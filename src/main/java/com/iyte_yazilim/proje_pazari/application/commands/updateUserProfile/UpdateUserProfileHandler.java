@@ -3,6 +3,9 @@ package com.iyte_yazilim.proje_pazari.application.commands.updateUserProfile;
 import com.iyte_yazilim.proje_pazari.application.dtos.UserDto;
 import com.iyte_yazilim.proje_pazari.application.mappers.UserDtoMapper;
 import com.iyte_yazilim.proje_pazari.application.services.MessageService;
+import com.iyte_yazilim.proje_pazari.application.services.ProjectRecommender;
+import com.iyte_yazilim.proje_pazari.application.services.SkillDictionary;
+import com.iyte_yazilim.proje_pazari.application.services.UserProfileCache;
 import com.iyte_yazilim.proje_pazari.domain.interfaces.IRequestHandler;
 import com.iyte_yazilim.proje_pazari.domain.models.ApiResponse;
 import com.iyte_yazilim.proje_pazari.infrastructure.persistence.UserRepository;
@@ -19,6 +22,8 @@ public class UpdateUserProfileHandler
     private final UserRepository userRepository;
     private final UserDtoMapper userDtoMapper;
     private final MessageService messageService; // EKLENMELI
+    private final UserProfileCache userProfileCache;
+    private final ProjectRecommender projectRecommender;
 
     @Override
     @Transactional
@@ -53,8 +58,16 @@ public class UpdateUserProfileHandler
         if (command.githubUrl() != null) {
             user.setGithubUrl(command.githubUrl().isBlank() ? null : command.githubUrl());
         }
+        if (command.preferredLanguage() != null) {
+            user.setPreferredLanguage(command.preferredLanguage());
+        }
+        if (command.skills() != null) {
+            user.setSkills(SkillDictionary.distinct(command.skills()));
+            projectRecommender.evict(user.getId());
+        }
 
         UserEntity savedUser = userRepository.save(user);
+        userProfileCache.evict(savedUser.getId());
         UserDto userDto = userDtoMapper.toDto(savedUser);
 
         return ApiResponse.success(userDto, messageService.getMessage("user.profile.updated"));
@@ -1,69 +1,124 @@
 package com.iyte_yazilim.proje_pazari.application.commands.uploadProfilePicture;
 
+import com.iyte_yazilim.proje_pazari.application.services.AvatarRenditionService;
 import com.iyte_yazilim.proje_pazari.application.services.FileStorageService;
 import com.iyte_yazilim.proje_pazari.application.services.MessageService;
+import com.iyte_yazilim.proje_pazari.application.services.StagedImage;
+import com.iyte_yazilim.proje_pazari.application.services.UserProfileCache;
 import com.iyte_yazilim.proje_pazari.domain.interfaces.IRequestHandler;
 import com.iyte_yazilim.proje_pazari.domain.models.ApiResponse;
 import com.iyte_yazilim.proje_pazari.infrastructure.persistence.UserRepository;
 import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.UserEntity;
 import java.io.IOException;
-import lombok.RequiredArgsConstructor;
+import java.io.UncheckedIOException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/**
+ * Handles the {@link UploadProfilePictureCommand}.
+ *
+ * <p>The upload is checked and staged before the transaction starts, so no database connection
+ * is held while the client sends the body and a rejected image never touches the transaction.
+ *
+ * <h2>Error Scenarios:</h2>
+ *
+ * <ul>
+ *   <li>{@code VALIDATION_ERROR} - Not an acceptable image
+ *   <li>{@code NOT_FOUND} - User doesn't exist
+ *   <li>{@code ERROR} - The file could not be read or stored
+ * </ul>
+ *
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ */
 @Service
-@RequiredArgsConstructor
 public class UploadProfilePictureHandler
         implements IRequestHandler<UploadProfilePictureCommand, ApiResponse<String>> {
 
     private final FileStorageService fileStorageService;
+    private final AvatarRenditionService avatarRenditionService;
     private final UserRepository userRepository;
     private final MessageService messageService; // EKLENMELI
+    private final UserProfileCache userProfileCache;
+    private final TransactionTemplate transactionTemplate;
+
+    public UploadProfilePictureHandler(
+            FileStorageService fileStorageService,
+            AvatarRenditionService avatarRenditionService,
+            UserRepository userRepository,
+            MessageService messageService,
+            UserProfileCache userProfileCache,
+            PlatformTransactionManager transactionManager) {
+        this.fileStorageService = fileStorageService;
+        this.avatarRenditionService = avatarRenditionService;
+        this.userRepository = userRepository;
+        this.messageService = messageService;
+        this.userProfileCache = userProfileCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
     @Override
-    @Transactional
     public ApiResponse<String> handle(UploadProfilePictureCommand command) {
-        UserEntity user = userRepository.findById(command.userId()).orElse(null);
+        try (StagedImage image = fileStorageService.stageImage(command.content())) {
+            return transactionTemplate.execute(status -> replacePicture(command.userId(), image));
+        } catch (IllegalArgumentException e) {
+            return ApiResponse.validationError(e.getMessage());
+        } catch (IOException e) {
+            return uploadFailed(e);
+        } catch (UncheckedIOException e) {
+            return uploadFailed(e.getCause());
+        }
+    }
+
+    private ApiResponse<String> replacePicture(String userId, StagedImage image) {
+        UserEntity user = userRepository.findById(userId).orElse(null);
 
         if (user == null) {
             return ApiResponse.notFound(messageService.getMessage("user.not.found"));
         }
 
+        String oldPictureUrl = user.getProfilePictureUrl();
+
+        // Store new file first, so re-uploading the same image never drops its last reference
+        String fileName;
         try {
-            // Delete old profile picture if exists
-            if (user.getProfilePictureUrl() != null && !user.getProfilePictureUrl().isBlank()) {
-                String oldFileName =
-                        user.getProfilePictureUrl()
-                                .substring(user.getProfilePictureUrl().lastIndexOf("/") + 1);
-                // Validate extracted filename to prevent path traversal
-                if (oldFileName != null
-                        && !oldFileName.isBlank()
-                        && !oldFileName.contains("..")
-                        && !oldFileName.contains("/")
-                        && !oldFileName.contains("\\")) {
-                    try {
-                        fileStorageService.deleteFile(oldFileName);
-                    } catch (IOException e) {
-                        // Ignore if old file doesn't exist
-                    }
+            fileName = fileStorageService.store(image);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        avatarRenditionService.renderAfterCommit(fileName);
+
+        // Release old profile picture if exists
+        if (oldPictureUrl != null && !oldPictureUrl.isBlank()) {
+            String oldFileName = oldPictureUrl.substring(oldPictureUrl.lastIndexOf("/") + 1);
+            // Validate extracted filename to prevent path traversal
+            if (oldFileName != null
+                    && !oldFileName.isBlank()
+                    && !oldFileName.contains("..")
+                    && !oldFileName.contains("/")
+                    && !oldFileName.contains("\\")) {
+                try {
+                    fileStorageService.releaseFile(oldFileName);
+                } catch (IOException e) {
+                    // Ignore if old file doesn't exist
                 }
             }
+        }
 
-            // Store new file
-            String fileName = fileStorageService.storeFile(command.file(), command.userId());
+        // Update user profile picture URL
+        user.setProfilePictureUrl(FileStorageService.PUBLIC_URL_PREFIX + fileName);
+        userRepository.save(user);
+        userProfileCache.evict(user.getId());
 
-            // Update user profile picture URL
-            user.setProfilePictureUrl("/api/v1/files/" + fileName);
-            userRepository.save(user);
+        return ApiResponse.success(
+                user.getProfilePictureUrl(),
+                messageService.getMessage("user.profile.picture.uploaded"));
+    }
 
-            return ApiResponse.success(
-                    user.getProfilePictureUrl(),
-                    messageService.getMessage("user.profile.picture.uploaded"));
-        } catch (IllegalArgumentException e) {
-            return ApiResponse.validationError(e.getMessage());
-        } catch (IOException e) {
-            return ApiResponse.error(
-                    messageService.getMessage("file.upload.failed", new Object[] {e.getMessage()}));
-        }
+    private ApiResponse<String> uploadFailed(IOException e) {
+        return ApiResponse.error(
+                messageService.getMessage("file.upload.failed", new Object[] {e.getMessage()}));
     }
 }
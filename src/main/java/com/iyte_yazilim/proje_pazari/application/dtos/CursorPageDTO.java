@@ -0,0 +1,69 @@
+package com.iyte_yazilim.proje_pazari.application.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated listing.
+ *
+ * <p>The cursor is an opaque, URL-safe token; clients pass {@code nextCursor} back unchanged to
+ * fetch the following page. Internally it encodes the sort key of the last returned row, so the
+ * next page is a range scan starting after it rather than an {@code OFFSET} that grows with depth.
+ *
+ * @param <T> the item type
+ * @param items the items of this page
+ * @param nextCursor cursor of the next page, or null if this is the last page
+ */
+@Schema(description = "Cursor paginated result page")
+public record CursorPageDTO<T>(
+        @Schema(description = "Items of this page") List<T> items,
+        @Schema(description = "Opaque cursor for the next page, absent on the last page")
+                String nextCursor) {
+
+    /**
+     * Builds a page from a result fetched with one extra row to detect whether more rows exist.
+     *
+     * @param <T> the item type
+     * @param rows up to {@code limit + 1} rows in sort order
+     * @param limit requested page size
+     * @param sortKey extracts the keyset value of a row
+     * @return page with at most {@code limit} items
+     */
+    public static <T> CursorPageDTO<T> of(
+            List<T> rows, int limit, Function<T, String> sortKey) {
+        if (rows.size() <= limit) {
+            return new CursorPageDTO<>(rows, null);
+        }
+        List<T> items = rows.subList(0, limit);
+        return new CursorPageDTO<>(items, encodeCursor(sortKey.apply(items.get(limit - 1))));
+    }
+
+    /**
+     * Encodes a keyset value as an opaque cursor.
+     *
+     * @param key the sort key of the last row of a page
+     * @return URL-safe cursor
+     */
+    public static String encodeCursor(String key) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor produced by {@link #encodeCursor(String)}.
+     *
+     * @param cursor the cursor sent by the client, may be null or blank
+     * @return the keyset value, or null for the first page
+     * @throws IllegalArgumentException if the cursor is not valid Base64
+     */
+    public static String decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    }
+}
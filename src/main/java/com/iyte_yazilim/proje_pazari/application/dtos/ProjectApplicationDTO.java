@@ -0,0 +1,12 @@
+package com.iyte_yazilim.proje_pazari.application.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+
+@Schema(description = "Application of a user to join a project")
+public record ProjectApplicationDTO(
+        @Schema(description = "Application ID", example = "01HQZX9K2M3N4P5Q6R7S8T9V0W") String id,
+        @Schema(description = "Project ID") String projectId,
+        @Schema(description = "Applicant's user ID") String userId,
+        @Schema(description = "Review status", example = "PENDING") String status,
+        @Schema(description = "Submission timestamp") LocalDateTime createdAt) {}
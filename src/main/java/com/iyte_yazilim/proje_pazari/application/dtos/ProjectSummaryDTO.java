@@ -1,11 +1,25 @@
 package com.iyte_yazilim.proje_pazari.application.dtos;
 
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.projections.ProjectSummaryRow;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 @Schema(description = "Project summary for user profile")
 public record ProjectSummaryDTO(
         @Schema(description = "Project ID") String id,
         @Schema(description = "Project title") String title,
-        @Schema(description = "Project description") String description,
+        @Schema(description = "Short project summary (at most 200 characters of the description)")
+                String description,
         @Schema(description = "Project status") String status,
-        @Schema(description = "Project creation date") java.time.LocalDateTime createdAt) {}
+        @Schema(description = "Project creation date") java.time.LocalDateTime createdAt) {
+
+    /**
+     * Builds a summary from a listing row.
+     *
+     * @param row the row
+     * @return the summary
+     */
+    public static ProjectSummaryDTO from(ProjectSummaryRow row) {
+        return new ProjectSummaryDTO(
+                row.id(), row.title(), row.summary(), row.status().name(), row.createdAt());
+    }
+}
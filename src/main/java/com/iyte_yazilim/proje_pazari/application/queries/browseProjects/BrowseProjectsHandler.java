@@ -0,0 +1,94 @@
+package com.iyte_yazilim.proje_pazari.application.queries.browseProjects;
+
+import com.github.f4b6a3.ulid.Ulid;
+import com.iyte_yazilim.proje_pazari.application.dtos.CursorPageDTO;
+import com.iyte_yazilim.proje_pazari.application.dtos.ProjectSummaryDTO;
+import com.iyte_yazilim.proje_pazari.application.services.MessageService;
+import com.iyte_yazilim.proje_pazari.domain.enums.ProjectStatus;
+import com.iyte_yazilim.proje_pazari.domain.interfaces.IRequestHandler;
+import com.iyte_yazilim.proje_pazari.domain.models.ApiResponse;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.ProjectRepository;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Handles the {@link BrowseProjectsQuery} with keyset pagination.
+ *
+ * <p>Each page is a single range scan on the ULID primary key in descending order ({@code id <
+ * :cursor ORDER BY id DESC LIMIT n + 1}), so latency does not depend on how deep the client has
+ * paged or on the size of the catalog. Only the filters that are set end up in the statement;
+ * they are backed by composite indexes on {@code projects} that end in {@code id}, so the scan
+ * stays in index order.
+ *
+ * <h2>Error Scenarios:</h2>
+ *
+ * <ul>
+ *   <li>{@code BAD_REQUEST} - Invalid cursor, a {@code DRAFT} status filter, or an empty deadline
+ *       window
+ * </ul>
+ *
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ * @see BrowseProjectsQuery
+ */
+@Service
+@RequiredArgsConstructor
+public class BrowseProjectsHandler
+        implements IRequestHandler<
+                BrowseProjectsQuery, ApiResponse<CursorPageDTO<ProjectSummaryDTO>>> {
+
+    private final ProjectRepository projectRepository;
+    private final MessageService messageService;
+
+    @Override
+    public ApiResponse<CursorPageDTO<ProjectSummaryDTO>> handle(BrowseProjectsQuery query) {
+
+        // --- 1. Validate cursor and filters ---
+        String beforeId;
+        try {
+            beforeId = CursorPageDTO.decodeCursor(query.cursor());
+        } catch (IllegalArgumentException e) {
+            return ApiResponse.badRequest(messageService.getMessage("validation.cursor.invalid"));
+        }
+        if (beforeId != null && !Ulid.isValid(beforeId)) {
+            return ApiResponse.badRequest(messageService.getMessage("validation.cursor.invalid"));
+        }
+        if (query.status() != null && !query.status().isListed()) {
+            return ApiResponse.badRequest(
+                    messageService.getMessage("validation.project.status.invalid"));
+        }
+        if (query.deadlineFrom() != null
+                && query.deadlineTo() != null
+                && !query.deadlineFrom().isBefore(query.deadlineTo())) {
+            return ApiResponse.badRequest(
+                    messageService.getMessage("validation.project.deadline.range.invalid"));
+        }
+
+        // --- 2. Fetch one page (plus one row to detect the next page) ---
+        Set<ProjectStatus> statuses =
+                query.status() != null ? EnumSet.of(query.status()) : ProjectStatus.listed();
+        int limit = query.effectiveLimit();
+        List<ProjectSummaryDTO> rows =
+                projectRepository
+                        .findSummaryPage(
+                                beforeId,
+                                statuses,
+                                query.category(),
+                                query.normalizedSkills(),
+                                query.deadlineFrom(),
+                                query.deadlineTo(),
+                                limit + 1)
+                        .stream()
+                        .map(ProjectSummaryDTO::from)
+                        .toList();
+
+        // --- 3. Response ---
+        return ApiResponse.success(
+                CursorPageDTO.of(rows, limit, ProjectSummaryDTO::id),
+                messageService.getMessage("project.list.retrieved.success"));
+    }
+}
@@ -0,0 +1,67 @@
+package com.iyte_yazilim.proje_pazari.application.queries.browseProjects;
+
+import com.iyte_yazilim.proje_pazari.domain.enums.ProjectStatus;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.ProjectEntity;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Query for one page of the public project catalog.
+ *
+ * <p>Projects are returned newest first. Drafts are never listed.
+ *
+ * @param cursor opaque cursor from the previous page, or null for the first page
+ * @param limit page size; defaults to {@link #DEFAULT_LIMIT} and is capped at {@link #MAX_LIMIT}
+ * @param status only return projects with this status, or null for every published status
+ * @param category only return projects of this category, or null for all categories
+ * @param skills only return projects requiring all of these skills (case-insensitive, aliases
+ *     resolved), or null
+ * @param deadlineFrom only return projects with a deadline at or after this time, or null
+ * @param deadlineTo only return projects with a deadline before this time, or null
+ */
+public record BrowseProjectsQuery(
+        String cursor,
+        Integer limit,
+        ProjectStatus status,
+        String category,
+        List<String> skills,
+        LocalDateTime deadlineFrom,
+        LocalDateTime deadlineTo) {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    public BrowseProjectsQuery() {
+        this(null, null, null, null, null, null, null);
+    }
+
+    /**
+     * Returns the page size to use, after applying the default and the cap.
+     *
+     * @return page size between 1 and {@link #MAX_LIMIT}
+     */
+    public int effectiveLimit() {
+        if (limit == null || limit < 1) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    /**
+     * Returns the skill filter in the form stored for matching.
+     *
+     * @return distinct {@linkplain ProjectEntity#skillKey skill keys}; empty if there is no skill
+     *     filter
+     */
+    public List<String> normalizedSkills() {
+        if (skills == null) {
+            return List.of();
+        }
+        return skills.stream()
+                .map(ProjectEntity::skillKey)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
+}
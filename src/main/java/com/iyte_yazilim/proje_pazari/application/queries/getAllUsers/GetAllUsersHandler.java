@@ -1,41 +1,59 @@
 package com.iyte_yazilim.proje_pazari.application.queries.getAllUsers;
 
+import com.github.f4b6a3.ulid.Ulid;
+import com.iyte_yazilim.proje_pazari.application.dtos.CursorPageDTO;
 import com.iyte_yazilim.proje_pazari.application.dtos.UserDto;
 import com.iyte_yazilim.proje_pazari.application.mappers.UserDtoMapper;
 import com.iyte_yazilim.proje_pazari.application.services.MessageService;
 import com.iyte_yazilim.proje_pazari.domain.interfaces.IRequestHandler;
 import com.iyte_yazilim.proje_pazari.domain.models.ApiResponse;
 import com.iyte_yazilim.proje_pazari.infrastructure.persistence.UserRepository;
-import com.iyte_yazilim.proje_pazari.infrastructure.persistence.mappers.UserMapper;
-import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.UserEntity;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+/**
+ * Handles the {@link GetAllUsersQuery} with keyset pagination.
+ *
+ * <p>Each page is a single range scan on the ULID primary key ({@code id > :cursor ORDER BY id
+ * LIMIT n + 1}), so latency does not depend on how deep the client has paged or on the size of the
+ * table. The extra row only tells whether a next page exists.
+ */
 @Service
 @RequiredArgsConstructor
 public class GetAllUsersHandler
-        implements IRequestHandler<GetAllUsersQuery, ApiResponse<List<UserDto>>> {
+        implements IRequestHandler<GetAllUsersQuery, ApiResponse<CursorPageDTO<UserDto>>> {
 
     private final UserRepository userRepository;
-    private final UserMapper userMapper;
     private final UserDtoMapper userDtoMapper;
     private final MessageService messageService; // EKLENMELI
 
     @Override
-    public ApiResponse<List<UserDto>> handle(GetAllUsersQuery query) {
+    public ApiResponse<CursorPageDTO<UserDto>> handle(GetAllUsersQuery query) {
 
-        // --- 1. Find all users ---
-        List<UserEntity> userEntities = userRepository.findAll();
+        // --- 1. Decode cursor ---
+        String afterId;
+        try {
+            afterId = CursorPageDTO.decodeCursor(query.cursor());
+        } catch (IllegalArgumentException e) {
+            return ApiResponse.badRequest(messageService.getMessage("validation.cursor.invalid"));
+        }
+        if (afterId != null && !Ulid.isValid(afterId)) {
+            return ApiResponse.badRequest(messageService.getMessage("validation.cursor.invalid"));
+        }
 
-        // --- 2. Map to domain and then to DTO ---
-        List<UserDto> users =
-                userEntities.stream()
-                        .map(userMapper::entityToDomain)
-                        .map(userDtoMapper::domainToDto)
+        // --- 2. Fetch one page (plus one row to detect the next page) ---
+        int limit = query.effectiveLimit();
+        List<UserDto> rows =
+                userRepository
+                        .findPage(afterId, query.role(), query.active(), limit + 1)
+                        .stream()
+                        .map(userDtoMapper::toDto)
                         .toList();
 
         // --- 3. Response ---
-        return ApiResponse.success(users, messageService.getMessage("user.list.retrieved.success"));
+        return ApiResponse.success(
+                CursorPageDTO.of(rows, limit, UserDto::userId),
+                messageService.getMessage("user.list.retrieved.success"));
     }
 }
@@ -1,3 +1,35 @@
 package com.iyte_yazilim.proje_pazari.application.queries.getAllUsers;
 
-public record GetAllUsersQuery() {}
+import com.iyte_yazilim.proje_pazari.domain.enums.UserRole;
+
+/**
+ * Query for one page of the user listing.
+ *
+ * <p>Users are returned in ULID order, i.e. by registration time.
+ *
+ * @param cursor opaque cursor from the previous page, or null for the first page
+ * @param limit page size; defaults to {@link #DEFAULT_LIMIT} and is capped at {@link #MAX_LIMIT}
+ * @param role only return users with this role, or null for all roles
+ * @param active only return active (true) or deactivated (false) users, or null for both
+ */
+public record GetAllUsersQuery(String cursor, Integer limit, UserRole role, Boolean active) {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    public GetAllUsersQuery() {
+        this(null, null, null, null);
+    }
+
+    /**
+     * Returns the page size to use, after applying the default and the cap.
+     *
+     * @return page size between 1 and {@link #MAX_LIMIT}
+     */
+    public int effectiveLimit() {
+        if (limit == null || limit < 1) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+}
@@ -0,0 +1,54 @@
+package com.iyte_yazilim.proje_pazari.application.queries.getRecommendedProjects;
+
+import com.iyte_yazilim.proje_pazari.application.dtos.ProjectSummaryDTO;
+import com.iyte_yazilim.proje_pazari.application.services.MessageService;
+import com.iyte_yazilim.proje_pazari.application.services.ProjectRecommender;
+import com.iyte_yazilim.proje_pazari.application.services.ProjectSummaryLoader;
+import com.iyte_yazilim.proje_pazari.domain.enums.ProjectStatus;
+import com.iyte_yazilim.proje_pazari.domain.interfaces.IRequestHandler;
+import com.iyte_yazilim.proje_pazari.domain.models.ApiResponse;
+import java.util.EnumSet;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Handles the {@link GetRecommendedProjectsQuery}.
+ *
+ * <p>Ranking and caching happen in the {@link ProjectRecommender}; the database is only asked
+ * for the summaries of the top results, by primary key, in one query. A project that stopped
+ * being {@code OPEN} since the recommendation index last saw it is dropped here.
+ *
+ * <p>A user without skills on their profile, or whose skills no project needs, gets an empty
+ * list.
+ *
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ * @see ProjectRecommender
+ */
+@Service
+@RequiredArgsConstructor
+public class GetRecommendedProjectsHandler
+        implements IRequestHandler<
+                GetRecommendedProjectsQuery, ApiResponse<List<ProjectSummaryDTO>>> {
+
+    private final ProjectRecommender projectRecommender;
+    private final ProjectSummaryLoader projectSummaryLoader;
+    private final MessageService messageService;
+
+    @Override
+    public ApiResponse<List<ProjectSummaryDTO>> handle(GetRecommendedProjectsQuery query) {
+
+        // --- 1. Rank in memory (cached per user) ---
+        List<String> ids = projectRecommender.recommend(query.userId(), query.effectiveLimit());
+
+        // --- 2. Load summaries, keeping the rank order ---
+        List<ProjectSummaryDTO> projects =
+                projectSummaryLoader.loadRanked(ids, EnumSet.of(ProjectStatus.OPEN));
+
+        // --- 3. Response ---
+        return ApiResponse.success(
+                projects, messageService.getMessage("project.recommendations.retrieved.success"));
+    }
+}
@@ -0,0 +1,28 @@
+package com.iyte_yazilim.proje_pazari.application.queries.getRecommendedProjects;
+
+import com.iyte_yazilim.proje_pazari.application.services.ProjectRecommender;
+
+/**
+ * Query for the open projects that best match a user's skills.
+ *
+ * @param userId the user's ULID
+ * @param limit number of results; defaults to {@link #DEFAULT_LIMIT} and is capped at {@link
+ *     #MAX_LIMIT}
+ */
+public record GetRecommendedProjectsQuery(String userId, Integer limit) {
+
+    public static final int DEFAULT_LIMIT = 10;
+    public static final int MAX_LIMIT = ProjectRecommender.MAX_RECOMMENDATIONS;
+
+    /**
+     * Returns the number of results to use, after applying the default and the cap.
+     *
+     * @return number of results between 1 and {@link #MAX_LIMIT}
+     */
+    public int effectiveLimit() {
+        if (limit == null || limit < 1) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+}
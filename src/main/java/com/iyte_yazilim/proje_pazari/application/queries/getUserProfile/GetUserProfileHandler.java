@@ -3,14 +3,12 @@ package com.iyte_yazilim.proje_pazari.application.queries.getUserProfile;
 import com.iyte_yazilim.proje_pazari.application.dtos.ProjectSummaryDTO;
 import com.iyte_yazilim.proje_pazari.application.dtos.UserProfileDTO;
 import com.iyte_yazilim.proje_pazari.application.services.MessageService;
+import com.iyte_yazilim.proje_pazari.application.services.UserProfileCache;
 import com.iyte_yazilim.proje_pazari.domain.interfaces.IRequestHandler;
 import com.iyte_yazilim.proje_pazari.domain.models.ApiResponse;
-import com.iyte_yazilim.proje_pazari.infrastructure.persistence.ProjectRepository;
 import com.iyte_yazilim.proje_pazari.infrastructure.persistence.UserRepository;
-import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.ProjectEntity;
-import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.UserEntity;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.projections.UserProfileRow;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -20,55 +18,60 @@ public class GetUserProfileHandler
         implements IRequestHandler<GetUserProfileQuery, ApiResponse<UserProfileDTO>> {
 
     private final UserRepository userRepository;
-    private final ProjectRepository projectRepository;
     private final MessageService messageService; // EKLENMELI
+    private final UserProfileCache userProfileCache;
 
     @Override
     public ApiResponse<UserProfileDTO> handle(GetUserProfileQuery query) {
-        UserEntity user = userRepository.findById(query.userId()).orElse(null);
+        UserProfileDTO profile = userProfileCache.get(query.userId(), this::loadProfile);
 
-        if (user == null) {
+        if (profile == null) {
             return ApiResponse.notFound(
                     messageService.getMessage("user.not.found", new Object[] {query.userId()}));
         }
 
-        // Get user statistics
-        int projectsCreated = userRepository.countProjectsByUserId(query.userId());
-        int applicationsSubmitted = userRepository.countApplicationsByUserId(query.userId());
+        return ApiResponse.success(profile, messageService.getMessage("user.retrieved.success"));
+    }
 
-        // Get user's projects using optimized query
-        List<ProjectEntity> projectEntities = projectRepository.findByOwnerId(query.userId());
+    private UserProfileDTO loadProfile(String userId) {
+        // User, application count and project summaries in one statement, skills in a second
+        List<UserProfileRow> rows = userRepository.findProfileRows(userId);
+
+        if (rows.isEmpty()) {
+            return null;
+        }
+
+        UserProfileRow user = rows.get(0);
 
         List<ProjectSummaryDTO> projects =
-                projectEntities.stream()
+                rows.stream()
+                        .filter(r -> r.projectId() != null)
                         .map(
-                                p ->
+                                r ->
                                         new ProjectSummaryDTO(
-                                                p.getId(),
-                                                p.getTitle(),
-                                                p.getDescription(),
-                                                p.getStatus().name(),
-                                                p.getCreatedAt()))
-                        .collect(Collectors.toList());
-
-        UserProfileDTO profile =
-                new UserProfileDTO(
-                        user.getId(),
-                        user.getEmail(),
-                        user.getFirstName(),
-                        user.getLastName(),
-                        (user.getFirstName() != null && user.getLastName() != null)
-                                ? user.getFirstName() + " " + user.getLastName()
-                                : null,
-                        user.getDescription(),
-                        user.getProfilePictureUrl(),
-                        user.getLinkedinUrl(),
-                        user.getGithubUrl(),
-                        user.getCreatedAt(),
-                        projectsCreated,
-                        applicationsSubmitted,
-                        projects);
+                                                r.projectId(),
+                                                r.projectTitle(),
+                                                r.projectSummary(),
+                                                r.projectStatus().name(),
+                                                r.projectCreatedAt()))
+                        .toList();
 
-        return ApiResponse.success(profile, messageService.getMessage("user.retrieved.success"));
+        return new UserProfileDTO(
+                user.userId(),
+                user.email(),
+                user.firstName(),
+                user.lastName(),
+                (user.firstName() != null && user.lastName() != null)
+                        ? user.firstName() + " " + user.lastName()
+                        : null,
+                user.description(),
+                user.profilePictureUrl(),
+                user.linkedinUrl(),
+                user.githubUrl(),
+                userRepository.findSkills(userId),
+                user.joinedAt(),
+                user.projectsCreated(),
+                user.applicationsSubmitted(),
+                projects);
     }
 }
@@ -0,0 +1,61 @@
+package com.iyte_yazilim.proje_pazari.application.queries.searchProjects;
+
+import com.iyte_yazilim.proje_pazari.application.dtos.ProjectSummaryDTO;
+import com.iyte_yazilim.proje_pazari.application.services.MessageService;
+import com.iyte_yazilim.proje_pazari.application.services.ProjectSearchIndex;
+import com.iyte_yazilim.proje_pazari.application.services.ProjectSummaryLoader;
+import com.iyte_yazilim.proje_pazari.domain.enums.ProjectStatus;
+import com.iyte_yazilim.proje_pazari.domain.interfaces.IRequestHandler;
+import com.iyte_yazilim.proje_pazari.domain.models.ApiResponse;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Handles the {@link SearchProjectsQuery}.
+ *
+ * <p>Ranking happens entirely in the in-memory {@link ProjectSearchIndex}; the database is only
+ * asked for the summaries of the top results, by primary key, in one query.
+ *
+ * <h2>Error Scenarios:</h2>
+ *
+ * <ul>
+ *   <li>{@code BAD_REQUEST} - Blank or overlong query
+ * </ul>
+ *
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ * @see ProjectSearchIndex
+ */
+@Service
+@RequiredArgsConstructor
+public class SearchProjectsHandler
+        implements IRequestHandler<SearchProjectsQuery, ApiResponse<List<ProjectSummaryDTO>>> {
+
+    private final ProjectSearchIndex projectSearchIndex;
+    private final ProjectSummaryLoader projectSummaryLoader;
+    private final MessageService messageService;
+
+    @Override
+    public ApiResponse<List<ProjectSummaryDTO>> handle(SearchProjectsQuery query) {
+
+        // --- 1. Validation ---
+        if (query.q() == null
+                || query.q().isBlank()
+                || query.q().length() > SearchProjectsQuery.MAX_QUERY_LENGTH) {
+            return ApiResponse.badRequest(messageService.getMessage("validation.search.invalid"));
+        }
+
+        // --- 2. Rank in memory ---
+        List<String> ids = projectSearchIndex.search(query.q(), query.effectiveLimit());
+
+        // --- 3. Load summaries, keeping the rank order ---
+        List<ProjectSummaryDTO> projects =
+                projectSummaryLoader.loadRanked(ids, ProjectStatus.listed());
+
+        // --- 4. Response ---
+        return ApiResponse.success(
+                projects, messageService.getMessage("project.list.retrieved.success"));
+    }
+}
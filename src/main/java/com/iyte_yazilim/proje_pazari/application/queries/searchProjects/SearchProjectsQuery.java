@@ -0,0 +1,27 @@
+package com.iyte_yazilim.proje_pazari.application.queries.searchProjects;
+
+/**
+ * Query for the best-matching published projects for a keyword search.
+ *
+ * @param q free-text query, at most {@link #MAX_QUERY_LENGTH} characters
+ * @param limit number of results; defaults to {@link #DEFAULT_LIMIT} and is capped at {@link
+ *     #MAX_LIMIT}
+ */
+public record SearchProjectsQuery(String q, Integer limit) {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 50;
+    public static final int MAX_QUERY_LENGTH = 200;
+
+    /**
+     * Returns the number of results to use, after applying the default and the cap.
+     *
+     * @return number of results between 1 and {@link #MAX_LIMIT}
+     */
+    public int effectiveLimit() {
+        if (limit == null || limit < 1) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+}
@@ -0,0 +1,38 @@
+package com.iyte_yazilim.proje_pazari.application.services;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Defers work that must only happen once the current transaction has committed, such as updating
+ * in-memory indexes and caches or deleting files.
+ *
+ * <p>A rollback discards the work. Without an active transaction the work runs immediately.
+ *
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {}
+
+    /**
+     * Runs an action after the current transaction commits, or now if there is none.
+     *
+     * @param action the action to run
+     */
+    public static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            action.run();
+                        }
+                    });
+        } else {
+            action.run();
+        }
+    }
+}
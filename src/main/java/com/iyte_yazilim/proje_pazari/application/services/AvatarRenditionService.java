@@ -0,0 +1,303 @@
+package com.iyte_yazilim.proje_pazari.application.services;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Produces downscaled renditions of uploaded profile pictures on a bounded background executor.
+ *
+ * <p>List views only need small avatars, yet originals can be several megabytes. After an upload
+ * commits, one task decodes the original once and writes a rendition per configured size (see
+ * {@link FileStorageService#renditionSizes()}). Renditions are re-encoded from pixels only, so
+ * EXIF, GPS and other embedded metadata never reach clients.
+ *
+ * <h2>Decoding:</h2>
+ *
+ * <ul>
+ *   <li>Dimensions are read from the header first; images above {@code max-pixels} are skipped
+ *   <li>Large originals are decoded with source subsampling, at just over twice the largest
+ *       rendition size, which bounds decode memory and time
+ *   <li>Downscaling halves the image stepwise with bilinear filtering to avoid aliasing
+ * </ul>
+ *
+ * <p>Pictures uploaded before this pipeline existed get their renditions on first request (see
+ * {@link #requestRenditions(String)}); until then the original is served.
+ *
+ * <h2>Configuration:</h2>
+ *
+ * <ul>
+ *   <li>{@code app.upload.renditions.threads} - Worker threads
+ *   <li>{@code app.upload.renditions.queue-capacity} - Maximum queued originals
+ *   <li>{@code app.upload.max-pixels} - Largest original (width x height) to process
+ * </ul>
+ *
+ * <h2>Metrics:</h2>
+ *
+ * <ul>
+ *   <li>{@code avatar.renditions.duration} - Time to render all sizes of one original
+ *   <li>{@code avatar.renditions.queue.depth} - Originals waiting for a worker
+ *   <li>{@code avatar.renditions.rejected} - Originals skipped because the queue was full
+ *   <li>{@code avatar.renditions.failed} - Originals that could not be decoded or written
+ * </ul>
+ *
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ * @see com.iyte_yazilim.proje_pazari.presentation.controllers.FileController
+ */
+@Service
+@Slf4j
+public class AvatarRenditionService {
+
+    private static final float JPEG_QUALITY = 0.85f;
+
+    private final FileStorageService fileStorageService;
+    private final ThreadPoolExecutor executor;
+    private final long maxPixels;
+
+    // Originals queued or being rendered, so repeated requests do not schedule duplicates
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    private final Timer renderTimer;
+    private final Counter rejectedCounter;
+    private final Counter failedCounter;
+
+    public AvatarRenditionService(
+            FileStorageService fileStorageService,
+            MeterRegistry meterRegistry,
+            @Value("${app.upload.renditions.threads:2}") int threads,
+            @Value("${app.upload.renditions.queue-capacity:100}") int queueCapacity,
+            @Value("${app.upload.max-pixels:40000000}") long maxPixels) {
+        this.fileStorageService = fileStorageService;
+        this.maxPixels = maxPixels;
+        this.executor =
+                new ThreadPoolExecutor(
+                        threads,
+                        threads,
+                        0L,
+                        TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(queueCapacity),
+                        new RenditionThreadFactory(),
+                        new ThreadPoolExecutor.AbortPolicy());
+
+        this.renderTimer =
+                Timer.builder("avatar.renditions.duration")
+                        .description("Time to render all sizes of one profile picture")
+                        .register(meterRegistry);
+        this.rejectedCounter =
+                Counter.builder("avatar.renditions.rejected")
+                        .description("Profile pictures skipped because the queue was full")
+                        .register(meterRegistry);
+        this.failedCounter =
+                Counter.builder("avatar.renditions.failed")
+                        .description("Profile pictures whose renditions could not be produced")
+                        .register(meterRegistry);
+        Gauge.builder("avatar.renditions.queue.depth", executor, e -> e.getQueue().size())
+                .description("Profile pictures waiting for a rendition worker")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Schedules renditions of a newly stored picture once the current transaction commits.
+     *
+     * @param fileName the stored file name of the original
+     */
+    public void renderAfterCommit(String fileName) {
+        AfterCommit.run(() -> requestRenditions(fileName));
+    }
+
+    /**
+     * Schedules renditions of a stored picture unless they are already being produced.
+     *
+     * <p>Never blocks: when the queue is full the request is dropped and the original keeps being
+     * served until the renditions are requested again.
+     *
+     * @param fileName the stored file name of the original
+     */
+    public void requestRenditions(String fileName) {
+        if (!inFlight.add(fileName)) {
+            return;
+        }
+        try {
+            executor.execute(
+                    () -> {
+                        try {
+                            renderTimer.record(() -> render(fileName));
+                        } finally {
+                            inFlight.remove(fileName);
+                        }
+                    });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(fileName);
+            rejectedCounter.increment();
+        }
+    }
+
+    private void render(String fileName) {
+        try {
+            BufferedImage source = decode(fileName);
+            if (source == null) {
+                return;
+            }
+            for (int size : fileStorageService.renditionSizes()) {
+                String renditionName = fileStorageService.renditionName(fileName, size);
+                if (renditionName != null) {
+                    fileStorageService.writeDerivedFile(
+                            renditionName, encode(scale(source, size), renditionName));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            failedCounter.increment();
+            log.warn("Failed to render profile picture {}", fileName, e);
+        }
+    }
+
+    private BufferedImage decode(String fileName) throws IOException {
+        StoredFileMetadata original = fileStorageService.getFileMetadata(fileName);
+        int[] sizes = fileStorageService.renditionSizes();
+        int largest = sizes.length == 0 ? 0 : sizes[sizes.length - 1];
+
+        try (InputStream content = fileStorageService.openFile(original);
+                ImageInputStream in = ImageIO.createImageInputStream(content)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (largest == 0 || !readers.hasNext()) {
+                // No renditions configured, or a format ImageIO cannot read (e.g. WebP)
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    log.warn("Skipping renditions of oversized picture {}", fileName);
+                    return null;
+                }
+
+                // Decode only every n-th pixel while staying above twice the largest rendition
+                int subsampling = Math.max(1, Math.min(width, height) / (2 * largest));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /** Fits the image into a size x size box, halving stepwise; never upscales. */
+    static BufferedImage scale(BufferedImage source, int size) {
+        int longestEdge = Math.max(source.getWidth(), source.getHeight());
+        double ratio = Math.min(1.0, (double) size / longestEdge);
+        int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = resize(current, width, height);
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    private static BufferedImage resize(BufferedImage source, int width, int height) {
+        int type =
+                source.getColorModel().hasAlpha()
+                        ? BufferedImage.TYPE_INT_ARGB
+                        : BufferedImage.TYPE_INT_RGB;
+        BufferedImage target = new BufferedImage(width, height, type);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(
+                    RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private static byte[] encode(BufferedImage image, String renditionName) throws IOException {
+        boolean jpeg = renditionName.endsWith(".jpg");
+        BufferedImage pixels = image;
+        if (jpeg && image.getColorModel().hasAlpha()) {
+            // JPEG has no alpha channel; flatten onto white
+            pixels =
+                    new BufferedImage(
+                            image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = pixels.createGraphics();
+            try {
+                graphics.drawImage(image, 0, 0, Color.WHITE, null);
+            } finally {
+                graphics.dispose();
+            }
+        }
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(jpeg ? "jpeg" : "png").next();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(bytes)) {
+            writer.setOutput(out);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (jpeg) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(JPEG_QUALITY);
+            }
+            // Pixels only: no metadata from the original is carried over
+            writer.write(null, new IIOImage(pixels, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return bytes.toByteArray();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /** Names worker threads so they are easy to spot in thread dumps. */
+    private static final class RenditionThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "avatar-renditions-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.iyte_yazilim.proje_pazari.application.services;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Bounded pool of direct buffers for {@link HotFileCache}.
+ *
+ * <p>Buffers come in power-of-two slot sizes and are reused once released, so a steady stream of
+ * cache replacements allocates no new direct memory. The bytes held never exceed the budget: when
+ * a slot size has no free buffer and the budget is used up, free buffers of other sizes are
+ * dropped to make room, and if that is not enough the allocation fails instead of growing.
+ *
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ */
+class DirectBufferPool {
+
+    /** Smallest slot; smaller files waste at most this much. */
+    private static final int MIN_SLOT_BYTES = 1024;
+
+    private final long budgetBytes;
+    private final int minSlotBytes;
+    private final Map<Integer, ArrayDeque<ByteBuffer>> free = new TreeMap<>();
+    private long allocatedBytes;
+
+    /**
+     * Creates an empty pool.
+     *
+     * @param budgetBytes maximum bytes of direct memory held, free or in use
+     * @param largestSlotBytes the largest slot that will be requested
+     */
+    DirectBufferPool(long budgetBytes, int largestSlotBytes) {
+        this.budgetBytes = budgetBytes;
+        this.minSlotBytes = Math.min(MIN_SLOT_BYTES, largestSlotBytes);
+    }
+
+    /**
+     * Returns the slot size that holds the given number of bytes.
+     *
+     * @param size bytes to hold
+     * @return the capacity of buffers returned by {@link #allocate(int)} for this size
+     */
+    int slotSize(int size) {
+        return Math.max(ceilPowerOfTwo(size), minSlotBytes);
+    }
+
+    /**
+     * Rounds a size up to the next power of two.
+     *
+     * @param size a positive size
+     * @return the smallest power of two not below {@code size}
+     */
+    static int ceilPowerOfTwo(int size) {
+        return size <= 1 ? 1 : Integer.highestOneBit(size - 1) << 1;
+    }
+
+    /**
+     * Takes a buffer of at least the given size, reusing a free one when possible.
+     *
+     * @param size bytes the buffer must hold
+     * @return a cleared buffer of {@link #slotSize(int)} capacity, or null if the budget is held
+     *     by buffers still in use
+     */
+    synchronized ByteBuffer allocate(int size) {
+        int slot = slotSize(size);
+        ArrayDeque<ByteBuffer> buffers = free.get(slot);
+        if (buffers != null && !buffers.isEmpty()) {
+            return buffers.pop();
+        }
+
+        // Dropped buffers are freed by the garbage collector; this only happens when the mix of
+        // file sizes shifts
+        Iterator<ArrayDeque<ByteBuffer>> others = free.values().iterator();
+        while (allocatedBytes + slot > budgetBytes && others.hasNext()) {
+            ArrayDeque<ByteBuffer> other = others.next();
+            while (allocatedBytes + slot > budgetBytes && !other.isEmpty()) {
+                allocatedBytes -= other.pop().capacity();
+            }
+        }
+        if (allocatedBytes + slot > budgetBytes) {
+            return null;
+        }
+        allocatedBytes += slot;
+        return ByteBuffer.allocateDirect(slot);
+    }
+
+    /**
+     * Returns a buffer taken from {@link #allocate(int)} for reuse.
+     *
+     * @param buffer the buffer; must no longer be read by anyone
+     */
+    synchronized void release(ByteBuffer buffer) {
+        buffer.clear();
+        free.computeIfAbsent(buffer.capacity(), slot -> new ArrayDeque<>()).push(buffer);
+    }
+
+    /**
+     * Returns the direct memory held by the pool.
+     *
+     * @return bytes of all buffers allocated and not dropped, free or in use
+     */
+    synchronized long allocatedBytes() {
+        return allocatedBytes;
+    }
+}
@@ -1,111 +1,811 @@
 package com.iyte_yazilim.proje_pazari.application.services;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.iyte_yazilim.proje_pazari.domain.interfaces.IStorageBackend;
+import com.iyte_yazilim.proje_pazari.domain.models.StoredObject;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.StoredFileRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.StoredFileEntity;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
-import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.util.StringUtils;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/**
+ * Stores uploaded files in the configured {@link IStorageBackend} and provides what is needed to
+ * serve them.
+ *
+ * <h2>Content addressing:</h2>
+ *
+ * <p>Uploads are named by the SHA-256 digest of their content. Identical uploads share one file,
+ * whose references are counted in {@code stored_files}; a name never changes meaning, so files can
+ * be cached by clients forever.
+ *
+ * <h2>Directory layout:</h2>
+ *
+ * <p>Files live two directory levels below the storage root, named by hex digits of a digest (see
+ * {@link #shardedKey(String)}), so no directory grows beyond a few entries per 65,536 files.
+ * Files from the earlier flat layout are still found in the root until {@link
+ * UploadLayoutMigrator} has moved them.
+ *
+ * <h2>Metadata cache:</h2>
+ *
+ * <p>Size, modification time and content digest of served files are cached by name. An entry is
+ * trusted without touching the disk for {@code app.upload.metadata-ttl-seconds}; after that a
+ * single {@code stat} revalidates it and the digest is only recomputed if the file changed. Files
+ * deleted through {@link #releaseFile(String)} are evicted immediately, from this cache and from
+ * the {@link HotFileCache} of file bodies.
+ *
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ * @see StoredFileMetadata
+ */
 @Service
-@RequiredArgsConstructor
+@Slf4j
 public class FileStorageService {
 
-    private final Path fileStorageLocation;
+    /** Upper bound on cached metadata entries; one entry is roughly 300 bytes. */
+    private static final int MAX_METADATA_ENTRIES = 10_000;
 
-    public String storeFile(MultipartFile file, String userId) throws IOException {
-        // Validate file type (only images)
-        if (!isImageFile(file)) {
-            throw new IllegalArgumentException("Only image files are allowed");
+    /** Largest accepted upload. */
+    static final long MAX_UPLOAD_BYTES = 5 * 1024 * 1024;
+
+    /** Largest image header read before rejecting; JPEG headers can carry large EXIF blocks. */
+    private static final int MAX_HEADER_BYTES = 128 * 1024;
+
+    /**
+     * Names produced by {@link #storeImage}: {@code <sha-256 hex>.<extension>}, and their
+     * renditions {@code <sha-256 hex>-<size>.<extension>}.
+     */
+    private static final Pattern CONTENT_ADDRESSED_NAME =
+            Pattern.compile("[0-9a-f]{64}(-\\d+)?\\.(jpg|jpeg|png|gif|webp)");
+
+    /** Names of uploads stored before content addressing: {@code <ULID>_<epoch millis>.<ext>}. */
+    private static final Pattern LEGACY_WRITE_ONCE_NAME =
+            Pattern.compile(
+                    "[0-9A-Z]{26}_\\d+(-\\d+)?\\.(jpg|jpeg|png|gif|webp)",
+                    Pattern.CASE_INSENSITIVE);
+
+    /** Renditions: {@code <name of original without extension>-<size>.<png|jpg>}. */
+    private static final Pattern RENDITION_NAME = Pattern.compile("(.+)-(\\d+)\\.(png|jpg)");
+
+    private static final List<String> IMAGE_EXTENSIONS =
+            List.of("jpg", "jpeg", "png", "gif", "webp");
+
+    /** Public URL prefix of stored files, as saved in {@code users.profile_picture_url}. */
+    public static final String PUBLIC_URL_PREFIX = "/api/v1/files/";
+
+    /** Times a reference is retried while the row keeps disappearing under a release. */
+    private static final int MAX_REFERENCE_ATTEMPTS = 5;
+
+    /** Prefix of in-flight uploads in the storage directory. */
+    static final String TEMP_PREFIX = "upload-";
+
+    private final Path stagingLocation;
+    private final IStorageBackend storageBackend;
+    private final StoredFileRepository storedFileRepository;
+    private final HotFileCache hotFileCache;
+    private final long metadataTtlNanos;
+    private final int[] renditionSizes;
+    private final long maxPixels;
+    private final Duration presignedUrlTtl;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate newTransactionTemplate;
+    private final Cache<String, CachedMetadata> metadataCache;
+
+    public FileStorageService(
+            Path stagingLocation,
+            IStorageBackend storageBackend,
+            StoredFileRepository storedFileRepository,
+            HotFileCache hotFileCache,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.upload.metadata-ttl-seconds:60}") long metadataTtlSeconds,
+            @Value("${app.upload.renditions.sizes:64,128,256}") int[] renditionSizes,
+            @Value("${app.upload.max-pixels:40000000}") long maxPixels,
+            @Value("${app.upload.presigned-url-ttl-seconds:300}") long presignedUrlTtlSeconds) {
+        this.stagingLocation = stagingLocation;
+        this.storageBackend = storageBackend;
+        this.storedFileRepository = storedFileRepository;
+        this.hotFileCache = hotFileCache;
+        this.metadataTtlNanos = Duration.ofSeconds(metadataTtlSeconds).toNanos();
+        this.renditionSizes =
+                IntStream.of(renditionSizes).filter(size -> size > 0).sorted().distinct().toArray();
+        this.maxPixels = maxPixels;
+        this.presignedUrlTtl = Duration.ofSeconds(presignedUrlTtlSeconds);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransactionTemplate.setPropagationBehavior(
+                TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.metadataCache = Caffeine.newBuilder().maximumSize(MAX_METADATA_ENTRIES).build();
+    }
+
+    /**
+     * Streams an uploaded image to storage under the digest of its content.
+     *
+     * <p>Shorthand for {@link #stageImage(InputStream)} followed by {@link #store(StagedImage)}.
+     *
+     * @param content the request body or multipart part; not closed by this method
+     * @return the stored file name ({@code <sha-256 hex>.<extension>})
+     * @throws IllegalArgumentException if the content is not an acceptable image
+     * @throws IOException if the content cannot be read or written
+     */
+    public String storeImage(InputStream content) throws IOException {
+        try (StagedImage image = stageImage(content)) {
+            return store(image);
+        }
+    }
+
+    /**
+     * Checks an uploaded image and copies it to a local staging file.
+     *
+     * <p>The format is detected from the magic bytes and the dimensions are read from the image
+     * header as soon as it has arrived (see {@link ImageHeader}); the client-supplied content type
+     * and file name are ignored. Non-images, images above {@code app.upload.max-pixels} and
+     * uploads above {@value #MAX_UPLOAD_BYTES} bytes are rejected without reading the rest of the
+     * body.
+     *
+     * <p>The bytes are copied once, hashing on the way; the final name is only known after the last
+     * byte. Chunks are held in memory until the header has been accepted, so an upload rejected
+     * for its header writes nothing to the staging file. Touches no database, so callers should
+     * stage before opening a transaction rather than hold a connection while the client sends the
+     * body, and a rejected upload never marks a transaction for rollback.
+     *
+     * @param content the request body or multipart part; not closed by this method
+     * @return the staged image; must be closed by the caller
+     * @throws IllegalArgumentException if the content is not an acceptable image
+     * @throws IOException if the content cannot be read or written
+     */
+    public StagedImage stageImage(InputStream content) throws IOException {
+        Path stagingFile = Files.createTempFile(stagingLocation, TEMP_PREFIX, ".tmp");
+        try {
+            MessageDigest sha256 = newSha256();
+            ImageHeader image = null;
+            byte[] header = new byte[MAX_HEADER_BYTES];
+            int headerLength = 0;
+            long size = 0;
+
+            try (OutputStream out = Files.newOutputStream(stagingFile)) {
+                byte[] buffer = new byte[8192];
+                int read;
+                while ((read = content.read(buffer)) != -1) {
+                    size += read;
+                    if (size > MAX_UPLOAD_BYTES) {
+                        throw new IllegalArgumentException("File size exceeds 5MB limit");
+                    }
+
+                    sha256.update(buffer, 0, read);
+                    if (image != null) {
+                        out.write(buffer, 0, read);
+                        continue;
+                    }
+
+                    // Chunks stay in memory until the header has been checked
+                    int copied = Math.min(read, header.length - headerLength);
+                    System.arraycopy(buffer, 0, header, headerLength, copied);
+                    headerLength += copied;
+                    image = ImageHeader.parse(header, headerLength);
+                    if (image == null) {
+                        if (headerLength == header.length) {
+                            throw new IllegalArgumentException("Image header is too large");
+                        }
+                        continue;
+                    }
+                    if (image.pixels() > maxPixels) {
+                        throw new IllegalArgumentException("Image dimensions are too large");
+                    }
+                    out.write(header, 0, headerLength);
+                    out.write(buffer, copied, read - copied);
+                }
+            }
+
+            if (image == null) {
+                throw new IllegalArgumentException("Only image files are allowed");
+            }
+
+            String fileName = HexFormat.of().formatHex(sha256.digest()) + "." + image.extension();
+            return new StagedImage(fileName, stagingFile, size);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(stagingFile);
+            throw e;
         }
+    }
 
-        // Validate file size (max 5MB)
-        if (file.getSize() > 5 * 1024 * 1024) {
-            throw new IllegalArgumentException("File size exceeds 5MB limit");
+    /**
+     * Stores a staged image under its content address and adds a reference to it.
+     *
+     * <p>Joins the caller's transaction, or runs in its own. The reference is taken before the
+     * file is written and its row stays locked until the transaction ends, so a concurrent
+     * release of the same content cannot delete the file underneath it. Uploading content that is
+     * already stored adds a reference instead of a second copy, and the returned name never refers
+     * to different content. Must be paired with {@link #releaseFile(String)} once the caller stops
+     * referencing the file.
+     *
+     * @param image an image returned by {@link #stageImage(InputStream)}; still to be closed by
+     *     the caller
+     * @return the stored file name ({@code <sha-256 hex>.<extension>})
+     * @throws IOException if the file cannot be written
+     */
+    public String store(StagedImage image) throws IOException {
+        try {
+            return transactionTemplate.execute(
+                    status -> {
+                        addReference(image.fileName(), image.size());
+                        try {
+                            // Identical content may already be stored; replacing it is harmless
+                            // and atomic. The local backend renames the staging file, which moves
+                            // no data.
+                            storageBackend.put(
+                                    shardedKey(image.fileName()),
+                                    image.file(),
+                                    contentTypeOf(image.fileName()));
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                        return image.fileName();
+                    });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
         }
+    }
 
-        // Get and validate original filename
-        String originalFilename = file.getOriginalFilename();
-        if (originalFilename == null) {
-            throw new IllegalArgumentException("File must have a valid filename");
+    // Locks the row by incrementing it; creates it first for new content
+    private void addReference(String fileName, long size) {
+        for (int attempt = 0; attempt < MAX_REFERENCE_ATTEMPTS; attempt++) {
+            // Waits for a concurrent release of the same content to finish
+            if (storedFileRepository.incrementRefCount(fileName) == 1) {
+                return;
+            }
+
+            // A failed insert aborts the transaction on some databases, so insert separately.
+            // Losing the race to a concurrent upload of the same content is fine either way.
+            try {
+                newTransactionTemplate.executeWithoutResult(
+                        status ->
+                                storedFileRepository.insertUnreferenced(
+                                        fileName, size, LocalDateTime.now()));
+            } catch (DataIntegrityViolationException e) {
+                log.debug("Row of {} was created concurrently", fileName);
+            }
         }
+        throw new IllegalStateException("Could not add a reference to " + fileName);
+    }
 
-        originalFilename = StringUtils.cleanPath(originalFilename);
-        String extension = "";
-        if (originalFilename.contains(".")) {
-            extension = originalFilename.substring(originalFilename.lastIndexOf("."));
+    /**
+     * Returns the location and validators of a stored file.
+     *
+     * <p>Served from the metadata cache while the entry is fresh, so hot files cost no disk
+     * access at all until the bytes are sent.
+     *
+     * @param fileName the stored file name
+     * @return location, size, modification time and content digest of the file
+     * @throws IOException if the file does not exist or cannot be read
+     */
+    public StoredFileMetadata getFileMetadata(String fileName) throws IOException {
+        // Verify the name does not point into another directory
+        if (!isPlainName(fileName)) {
+            throw new FileNotFoundException("Invalid file path");
         }
-        String fileName = userId + "_" + System.currentTimeMillis() + extension;
 
-        // Save file
-        Path targetLocation = fileStorageLocation.resolve(fileName).normalize();
+        long now = System.nanoTime();
+        CachedMetadata cached = metadataCache.getIfPresent(fileName);
+        if (cached != null && now - cached.verifiedAtNanos() < metadataTtlNanos) {
+            return cached.metadata();
+        }
 
-        // Verify the normalized path is still within the storage location
-        if (!targetLocation.startsWith(fileStorageLocation)) {
-            throw new IllegalArgumentException("Invalid file path");
+        // Files not migrated yet still live in the flat directory; the last lookup covers a file
+        // that the migration moved between the first two
+        StoredObject object = storageBackend.stat(shardedKey(fileName));
+        if (object == null) {
+            object = storageBackend.stat(fileName);
+        }
+        if (object == null) {
+            object = storageBackend.stat(shardedKey(fileName));
+        }
+        if (object == null) {
+            evict(fileName);
+            throw new FileNotFoundException("File not found: " + fileName);
         }
 
-        Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
+        StoredFileMetadata metadata;
+        if (cached != null
+                && cached.metadata().key().equals(object.key())
+                && cached.metadata().size() == object.size()
+                && cached.metadata().lastModified().equals(object.lastModified())) {
+            metadata = cached.metadata();
+        } else {
+            metadata =
+                    new StoredFileMetadata(
+                            fileName,
+                            object.key(),
+                            storageBackend.localPath(object.key()),
+                            object.size(),
+                            object.lastModified(),
+                            etagOf(fileName, object.key()),
+                            isImmutable(fileName));
+        }
+        metadataCache.put(fileName, new CachedMetadata(metadata, now));
+        return metadata;
+    }
 
-        return fileName;
+    /**
+     * Opens a stored file for reading.
+     *
+     * @param file metadata returned by {@link #getFileMetadata(String)}
+     * @return the file content; must be closed by the caller
+     * @throws IOException if the file no longer exists or cannot be read
+     */
+    public InputStream openFile(StoredFileMetadata file) throws IOException {
+        return storageBackend.open(file.key());
     }
 
-    public Resource loadFileAsResource(String fileName) throws IOException {
-        Path filePath = fileStorageLocation.resolve(fileName).normalize();
+    /**
+     * Creates a time-limited link from which clients download a file without going through the
+     * application.
+     *
+     * @param file metadata returned by {@link #getFileMetadata(String)}
+     * @return the presigned URL, or null if the backend serves files through the application
+     */
+    public URI presignedDownloadUri(StoredFileMetadata file) {
+        return storageBackend.presignedDownloadUri(file.key(), presignedUrlTtl);
+    }
 
-        // Verify the normalized path is still within the storage location
-        if (!filePath.startsWith(fileStorageLocation)) {
-            throw new FileNotFoundException("Invalid file path");
-        }
+    /**
+     * Returns how long links from {@link #presignedDownloadUri} stay valid.
+     *
+     * @return the link lifetime
+     */
+    public Duration presignedUrlTtl() {
+        return presignedUrlTtl;
+    }
 
-        Resource resource = new UrlResource(filePath.toUri());
+    /**
+     * Returns the configured rendition sizes, smallest first.
+     *
+     * @return bounding box edge lengths in pixels
+     */
+    public int[] renditionSizes() {
+        return renditionSizes.clone();
+    }
 
-        if (resource.exists()) {
-            return resource;
-        } else {
-            throw new FileNotFoundException("File not found: " + fileName);
+    /**
+     * Picks the smallest rendition that is at least as large as the requested size.
+     *
+     * @param fileName the stored file name of the original
+     * @param requestedSize the requested bounding box edge in pixels
+     * @return the rendition file name, or null if the original should be served
+     */
+    public String renditionFor(String fileName, int requestedSize) {
+        for (int size : renditionSizes) {
+            if (size >= requestedSize) {
+                return renditionName(fileName, size);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Builds the name of a rendition of a stored file.
+     *
+     * <p>Renditions of JPEG images are JPEGs; everything else is rendered as PNG.
+     *
+     * @param fileName the stored file name of the original
+     * @param size the bounding box edge in pixels
+     * @return the rendition file name, or null if the original has no extension
+     */
+    public String renditionName(String fileName, int size) {
+        int dot = fileName.lastIndexOf('.');
+        if (dot <= 0) {
+            return null;
         }
+        String extension = fileName.substring(dot + 1).toLowerCase();
+        String format = extension.equals("jpg") || extension.equals("jpeg") ? "jpg" : "png";
+        return fileName.substring(0, dot) + "-" + size + "." + format;
     }
 
-    public void deleteFile(String fileName) throws IOException {
-        Path filePath = fileStorageLocation.resolve(fileName).normalize();
+    /**
+     * Atomically writes a file derived from a stored file, such as a rendition.
+     *
+     * <p>Derived files are not reference counted; they are removed together with their original.
+     *
+     * @param fileName the derived file name
+     * @param content the file content
+     * @throws IOException if the file cannot be written
+     */
+    public void writeDerivedFile(String fileName, byte[] content) throws IOException {
+        if (!isPlainName(fileName)) {
+            throw new IllegalArgumentException("Invalid file path");
+        }
+
+        Path tempFile = Files.createTempFile(stagingLocation, TEMP_PREFIX, ".tmp");
+        try {
+            Files.write(tempFile, content);
+            storageBackend.put(shardedKey(fileName), tempFile, contentTypeOf(fileName));
+            evict(fileName);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
 
-        // Verify the normalized path is still within the storage location
-        if (!filePath.startsWith(fileStorageLocation)) {
+    /**
+     * Releases one reference to a stored file.
+     *
+     * <p>The file is deleted after the current transaction commits if this was its last
+     * reference, unless the same content has been uploaded again by then. Files stored before
+     * content addressing have no reference count and are deleted, with their renditions, after
+     * the commit as well; a rollback leaves them in place.
+     *
+     * @param fileName the stored file name
+     * @throws IOException if the name is invalid
+     */
+    @Transactional
+    public void releaseFile(String fileName) throws IOException {
+        // Verify the name does not point into another directory
+        if (!isPlainName(fileName)) {
             throw new IOException("Invalid file path");
         }
 
-        Files.deleteIfExists(filePath);
+        StoredFileEntity stored = storedFileRepository.findForUpdate(fileName).orElse(null);
+        if (stored == null) {
+            AfterCommit.run(() -> deleteLegacy(fileName));
+            return;
+        }
+
+        if (stored.getRefCount() > 1) {
+            stored.setRefCount(stored.getRefCount() - 1);
+            return;
+        }
+
+        // Keep the row, so an upload of the same content waits for the deletion below
+        stored.setRefCount(0);
+        AfterCommit.run(() -> deleteUnreferenced(fileName));
+    }
+
+    // Runs after commit; the same content may have been uploaded again in the meantime
+    private void deleteUnreferenced(String fileName) {
+        try {
+            newTransactionTemplate.executeWithoutResult(
+                    status -> {
+                        StoredFileEntity stored =
+                                storedFileRepository.findForUpdate(fileName).orElse(null);
+                        if (stored == null || stored.getRefCount() > 0) {
+                            return;
+                        }
+                        try {
+                            deleteWithRenditions(fileName);
+                        } catch (IOException e) {
+                            // The unreferenced row lets the garbage collector finish the job
+                            log.warn("Failed to delete unreferenced file {}", fileName, e);
+                            return;
+                        }
+                        storedFileRepository.delete(stored);
+                    });
+        } catch (DataAccessException e) {
+            log.warn("Failed to delete unreferenced file {}", fileName, e);
+        }
     }
 
-    private boolean isImageFile(MultipartFile file) {
-        String contentType = file.getContentType();
+    // Runs after commit; a file left behind is removed by the garbage collector
+    private void deleteLegacy(String fileName) {
+        try {
+            deleteWithRenditions(fileName);
+        } catch (IOException e) {
+            log.warn("Failed to delete released file {}", fileName, e);
+        }
+    }
 
-        // Check content type
-        if (contentType == null || !contentType.startsWith("image/")) {
+    private void deleteWithRenditions(String fileName) throws IOException {
+        deleteFromAnyLayout(fileName);
+        for (int size : renditionSizes) {
+            String rendition = renditionName(fileName, size);
+            if (rendition != null) {
+                deleteFromAnyLayout(rendition);
+            }
+        }
+    }
+
+    private void deleteFromAnyLayout(String fileName) throws IOException {
+        storageBackend.delete(shardedKey(fileName));
+        storageBackend.delete(fileName);
+        evict(fileName);
+    }
+
+    /**
+     * Lists files still stored directly in the storage root.
+     *
+     * @param max maximum number of names to return
+     * @param exclude names to skip, e.g. files that already failed to move
+     * @return names of files in the flat layout, excluding in-flight uploads
+     * @throws IOException if the storage root cannot be read
+     */
+    public List<String> listUnshardedFiles(int max, Set<String> exclude) throws IOException {
+        try (Stream<StoredObject> objects = storageBackend.list(false)) {
+            return objects.map(StoredObject::key)
+                    .filter(name -> !name.startsWith(TEMP_PREFIX) && !exclude.contains(name))
+                    .limit(max)
+                    .toList();
+        }
+    }
+
+    /**
+     * Moves a file from the flat layout to its sharded location.
+     *
+     * <p>On the local disk the move is an atomic rename; object stores copy before deleting. Either
+     * way readers always find the file in at least one of the two places.
+     *
+     * @param fileName the stored file name
+     * @return true if the file was moved, false if it is no longer in the flat layout
+     * @throws IOException if the file cannot be moved
+     */
+    public boolean moveToShardedLayout(String fileName) throws IOException {
+        if (!isPlainName(fileName)) {
+            throw new IOException("Invalid file path");
+        }
+        if (!storageBackend.move(fileName, shardedKey(fileName))) {
             return false;
         }
+        evict(fileName);
+        return true;
+    }
+
+    /**
+     * Streams every stored file in both layouts, followed by local in-flight staging files.
+     *
+     * <p>The stream holds open directory handles or pending listing requests and must be closed
+     * by the caller.
+     *
+     * @return all stored objects
+     * @throws IOException if the storage cannot be listed
+     */
+    public Stream<StoredObject> walkFiles() throws IOException {
+        Stream<StoredObject> staging =
+                Files.list(stagingLocation)
+                        .filter(path -> path.getFileName().toString().startsWith(TEMP_PREFIX))
+                        .map(FileStorageService::stagingObject)
+                        .filter(Objects::nonNull);
+        try {
+            // The local backend shares its root with the staging files; list them only once
+            Stream<StoredObject> stored =
+                    storageBackend.list(true).filter(object -> !isTemporary(object));
+            return Stream.concat(stored, staging);
+        } catch (IOException | RuntimeException e) {
+            staging.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Checks whether a file is an upload that was never completed.
+     *
+     * @param object an object returned by {@link #walkFiles()}
+     * @return true for temporary upload files
+     */
+    public boolean isTemporary(StoredObject object) {
+        return object.key().startsWith(TEMP_PREFIX);
+    }
 
-        // Also validate file extension as additional security measure
-        String originalFilename = file.getOriginalFilename();
-        if (originalFilename != null) {
-            String lowerFilename = originalFilename.toLowerCase();
-            boolean hasValidExtension =
-                    lowerFilename.endsWith(".jpg")
-                            || lowerFilename.endsWith(".jpeg")
-                            || lowerFilename.endsWith(".png")
-                            || lowerFilename.endsWith(".gif")
-                            || lowerFilename.endsWith(".webp");
-            if (!hasValidExtension) {
+    /**
+     * Checks whether a name denotes a rendition of a configured size.
+     *
+     * @param fileName a stored file name
+     * @return true for rendition names
+     */
+    public boolean isRendition(String fileName) {
+        Matcher matcher = RENDITION_NAME.matcher(fileName);
+        return matcher.matches() && isRenditionSize(matcher.group(2));
+    }
+
+    /**
+     * Checks whether a file is a rendition whose original no longer exists.
+     *
+     * @param fileName a stored file name
+     * @return true if the name is a rendition and no original with its base name is stored
+     * @throws IOException if the storage cannot be queried
+     */
+    public boolean isOrphanedRendition(String fileName) throws IOException {
+        Matcher matcher = RENDITION_NAME.matcher(fileName);
+        if (!matcher.matches() || !isRenditionSize(matcher.group(2))) {
+            return false;
+        }
+        for (String extension : IMAGE_EXTENSIONS) {
+            String original = matcher.group(1) + "." + extension;
+            if (storageBackend.stat(shardedKey(original)) != null
+                    || storageBackend.stat(original) != null) {
                 return false;
             }
         }
-
         return true;
     }
+
+    private boolean isRenditionSize(String size) {
+        return IntStream.of(renditionSizes).anyMatch(s -> String.valueOf(s).equals(size));
+    }
+
+    /**
+     * Deletes a file unless it has been modified since the cutoff.
+     *
+     * <p>The modification time is re-read right before deleting, so a file that an upload has
+     * just (re)written is never removed. For content-addressed originals, the reference count is
+     * checked again with the {@code stored_files} row locked (a placeholder row when there is
+     * none), so an upload of the same content waits until the file is gone and then writes it
+     * anew.
+     *
+     * @param object an object returned by {@link #walkFiles()}
+     * @param cutoff files modified after this instant are kept
+     * @return bytes reclaimed, or -1 if the file was kept or is already gone
+     * @throws IOException if the file cannot be deleted
+     */
+    public long deleteIfUnmodifiedSince(StoredObject object, Instant cutoff) throws IOException {
+        if (isTemporary(object)) {
+            Path path = stagingLocation.resolve(object.key());
+            StoredObject current = stagingObject(path);
+            if (current == null || current.lastModified().isAfter(cutoff)) {
+                return -1;
+            }
+            return Files.deleteIfExists(path) ? current.size() : -1;
+        }
+        // Only content-addressed originals can be uploaded again under the same name
+        if (isRendition(object.name())
+                || !CONTENT_ADDRESSED_NAME.matcher(object.name()).matches()) {
+            return deleteUnmodified(object, cutoff);
+        }
+
+        try {
+            return newTransactionTemplate.execute(
+                    status -> deleteIfStillUnreferenced(object, cutoff));
+        } catch (DataIntegrityViolationException e) {
+            // An upload of the same content created the row first; it is referenced now
+            return -1;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private long deleteIfStillUnreferenced(StoredObject object, Instant cutoff) {
+        String fileName = object.name();
+        StoredFileEntity stored = storedFileRepository.findForUpdate(fileName).orElse(null);
+        boolean placeholder = stored == null;
+        if (placeholder) {
+            storedFileRepository.insertUnreferenced(fileName, object.size(), LocalDateTime.now());
+            stored = storedFileRepository.findForUpdate(fileName).orElseThrow();
+        } else if (stored.getRefCount() > 0) {
+            return -1;
+        }
+
+        long reclaimed;
+        try {
+            reclaimed = deleteUnmodified(object, cutoff);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (placeholder || reclaimed >= 0) {
+            storedFileRepository.delete(stored);
+        }
+        return reclaimed;
+    }
+
+    private long deleteUnmodified(StoredObject object, Instant cutoff) throws IOException {
+        StoredObject current = storageBackend.stat(object.key());
+        if (current == null || current.lastModified().isAfter(cutoff)) {
+            return -1;
+        }
+        if (!storageBackend.delete(object.key())) {
+            return -1;
+        }
+        evict(object.name());
+        return current.size();
+    }
+
+    /**
+     * Builds the sharded key of a file: {@code <2 hex>/<2 hex>/<name>}.
+     *
+     * <p>Content-addressed names (and their renditions) are sharded by their own digest; other
+     * names by the digest of the name. Both spread files uniformly over 65,536 directories.
+     */
+    String shardedKey(String fileName) {
+        String hash = fileName;
+        if (!CONTENT_ADDRESSED_NAME.matcher(fileName).matches()) {
+            byte[] digest = newSha256().digest(fileName.getBytes(StandardCharsets.UTF_8));
+            hash = HexFormat.of().formatHex(digest);
+        }
+        return hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + fileName;
+    }
+
+    private static boolean isPlainName(String fileName) {
+        return fileName != null
+                && !fileName.isBlank()
+                && !fileName.equals(".")
+                && !fileName.equals("..")
+                && !fileName.contains("/")
+                && !fileName.contains("\\");
+    }
+
+    // An abandoned staging file that has been removed in the meantime is skipped
+    private static StoredObject stagingObject(Path path) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return new StoredObject(
+                    path.getFileName().toString(),
+                    attributes.size(),
+                    attributes.lastModifiedTime().toInstant());
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static String contentTypeOf(String fileName) {
+        String extension = fileName.substring(fileName.lastIndexOf('.') + 1).toLowerCase();
+        return switch (extension) {
+            case "jpg", "jpeg" -> "image/jpeg";
+            case "png" -> "image/png";
+            case "gif" -> "image/gif";
+            case "webp" -> "image/webp";
+            default -> "application/octet-stream";
+        };
+    }
+
+    // Every change to a stored file goes through here, so no cache serves a stale body
+    private void evict(String fileName) {
+        metadataCache.invalidate(fileName);
+        hotFileCache.invalidate(fileName);
+    }
+
+    private record CachedMetadata(StoredFileMetadata metadata, long verifiedAtNanos) {}
+
+    private static boolean isImmutable(String fileName) {
+        return CONTENT_ADDRESSED_NAME.matcher(fileName).matches()
+                || LEGACY_WRITE_ONCE_NAME.matcher(fileName).matches();
+    }
+
+    // Content-addressed names already are the content digest
+    private String etagOf(String fileName, String key) throws IOException {
+        if (CONTENT_ADDRESSED_NAME.matcher(fileName).matches()) {
+            return fileName.substring(0, fileName.indexOf('.'));
+        }
+        try (InputStream in = storageBackend.open(key)) {
+            MessageDigest sha256 = newSha256();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                sha256.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(sha256.digest());
+        }
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
 }
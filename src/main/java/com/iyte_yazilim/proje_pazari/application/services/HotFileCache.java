@@ -0,0 +1,242 @@
+package com.iyte_yazilim.proje_pazari.application.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * In-memory cache of the bodies of small, frequently served files, such as popular avatars.
+ *
+ * <p>Bodies are held in direct {@link ByteBuffer}s outside the Java heap, so a large cache adds
+ * nothing to the live set the garbage collector has to trace or copy, and the buffers can be
+ * handed to the servlet container without another copy. Admission and eviction use Caffeine's
+ * W-TinyLFU policy, which keeps the popular set resident even when many files are requested
+ * once.
+ *
+ * <h2>Admission and memory:</h2>
+ *
+ * <p>A file is only read into memory when it is requested a second time; the first miss returns
+ * nothing and the caller serves it from disk with its zero-copy path. Buffers come from a {@link
+ * DirectBufferPool} and go back to it when their entry is removed and the last reader has
+ * released it, so replacements reuse memory instead of allocating direct buffers that are only
+ * freed by a later garbage collection.
+ *
+ * <h2>Consistency:</h2>
+ *
+ * <p>Entries remember the ETag and modification time they were read with and are reloaded when
+ * the served metadata differs. {@link FileStorageService} also evicts a file whenever it deletes
+ * or overwrites it.
+ *
+ * <h2>Configuration:</h2>
+ *
+ * <ul>
+ *   <li>{@code app.upload.hot-cache.max-bytes} - Total bytes of cached bodies, rounded up to
+ *       power-of-two slots; the pool holds at most one largest slot more (count it against
+ *       {@code -XX:MaxDirectMemorySize})
+ *   <li>{@code app.upload.hot-cache.max-file-bytes} - Larger files are never cached
+ * </ul>
+ *
+ * <h2>Metrics:</h2>
+ *
+ * <ul>
+ *   <li>{@code cache.*{cache=files.hot}} - Hits, misses and evictions
+ *   <li>{@code files.hot.hit.ratio} - Share of lookups served from memory
+ *   <li>{@code files.hot.resident.bytes} - Direct memory held by the pool, free or in use
+ * </ul>
+ *
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ * @see com.iyte_yazilim.proje_pazari.presentation.web.FileResponseWriter
+ */
+@Service
+public class HotFileCache {
+
+    static final String CACHE_NAME = "files.hot";
+
+    /** Upper bound on remembered first requests; one entry is roughly 150 bytes. */
+    private static final int MAX_SEEN_ENTRIES = 10_000;
+
+    private final Cache<String, CachedBody> cache;
+    private final Cache<String, Boolean> seen;
+    private final DirectBufferPool pool;
+    private final long maxFileBytes;
+
+    public HotFileCache(
+            MeterRegistry meterRegistry,
+            @Value("${app.upload.hot-cache.max-bytes:67108864}") long maxBytes,
+            @Value("${app.upload.hot-cache.max-file-bytes:65536}") long maxFileBytes) {
+        this.maxFileBytes = maxFileBytes;
+        int largestSlot = DirectBufferPool.ceilPowerOfTwo((int) Math.min(maxFileBytes, 1 << 30));
+
+        // One spare slot, so a new entry can be loaded before the one it displaces is evicted
+        this.pool = new DirectBufferPool(maxBytes + largestSlot, largestSlot);
+        this.cache =
+                Caffeine.newBuilder()
+                        .maximumWeight(maxBytes)
+                        .weigher((String key, CachedBody value) -> value.buffer().capacity())
+                        .removalListener(
+                                (String key, CachedBody value, RemovalCause cause) ->
+                                        value.release())
+                        .executor(Runnable::run)
+                        .recordStats()
+                        .build();
+        this.seen = Caffeine.newBuilder().maximumSize(MAX_SEEN_ENTRIES).build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder(CACHE_NAME + ".hit.ratio", cache, c -> c.stats().hitRate())
+                .description("Share of file lookups served from memory")
+                .register(meterRegistry);
+        Gauge.builder(CACHE_NAME + ".resident.bytes", pool, DirectBufferPool::allocatedBytes)
+                .description("Bytes of direct memory held for file content")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the body of a file, reading it into the cache on a repeated miss.
+     *
+     * <p>The body stays valid until the returned lease is closed, even if the entry is evicted
+     * meanwhile.
+     *
+     * @param file metadata of a file on the local disk
+     * @return a lease on the cached body, or null if the file should be served from disk (first
+     *     request, too large, not on the local disk, or no memory free)
+     * @throws IOException if the file cannot be read or changed while it was read
+     */
+    public Lease acquire(StoredFileMetadata file) throws IOException {
+        if (file.path() == null || file.size() > maxFileBytes) {
+            return null;
+        }
+
+        CachedBody cached = cache.getIfPresent(file.fileName());
+        if (cached != null && cached.matches(file) && cached.retain()) {
+            return new Lease(cached);
+        }
+
+        // Changed files are reloaded right away; they were requested before
+        if (cached == null && seen.asMap().remove(file.fileName()) == null) {
+            seen.put(file.fileName(), Boolean.TRUE);
+            return null;
+        }
+
+        CachedBody loaded = load(file);
+        if (loaded == null) {
+            return null;
+        }
+        cache.put(file.fileName(), loaded);
+        return new Lease(loaded);
+    }
+
+    /**
+     * Drops a file from the cache.
+     *
+     * @param fileName the stored file name
+     */
+    public void invalidate(String fileName) {
+        cache.invalidate(fileName);
+    }
+
+    // Returns an entry with one reference for the cache and one for the caller
+    private CachedBody load(StoredFileMetadata file) throws IOException {
+        ByteBuffer buffer = pool.allocate((int) file.size());
+        if (buffer == null) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(file.path(), StandardOpenOption.READ)) {
+            buffer.limit((int) file.size());
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    throw new IOException("File changed while caching: " + file.fileName());
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            pool.release(buffer);
+            throw e;
+        }
+        buffer.flip();
+        return new CachedBody(buffer, pool, file.etag(), file.lastModified());
+    }
+
+    /**
+     * A cached body in use by one reader; closing it lets the buffer be reused.
+     *
+     * @author IYTE Yazılım Topluluğu
+     * @version 1.0
+     * @since 2024-01-01
+     */
+    public static final class Lease implements AutoCloseable {
+
+        private final CachedBody cached;
+        private boolean closed;
+
+        private Lease(CachedBody cached) {
+            this.cached = cached;
+        }
+
+        /**
+         * Returns the file content.
+         *
+         * @return a read-only buffer positioned at the start of the body
+         */
+        public ByteBuffer body() {
+            return cached.buffer().asReadOnlyBuffer();
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                cached.release();
+            }
+        }
+    }
+
+    /** A pooled buffer shared by the cache and its readers, returned when all have let go. */
+    private record CachedBody(
+            ByteBuffer buffer,
+            DirectBufferPool pool,
+            String etag,
+            Instant lastModified,
+            AtomicInteger references) {
+
+        CachedBody(ByteBuffer buffer, DirectBufferPool pool, String etag, Instant lastModified) {
+            this(buffer, pool, etag, lastModified, new AtomicInteger(2));
+        }
+
+        boolean matches(StoredFileMetadata file) {
+            return etag.equals(file.etag())
+                    && lastModified.equals(file.lastModified())
+                    && buffer.limit() == file.size();
+        }
+
+        // Fails once the buffer went back to the pool
+        boolean retain() {
+            int current;
+            do {
+                current = references.get();
+                if (current == 0) {
+                    return false;
+                }
+            } while (!references.compareAndSet(current, current + 1));
+            return true;
+        }
+
+        void release() {
+            if (references.decrementAndGet() == 0) {
+                pool.release(buffer);
+            }
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.iyte_yazilim.proje_pazari.application.services;
+
+/**
+ * Format and dimensions of an image, read from the first bytes of the file.
+ *
+ * <p>Recognizes JPEG, PNG, GIF and WebP by their magic bytes and reads width and height from the
+ * header without decoding any pixel data, so an upload can be rejected before its body has been
+ * received. The client-supplied content type and file name are never consulted.
+ *
+ * @param extension canonical file extension of the detected format
+ * @param width image width in pixels
+ * @param height image height in pixels
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ * @see FileStorageService#storeImage(java.io.InputStream)
+ */
+public record ImageHeader(String extension, int width, int height) {
+
+    /** Bytes needed before the format can be decided (the WebP signature is the longest). */
+    private static final int SIGNATURE_LENGTH = 12;
+
+    /**
+     * Returns the number of pixels of the image.
+     *
+     * @return width times height
+     */
+    public long pixels() {
+        return (long) width * height;
+    }
+
+    /**
+     * Parses the header at the start of a buffer.
+     *
+     * @param buffer the first bytes of the file
+     * @param length number of valid bytes in the buffer
+     * @return the header, or null if more bytes are needed to read it
+     * @throws IllegalArgumentException if the bytes are not a supported image
+     */
+    public static ImageHeader parse(byte[] buffer, int length) {
+        if (length < SIGNATURE_LENGTH) {
+            return null;
+        }
+        if (u8(buffer, 0) == 0xFF && u8(buffer, 1) == 0xD8 && u8(buffer, 2) == 0xFF) {
+            return parseJpeg(buffer, length);
+        }
+        if (startsWith(buffer, 0, new int[] {0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'})) {
+            return parsePng(buffer, length);
+        }
+        if (startsWith(buffer, 0, "GIF87a") || startsWith(buffer, 0, "GIF89a")) {
+            return valid("gif", u16le(buffer, 6), u16le(buffer, 8));
+        }
+        if (startsWith(buffer, 0, "RIFF") && startsWith(buffer, 8, "WEBP")) {
+            return parseWebp(buffer, length);
+        }
+        throw new IllegalArgumentException("Only image files are allowed");
+    }
+
+    private static ImageHeader parsePng(byte[] buffer, int length) {
+        // Signature (8), IHDR length (4), "IHDR" (4), width (4), height (4)
+        if (length < 24) {
+            return null;
+        }
+        if (!startsWith(buffer, 12, "IHDR")) {
+            throw new IllegalArgumentException("Only image files are allowed");
+        }
+        return valid("png", u32be(buffer, 16), u32be(buffer, 20));
+    }
+
+    private static ImageHeader parseJpeg(byte[] buffer, int length) {
+        int position = 2;
+        while (true) {
+            if (position + 4 > length) {
+                return null;
+            }
+            if (u8(buffer, position) != 0xFF) {
+                throw new IllegalArgumentException("Only image files are allowed");
+            }
+            int marker = u8(buffer, position + 1);
+            if (marker == 0xFF) {
+                // Fill byte before a marker
+                position++;
+                continue;
+            }
+            if (marker == 0x01 || (marker >= 0xD0 && marker <= 0xD8)) {
+                // Markers without a length field
+                position += 2;
+                continue;
+            }
+            if (marker == 0xD9 || marker == 0xDA) {
+                // End of image or start of scan before any frame header
+                throw new IllegalArgumentException("Only image files are allowed");
+            }
+            int segmentLength = u16be(buffer, position + 2);
+            if (segmentLength < 2) {
+                throw new IllegalArgumentException("Only image files are allowed");
+            }
+            if (isStartOfFrame(marker)) {
+                // Length (2), precision (1), height (2), width (2)
+                if (position + 9 > length) {
+                    return null;
+                }
+                return valid("jpg", u16be(buffer, position + 7), u16be(buffer, position + 5));
+            }
+            position += 2 + segmentLength;
+        }
+    }
+
+    private static ImageHeader parseWebp(byte[] buffer, int length) {
+        if (length < 30) {
+            return null;
+        }
+        if (startsWith(buffer, 12, "VP8X")) {
+            return valid("webp", u24le(buffer, 24) + 1, u24le(buffer, 27) + 1);
+        }
+        if (startsWith(buffer, 12, "VP8 ")
+                && u8(buffer, 23) == 0x9D
+                && u8(buffer, 24) == 0x01
+                && u8(buffer, 25) == 0x2A) {
+            return valid("webp", u16le(buffer, 26) & 0x3FFF, u16le(buffer, 28) & 0x3FFF);
+        }
+        if (startsWith(buffer, 12, "VP8L") && u8(buffer, 20) == 0x2F) {
+            long bits = u32le(buffer, 21);
+            return valid("webp", (int) (bits & 0x3FFF) + 1, (int) ((bits >> 14) & 0x3FFF) + 1);
+        }
+        throw new IllegalArgumentException("Only image files are allowed");
+    }
+
+    private static boolean isStartOfFrame(int marker) {
+        return marker >= 0xC0
+                && marker <= 0xCF
+                && marker != 0xC4
+                && marker != 0xC8
+                && marker != 0xCC;
+    }
+
+    private static ImageHeader valid(String extension, long width, long height) {
+        if (width <= 0 || height <= 0 || width > Integer.MAX_VALUE || height > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid image dimensions");
+        }
+        return new ImageHeader(extension, (int) width, (int) height);
+    }
+
+    private static boolean startsWith(byte[] buffer, int offset, String ascii) {
+        for (int i = 0; i < ascii.length(); i++) {
+            if (u8(buffer, offset + i) != ascii.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean startsWith(byte[] buffer, int offset, int[] bytes) {
+        for (int i = 0; i < bytes.length; i++) {
+            if (u8(buffer, offset + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int u8(byte[] buffer, int offset) {
+        return buffer[offset] & 0xFF;
+    }
+
+    private static int u16be(byte[] buffer, int offset) {
+        return (u8(buffer, offset) << 8) | u8(buffer, offset + 1);
+    }
+
+    private static int u16le(byte[] buffer, int offset) {
+        return u8(buffer, offset) | (u8(buffer, offset + 1) << 8);
+    }
+
+    private static int u24le(byte[] buffer, int offset) {
+        return u16le(buffer, offset) | (u8(buffer, offset + 2) << 16);
+    }
+
+    private static long u32be(byte[] buffer, int offset) {
+        return ((long) u16be(buffer, offset) << 16) | u16be(buffer, offset + 2);
+    }
+
+    private static long u32le(byte[] buffer, int offset) {
+        return u16le(buffer, offset) | ((long) u16le(buffer, offset + 2) << 16);
+    }
+}
@@ -0,0 +1,433 @@
+package com.iyte_yazilim.proje_pazari.application.services;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * In-memory inverted index with Okapi BM25 ranking.
+ *
+ * <p>Documents are identified externally by a string key and internally by a dense int id that
+ * only grows, so appending a document appends to the end of each of its posting lists. A posting
+ * list is a byte array of varint-encoded {@code (doc id delta, term frequency)} pairs, typically 2
+ * bytes per posting instead of the 16+ of a boxed list entry.
+ *
+ * <p>Replacing or removing a document leaves its old postings in place as tombstones; they are
+ * skipped at query time and dropped, with the ids renumbered, once they make up a quarter of the
+ * index. Only listed documents are returned by {@link #search}; unlisted ones still count for
+ * document frequencies.
+ *
+ * <p>Not thread-safe; {@link ProjectSearchIndex} guards it with a read-write lock.
+ *
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ */
+final class InvertedIndex {
+
+    /** Term frequency saturation. */
+    static final double K1 = 1.2;
+
+    /** Document length normalization. */
+    static final double B = 0.75;
+
+    private static final int SNAPSHOT_MAGIC = 0x50534958; // "PSIX"
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final int MIN_TOMBSTONES_TO_COMPACT = 64;
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<String, Integer> docIds = new HashMap<>();
+    private String[] keys = new String[64];
+    private int[] lengths = new int[64];
+    private BitSet listed = new BitSet();
+    private int nextDocId;
+    private int liveDocs;
+    private int tombstones;
+    private long totalLength;
+
+    /** A ranked document. */
+    record Hit(String key, double score) {}
+
+    /**
+     * Adds a document, replacing any earlier version with the same key.
+     *
+     * @param key external document key
+     * @param termFrequencies frequency of each term in the document
+     * @param isListed whether the document may be returned by searches
+     */
+    void put(String key, Map<String, Integer> termFrequencies, boolean isListed) {
+        remove(key);
+
+        int docId = nextDocId++;
+        if (docId == keys.length) {
+            keys = Arrays.copyOf(keys, docId * 2);
+            lengths = Arrays.copyOf(lengths, docId * 2);
+        }
+
+        int length = 0;
+        for (Map.Entry<String, Integer> term : termFrequencies.entrySet()) {
+            postings.computeIfAbsent(term.getKey(), t -> new PostingList())
+                    .add(docId, term.getValue());
+            length += term.getValue();
+        }
+
+        keys[docId] = key;
+        lengths[docId] = length;
+        listed.set(docId, isListed);
+        docIds.put(key, docId);
+        liveDocs++;
+        totalLength += length;
+    }
+
+    /**
+     * Removes a document.
+     *
+     * @param key external document key
+     * @return false if the document was not indexed
+     */
+    boolean remove(String key) {
+        Integer docId = docIds.remove(key);
+        if (docId == null) {
+            return false;
+        }
+        keys[docId] = null;
+        listed.clear(docId);
+        liveDocs--;
+        totalLength -= lengths[docId];
+        tombstones++;
+        if (tombstones >= MIN_TOMBSTONES_TO_COMPACT && tombstones * 4 > liveDocs) {
+            compact();
+        }
+        return true;
+    }
+
+    /**
+     * Changes whether a document may be returned by searches, without re-indexing its text.
+     *
+     * @param key external document key
+     * @param isListed the new visibility
+     * @return false if the document was not indexed
+     */
+    boolean setListed(String key, boolean isListed) {
+        Integer docId = docIds.get(key);
+        if (docId == null) {
+            return false;
+        }
+        listed.set(docId, isListed);
+        return true;
+    }
+
+    boolean contains(String key) {
+        return docIds.containsKey(key);
+    }
+
+    /** Returns the keys of all indexed documents. */
+    Set<String> keys() {
+        return Set.copyOf(docIds.keySet());
+    }
+
+    int size() {
+        return liveDocs;
+    }
+
+    int termCount() {
+        return postings.size();
+    }
+
+    /** Returns the bytes held by posting lists. */
+    long postingBytes() {
+        long bytes = 0;
+        for (PostingList list : postings.values()) {
+            bytes += list.bytes.length;
+        }
+        return bytes;
+    }
+
+    /**
+     * Ranks listed documents containing any of the terms by BM25.
+     *
+     * @param terms query terms; duplicates are ignored
+     * @param limit maximum number of hits
+     * @return hits by descending score, newer documents first on ties
+     */
+    List<Hit> search(Collection<String> terms, int limit) {
+        if (liveDocs == 0 || limit < 1) {
+            return List.of();
+        }
+
+        double averageLength = Math.max(1.0, (double) totalLength / liveDocs);
+        double[] scores = new double[nextDocId];
+        for (String term : new LinkedHashSet<>(terms)) {
+            PostingList list = postings.get(term);
+            if (list == null) {
+                continue;
+            }
+            // Tombstones still count until compaction; never let df exceed the live documents
+            int documentFrequency = Math.min(list.count, liveDocs);
+            double idf =
+                    Math.log(
+                            1
+                                    + (liveDocs - documentFrequency + 0.5)
+                                            / (documentFrequency + 0.5));
+
+            PostingReader reader = list.reader();
+            while (reader.next()) {
+                int docId = reader.docId;
+                if (keys[docId] == null) {
+                    continue;
+                }
+                double norm = K1 * (1 - B + B * lengths[docId] / averageLength);
+                scores[docId] += idf * reader.frequency * (K1 + 1) / (reader.frequency + norm);
+            }
+        }
+
+        // Min-heap of the best hits so far; the weakest is evicted first
+        PriorityQueue<Integer> best =
+                new PriorityQueue<>(
+                        (a, b) ->
+                                scores[a] != scores[b]
+                                        ? Double.compare(scores[a], scores[b])
+                                        : Integer.compare(a, b));
+        for (int docId = listed.nextSetBit(0); docId >= 0; docId = listed.nextSetBit(docId + 1)) {
+            if (scores[docId] <= 0) {
+                continue;
+            }
+            if (best.size() < limit) {
+                best.add(docId);
+            } else if (best.comparator().compare(docId, best.peek()) > 0) {
+                best.poll();
+                best.add(docId);
+            }
+        }
+
+        Hit[] hits = new Hit[best.size()];
+        for (int i = hits.length - 1; i >= 0; i--) {
+            int docId = best.poll();
+            hits[i] = new Hit(keys[docId], scores[docId]);
+        }
+        return List.of(hits);
+    }
+
+    /**
+     * Copies the index, so it can be written while the original keeps changing.
+     *
+     * @return an independent index with the same documents and postings
+     */
+    InvertedIndex copy() {
+        InvertedIndex copy = new InvertedIndex();
+        for (Map.Entry<String, PostingList> entry : postings.entrySet()) {
+            copy.postings.put(entry.getKey(), entry.getValue().copy());
+        }
+        copy.docIds.putAll(docIds);
+        copy.keys = keys.clone();
+        copy.lengths = lengths.clone();
+        copy.listed = (BitSet) listed.clone();
+        copy.nextDocId = nextDocId;
+        copy.liveDocs = liveDocs;
+        copy.tombstones = tombstones;
+        copy.totalLength = totalLength;
+        return copy;
+    }
+
+    /**
+     * Writes the index, without tombstones.
+     *
+     * @param out the stream to write to
+     * @throws IOException if writing fails
+     */
+    void writeTo(DataOutputStream out) throws IOException {
+        if (tombstones > 0) {
+            compact();
+        }
+        out.writeInt(SNAPSHOT_MAGIC);
+        out.writeInt(SNAPSHOT_VERSION);
+        out.writeInt(nextDocId);
+        for (int docId = 0; docId < nextDocId; docId++) {
+            out.writeUTF(keys[docId]);
+            out.writeInt(lengths[docId]);
+            out.writeBoolean(listed.get(docId));
+        }
+        out.writeInt(postings.size());
+        for (Map.Entry<String, PostingList> entry : postings.entrySet()) {
+            PostingList list = entry.getValue();
+            out.writeUTF(entry.getKey());
+            out.writeInt(list.count);
+            out.writeInt(list.lastDocId);
+            out.writeInt(list.size);
+            out.write(list.bytes, 0, list.size);
+        }
+    }
+
+    /**
+     * Reads an index written by {@link #writeTo}.
+     *
+     * @param in the stream to read from
+     * @return the index
+     * @throws IOException if the stream is not a snapshot of this version or is truncated
+     */
+    static InvertedIndex readFrom(DataInputStream in) throws IOException {
+        if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+            throw new IOException("Not a search index snapshot of version " + SNAPSHOT_VERSION);
+        }
+
+        InvertedIndex index = new InvertedIndex();
+        int documents = in.readInt();
+        index.keys = new String[Math.max(64, documents)];
+        index.lengths = new int[index.keys.length];
+        for (int docId = 0; docId < documents; docId++) {
+            index.keys[docId] = in.readUTF();
+            index.lengths[docId] = in.readInt();
+            index.listed.set(docId, in.readBoolean());
+            index.docIds.put(index.keys[docId], docId);
+            index.totalLength += index.lengths[docId];
+        }
+        index.nextDocId = documents;
+        index.liveDocs = documents;
+
+        int terms = in.readInt();
+        for (int i = 0; i < terms; i++) {
+            String term = in.readUTF();
+            PostingList list = new PostingList();
+            list.count = in.readInt();
+            list.lastDocId = in.readInt();
+            list.size = in.readInt();
+            if (list.lastDocId >= documents || list.size < 0) {
+                throw new IOException("Corrupt posting list for term " + term);
+            }
+            list.bytes = new byte[Math.max(8, list.size)];
+            in.readFully(list.bytes, 0, list.size);
+            index.postings.put(term, list);
+        }
+        return index;
+    }
+
+    // Drops tombstoned postings and renumbers documents densely, keeping their order
+    private void compact() {
+        int[] remap = new int[nextDocId];
+        String[] compactKeys = new String[Math.max(64, liveDocs * 2)];
+        int[] compactLengths = new int[compactKeys.length];
+        BitSet compactListed = new BitSet();
+        int next = 0;
+        for (int docId = 0; docId < nextDocId; docId++) {
+            if (keys[docId] == null) {
+                remap[docId] = -1;
+                continue;
+            }
+            remap[docId] = next;
+            compactKeys[next] = keys[docId];
+            compactLengths[next] = lengths[docId];
+            compactListed.set(next, listed.get(docId));
+            docIds.put(keys[docId], next);
+            next++;
+        }
+
+        List<String> emptyTerms = new ArrayList<>();
+        for (Map.Entry<String, PostingList> entry : postings.entrySet()) {
+            PostingList compacted = new PostingList();
+            PostingReader reader = entry.getValue().reader();
+            while (reader.next()) {
+                if (remap[reader.docId] >= 0) {
+                    compacted.add(remap[reader.docId], reader.frequency);
+                }
+            }
+            if (compacted.count == 0) {
+                emptyTerms.add(entry.getKey());
+            } else {
+                entry.setValue(compacted);
+            }
+        }
+        emptyTerms.forEach(postings::remove);
+
+        keys = compactKeys;
+        lengths = compactLengths;
+        listed = compactListed;
+        nextDocId = next;
+        tombstones = 0;
+    }
+
+    /** Postings of one term, in increasing doc id order. */
+    private static final class PostingList {
+
+        private byte[] bytes = new byte[8];
+        private int size;
+        private int count;
+        private int lastDocId = -1;
+
+        void add(int docId, int frequency) {
+            if (size + 10 > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + 10));
+            }
+            size = writeVarInt(bytes, size, docId - lastDocId);
+            size = writeVarInt(bytes, size, frequency);
+            lastDocId = docId;
+            count++;
+        }
+
+        PostingReader reader() {
+            return new PostingReader(bytes, size);
+        }
+
+        PostingList copy() {
+            PostingList copy = new PostingList();
+            copy.bytes = Arrays.copyOf(bytes, Math.max(8, size));
+            copy.size = size;
+            copy.count = count;
+            copy.lastDocId = lastDocId;
+            return copy;
+        }
+
+        private static int writeVarInt(byte[] target, int offset, int value) {
+            while ((value & ~0x7F) != 0) {
+                target[offset++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            target[offset++] = (byte) value;
+            return offset;
+        }
+    }
+
+    /** Cursor over a posting list; {@link #next()} decodes one posting into the fields. */
+    private static final class PostingReader {
+
+        private final byte[] bytes;
+        private final int size;
+        private int offset;
+        int docId = -1;
+        int frequency;
+
+        PostingReader(byte[] bytes, int size) {
+            this.bytes = bytes;
+            this.size = size;
+        }
+
+        boolean next() {
+            if (offset >= size) {
+                return false;
+            }
+            docId += readVarInt();
+            frequency = readVarInt();
+            return true;
+        }
+
+        private int readVarInt() {
+            int value = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = bytes[offset++];
+                value |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.iyte_yazilim.proje_pazari.application.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Sliding-window throttle for login attempts, keyed by account email and by client IP.
+ *
+ * <p>The check runs before any database lookup or password hash, so a credential-stuffing burst
+ * costs a hash map lookup per request instead of a BCrypt round.
+ *
+ * <h2>Algorithm:</h2>
+ *
+ * <p>Each key owns a sliding-window counter: the previous fixed window is weighted by how much of
+ * it still overlaps the sliding window and added to the current one. Every counter has its own
+ * monitor, so contention is limited to requests for the same key. Counters live in a size-bounded
+ * Caffeine cache and idle ones are evicted, so memory stays flat however many keys an attacker
+ * cycles through.
+ *
+ * <h2>Configuration:</h2>
+ *
+ * <ul>
+ *   <li>{@code app.security.login-rate-limit.window-seconds} - Sliding window length
+ *   <li>{@code app.security.login-rate-limit.max-attempts-per-email} - Attempts per account
+ *   <li>{@code app.security.login-rate-limit.max-attempts-per-ip} - Attempts per client IP
+ *   <li>{@code app.security.login-rate-limit.max-keys} - Maximum tracked keys per dimension
+ * </ul>
+ *
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ * @see com.iyte_yazilim.proje_pazari.application.commands.loginUser.LoginUserHandler
+ */
+@Service
+public class LoginRateLimiter {
+
+    private final long windowNanos;
+    private final int maxAttemptsPerEmail;
+    private final int maxAttemptsPerIp;
+    private final LongSupplier ticker;
+
+    private final Cache<String, SlidingWindow> emailWindows;
+    private final Cache<String, SlidingWindow> ipWindows;
+
+    private final Counter emailThrottled;
+    private final Counter ipThrottled;
+
+    @Autowired
+    public LoginRateLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${app.security.login-rate-limit.window-seconds:300}") long windowSeconds,
+            @Value("${app.security.login-rate-limit.max-attempts-per-email:10}")
+                    int maxAttemptsPerEmail,
+            @Value("${app.security.login-rate-limit.max-attempts-per-ip:50}") int maxAttemptsPerIp,
+            @Value("${app.security.login-rate-limit.max-keys:100000}") long maxKeys) {
+        this(
+                meterRegistry,
+                Duration.ofSeconds(windowSeconds),
+                maxAttemptsPerEmail,
+                maxAttemptsPerIp,
+                maxKeys,
+                System::nanoTime);
+    }
+
+    LoginRateLimiter(
+            MeterRegistry meterRegistry,
+            Duration window,
+            int maxAttemptsPerEmail,
+            int maxAttemptsPerIp,
+            long maxKeys,
+            LongSupplier ticker) {
+        this.windowNanos = window.toNanos();
+        this.maxAttemptsPerEmail = maxAttemptsPerEmail;
+        this.maxAttemptsPerIp = maxAttemptsPerIp;
+        this.ticker = ticker;
+
+        // A counter idle for two windows holds no information any more
+        Duration idle = window.multipliedBy(2);
+        this.emailWindows =
+                Caffeine.newBuilder().maximumSize(maxKeys).expireAfterAccess(idle).build();
+        this.ipWindows = Caffeine.newBuilder().maximumSize(maxKeys).expireAfterAccess(idle).build();
+
+        this.emailThrottled =
+                Counter.builder("auth.login.throttled")
+                        .description("Login attempts rejected by the rate limiter")
+                        .tag("key", "email")
+                        .register(meterRegistry);
+        this.ipThrottled =
+                Counter.builder("auth.login.throttled")
+                        .description("Login attempts rejected by the rate limiter")
+                        .tag("key", "ip")
+                        .register(meterRegistry);
+    }
+
+    /**
+     * Records a login attempt if both the account and the client IP are under their limits.
+     *
+     * @param email the email the client is trying to log in with
+     * @param clientIp the client address, or null if unknown
+     * @return true if the attempt may proceed, false if it must be rejected
+     */
+    public boolean tryAcquire(String email, String clientIp) {
+        long now = ticker.getAsLong();
+
+        if (clientIp != null
+                && !ipWindows
+                        .get(clientIp, key -> new SlidingWindow(now))
+                        .tryAcquire(now, windowNanos, maxAttemptsPerIp)) {
+            ipThrottled.increment();
+            return false;
+        }
+
+        if (!emailWindows
+                .get(normalize(email), key -> new SlidingWindow(now))
+                .tryAcquire(now, windowNanos, maxAttemptsPerEmail)) {
+            emailThrottled.increment();
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Clears the account counter after a successful login.
+     *
+     * @param email the email of the authenticated user
+     */
+    public void onSuccess(String email) {
+        emailWindows.invalidate(normalize(email));
+    }
+
+    private static String normalize(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /** Sliding-window counter approximated from the current and the previous fixed window. */
+    private static final class SlidingWindow {
+
+        private long windowStart;
+        private int current;
+        private int previous;
+
+        SlidingWindow(long now) {
+            this.windowStart = now;
+        }
+
+        synchronized boolean tryAcquire(long now, long windowNanos, int limit) {
+            long elapsed = now - windowStart;
+            if (elapsed >= 2 * windowNanos) {
+                previous = 0;
+                current = 0;
+                windowStart = now;
+                elapsed = 0;
+            } else if (elapsed >= windowNanos) {
+                previous = current;
+                current = 0;
+                windowStart += windowNanos;
+                elapsed -= windowNanos;
+            }
+
+            double previousWeight = 1.0 - (double) elapsed / windowNanos;
+            if (previous * previousWeight + current >= limit) {
+                return false;
+            }
+            current++;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.iyte_yazilim.proje_pazari.application.services;
+
+/**
+ * Thrown when the password hashing executor is saturated and cannot accept more work.
+ *
+ * <p>Mapped to {@code 503 Service Unavailable} with a {@code Retry-After} header by {@link
+ * com.iyte_yazilim.proje_pazari.presentation.config.GlobalExceptionHandler}.
+ *
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ * @see PasswordHashingService
+ */
+public class PasswordHashingRejectedException extends RuntimeException {
+
+    public PasswordHashingRejectedException(String message) {
+        super(message);
+    }
+
+    public PasswordHashingRejectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,181 @@
+package com.iyte_yazilim.proje_pazari.application.services;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+/**
+ * Runs password hashing on a dedicated, bounded executor.
+ *
+ * <p>BCrypt is deliberately slow. Running it on servlet threads lets a login burst occupy the whole
+ * Tomcat pool and starve unrelated requests. This service isolates the work on a fixed number of
+ * threads with a bounded queue; when both are full the call fails fast with {@link
+ * PasswordHashingRejectedException} instead of piling up.
+ *
+ * <h2>Configuration:</h2>
+ *
+ * <ul>
+ *   <li>{@code app.security.password-hashing.threads} - Worker threads (0 = available processors)
+ *   <li>{@code app.security.password-hashing.queue-capacity} - Maximum queued hash operations
+ *   <li>{@code app.security.password-hashing.timeout-ms} - Maximum time a caller waits in total
+ * </ul>
+ *
+ * <h2>Metrics:</h2>
+ *
+ * <ul>
+ *   <li>{@code password.hashing.queue.wait} - Time spent queued before a worker picks the task
+ *   <li>{@code password.hashing.duration} - Time spent hashing, tagged by {@code operation}
+ *   <li>{@code password.hashing.queue.depth} - Current queue length
+ *   <li>{@code password.hashing.rejected} - Requests rejected because the executor was saturated
+ * </ul>
+ *
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ * @see PasswordEncoder
+ */
+@Service
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    private final Timer queueWaitTimer;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHashingService(
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${app.security.password-hashing.threads:0}") int threads,
+            @Value("${app.security.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${app.security.password-hashing.timeout-ms:5000}") long timeoutMillis) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMillis = timeoutMillis;
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor =
+                new ThreadPoolExecutor(
+                        poolSize,
+                        poolSize,
+                        0L,
+                        TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(queueCapacity),
+                        new HashingThreadFactory(),
+                        new ThreadPoolExecutor.AbortPolicy());
+
+        this.queueWaitTimer =
+                Timer.builder("password.hashing.queue.wait")
+                        .description("Time password hashing tasks spend queued")
+                        .register(meterRegistry);
+        this.encodeTimer =
+                Timer.builder("password.hashing.duration")
+                        .description("Time spent hashing passwords")
+                        .tag("operation", "encode")
+                        .register(meterRegistry);
+        this.matchesTimer =
+                Timer.builder("password.hashing.duration")
+                        .description("Time spent hashing passwords")
+                        .tag("operation", "matches")
+                        .register(meterRegistry);
+        this.rejectedCounter =
+                Counter.builder("password.hashing.rejected")
+                        .description("Password hashing requests rejected due to saturation")
+                        .register(meterRegistry);
+        Gauge.builder("password.hashing.queue.depth", executor, e -> e.getQueue().size())
+                .description("Password hashing tasks waiting for a worker")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Hashes a raw password.
+     *
+     * @param rawPassword the password to hash
+     * @return the encoded password
+     * @throws PasswordHashingRejectedException if the executor is saturated
+     */
+    public String encode(String rawPassword) {
+        return submit(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Checks a raw password against a stored hash.
+     *
+     * @param rawPassword the password to check
+     * @param encodedPassword the stored hash
+     * @return true if the password matches
+     * @throws PasswordHashingRejectedException if the executor is saturated
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return submit(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    private <T> T submit(Timer hashTimer, Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future =
+                    executor.submit(
+                            () -> {
+                                queueWaitTimer.record(
+                                        System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                                return hashTimer.recordCallable(task);
+                            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new PasswordHashingRejectedException("Password hashing executor is saturated", e);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new PasswordHashingRejectedException("Password hashing timed out", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingRejectedException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /** Names worker threads so they are easy to spot in thread dumps. */
+    private static final class HashingThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hashing-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.iyte_yazilim.proje_pazari.application.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.iyte_yazilim.proje_pazari.domain.enums.ProjectStatus;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Recommends open projects to a user from the skills on their profile.
+ *
+ * <p>Every {@code OPEN} project with a free place, sharing at least one skill with the user and
+ * not owned by them, is scored as
+ *
+ * <pre>
+ * skill-weight    * overlap / sqrt(|user skills| * |project skills|)
+ * + recency-weight  * 0.5 ^ (age in days / half-life)
+ * + capacity-weight * open places / team size
+ * </pre>
+ *
+ * <p>The first term is the cosine similarity of the two skill bitmaps, so a project needing only
+ * the user's skills beats one that needs many others too. Projects without a team size limit
+ * count as fully open. Scoring is a single pass over the {@link ProjectSkillIndex} keeping the best
+ * {@value #MAX_RECOMMENDATIONS} in a bounded heap; no query touches the database except loading
+ * the user's skills.
+ *
+ * <h2>Caching:</h2>
+ *
+ * <p>Results are cached per user together with the {@linkplain ProjectSkillIndex#version() index
+ * version} they were computed from. Any project change moves the version, so the next read
+ * recomputes; a change of the user's own skills calls {@link #evict(String)}, which takes effect
+ * when the change commits. A result computed while any user's skills were changing is returned
+ * but not cached, so a read racing the commit cannot cache recommendations for the old skills.
+ *
+ * <h2>Configuration:</h2>
+ *
+ * <ul>
+ *   <li>{@code app.recommendations.skill-weight} - Weight of the skill similarity
+ *   <li>{@code app.recommendations.recency-weight} - Weight of the recency decay
+ *   <li>{@code app.recommendations.capacity-weight} - Weight of the open team fraction
+ *   <li>{@code app.recommendations.recency-half-life-days} - Age at which recency counts half
+ *   <li>{@code app.cache.recommendations.max-size} - Maximum number of cached users
+ *   <li>{@code app.cache.recommendations.ttl-seconds} - Time to live of an entry
+ * </ul>
+ *
+ * <p>Hit, miss and eviction metrics are published as {@code
+ * cache.*{cache=projects.recommendations}}.
+ *
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ */
+@Service
+public class ProjectRecommender {
+
+    /** Recommendations computed and cached per user; requests may ask for fewer. */
+    public static final int MAX_RECOMMENDATIONS = 50;
+
+    static final String CACHE_NAME = "projects.recommendations";
+
+    private final ProjectSkillIndex projectSkillIndex;
+    private final UserRepository userRepository;
+    private final double skillWeight;
+    private final double recencyWeight;
+    private final double capacityWeight;
+    private final double halfLifeDays;
+    private final Cache<String, Recommendations> cache;
+    private final AtomicLong skillChanges = new AtomicLong();
+
+    private record Recommendations(long version, List<String> projectIds) {}
+
+    public ProjectRecommender(
+            ProjectSkillIndex projectSkillIndex,
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.recommendations.skill-weight:1.0}") double skillWeight,
+            @Value("${app.recommendations.recency-weight:0.5}") double recencyWeight,
+            @Value("${app.recommendations.capacity-weight:0.25}") double capacityWeight,
+            @Value("${app.recommendations.recency-half-life-days:14}") double halfLifeDays,
+            @Value("${app.cache.recommendations.max-size:10000}") long maxSize,
+            @Value("${app.cache.recommendations.ttl-seconds:1800}") long ttlSeconds) {
+        this.projectSkillIndex = projectSkillIndex;
+        this.userRepository = userRepository;
+        this.skillWeight = skillWeight;
+        this.recencyWeight = recencyWeight;
+        this.capacityWeight = capacityWeight;
+        this.halfLifeDays = halfLifeDays;
+        this.cache =
+                Caffeine.newBuilder()
+                        .maximumSize(maxSize)
+                        .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                        .recordStats()
+                        .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Returns the projects best matching a user.
+     *
+     * @param userId the user's ULID
+     * @param limit maximum number of results, at most {@link #MAX_RECOMMENDATIONS}
+     * @return project ULIDs, best first; empty if the user has no known skills
+     */
+    public List<String> recommend(String userId, int limit) {
+        // Read the version first: a change during scoring leaves an entry that is already stale
+        long version = projectSkillIndex.version();
+        Recommendations cached = cache.getIfPresent(userId);
+        if (cached == null || cached.version() != version) {
+            long changes = skillChanges.get();
+            cached = new Recommendations(version, compute(userId));
+            if (skillChanges.get() == changes) {
+                cache.put(userId, cached);
+            }
+        }
+        List<String> ids = cached.projectIds();
+        return ids.subList(0, Math.min(Math.max(limit, 0), ids.size()));
+    }
+
+    /**
+     * Drops a user's recommendations once the current transaction commits.
+     *
+     * @param userId the user's ULID
+     */
+    public void evict(String userId) {
+        AfterCommit.run(
+                () -> {
+                    // Counted first, so a computation still reading the old skills is not cached
+                    skillChanges.incrementAndGet();
+                    cache.invalidate(userId);
+                });
+    }
+
+    private List<String> compute(String userId) {
+        SkillSet userSkills = projectSkillIndex.lookup(userRepository.findSkills(userId));
+        if (userSkills.isEmpty()) {
+            return List.of();
+        }
+
+        int userSkillCount = userSkills.size();
+        LocalDateTime now = LocalDateTime.now();
+        return projectSkillIndex
+                .top(
+                        p ->
+                                p.status() == ProjectStatus.OPEN
+                                        && p.openSlots() > 0
+                                        && !userId.equals(p.ownerId())
+                                        && p.skills().intersects(userSkills),
+                        p -> score(p, userSkills, userSkillCount, now),
+                        MAX_RECOMMENDATIONS)
+                .stream()
+                .map(ProjectSkillIndex.IndexedProject::id)
+                .toList();
+    }
+
+    private double score(
+            ProjectSkillIndex.IndexedProject project,
+            SkillSet userSkills,
+            int userSkillCount,
+            LocalDateTime now) {
+        double similarity =
+                project.skills().overlap(userSkills)
+                        / Math.sqrt((double) userSkillCount * project.skills().size());
+
+        double ageDays =
+                project.createdAt() == null
+                        ? 0
+                        : Math.max(0, Duration.between(project.createdAt(), now).toMinutes())
+                                / (double) Duration.ofDays(1).toMinutes();
+        double recency = Math.pow(0.5, ageDays / halfLifeDays);
+
+        double capacity =
+                project.maxTeamSize() == null || project.maxTeamSize() <= 0
+                        ? 1.0
+                        : (double) project.openSlots() / project.maxTeamSize();
+
+        return skillWeight * similarity + recencyWeight * recency + capacityWeight * capacity;
+    }
+}
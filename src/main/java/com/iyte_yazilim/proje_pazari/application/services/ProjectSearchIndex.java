@@ -0,0 +1,346 @@
+package com.iyte_yazilim.proje_pazari.application.services;
+
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.ProjectRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.ProjectEntity;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.projections.ProjectIndexState;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.projections.ProjectSearchRow;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Full-text index over project titles, summaries and descriptions.
+ *
+ * <p>Keyword search with {@code LIKE '%term%'} over the TEXT columns would scan the whole {@code
+ * projects} table. Instead the text is tokenized by {@link SearchTextAnalyzer} into an {@link
+ * InvertedIndex} held in memory and ranked by BM25. A term in the title counts {@value
+ * #TITLE_WEIGHT} times, in the summary {@value #SUMMARY_WEIGHT} times.
+ *
+ * <h2>Consistency:</h2>
+ *
+ * <ul>
+ *   <li>Write paths call {@link #index(ProjectEntity)}, which applies after the transaction
+ *       commits
+ *   <li>At startup the index is loaded from its snapshot and brought up to date from the
+ *       database: projects changed since the snapshot are re-read, deleted ones are dropped, and
+ *       statuses are refreshed. Without a snapshot, the same pass builds the index from scratch.
+ *   <li>The same pass then runs periodically for projects changed since the previous one, so
+ *       writes made on other instances show up within {@code app.search.sync.interval-ms}
+ *   <li>Drafts are indexed but never returned; a status change alone only flips their flag
+ * </ul>
+ *
+ * <h2>Configuration:</h2>
+ *
+ * <ul>
+ *   <li>{@code app.search.snapshot-path} - Snapshot file, by default under the temporary
+ *       directory; empty disables snapshots. Each instance needs its own.
+ *   <li>{@code app.search.snapshot-interval-ms} - How often a changed index is written
+ *   <li>{@code app.search.sync.interval-ms} - Delay between two passes against the database
+ *   <li>{@code app.search.sync.batch-size} - Projects read per query while synchronizing
+ * </ul>
+ *
+ * <h2>Metrics:</h2>
+ *
+ * <ul>
+ *   <li>{@code projects.search.documents} - Indexed projects
+ *   <li>{@code projects.search.terms} - Distinct terms
+ *   <li>{@code projects.search.postings.bytes} - Size of the encoded posting lists
+ * </ul>
+ *
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ * @see com.iyte_yazilim.proje_pazari.application.queries.searchProjects.SearchProjectsHandler
+ */
+@Service
+@Slf4j
+public class ProjectSearchIndex {
+
+    static final int TITLE_WEIGHT = 3;
+    static final int SUMMARY_WEIGHT = 2;
+
+    /**
+     * Changes stamped this long before a snapshot or pass began may still have been uncommitted
+     * or, on another instance, stamped by a clock running behind.
+     */
+    private static final Duration CHANGE_MARGIN = Duration.ofMinutes(5);
+
+    private final ProjectRepository projectRepository;
+    private final Path snapshotPath;
+    private final int batchSize;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private InvertedIndex index = new InvertedIndex();
+    private volatile LocalDateTime lastSyncStartedAt;
+
+    public ProjectSearchIndex(
+            ProjectRepository projectRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.search.snapshot-path:${java.io.tmpdir}/proje-pazari/project-search.idx}")
+                    String snapshotPath,
+            @Value("${app.search.sync.batch-size:500}") int batchSize) {
+        this.projectRepository = projectRepository;
+        this.snapshotPath = snapshotPath.isBlank() ? null : Path.of(snapshotPath);
+        this.batchSize = batchSize;
+
+        Gauge.builder("projects.search.documents", this, s -> s.read(InvertedIndex::size))
+                .description("Projects in the search index")
+                .register(meterRegistry);
+        Gauge.builder("projects.search.terms", this, s -> s.read(InvertedIndex::termCount))
+                .description("Distinct terms in the search index")
+                .register(meterRegistry);
+        Gauge.builder(
+                        "projects.search.postings.bytes",
+                        this,
+                        s -> s.read(InvertedIndex::postingBytes))
+                .description("Size of the encoded posting lists")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /** Loads the snapshot, if any, and synchronizes the index with the database. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        LocalDateTime since = null;
+        if (snapshotPath != null && Files.isRegularFile(snapshotPath)) {
+            try (DataInputStream in =
+                    new DataInputStream(
+                            new BufferedInputStream(Files.newInputStream(snapshotPath)))) {
+                LocalDateTime takenAt = LocalDateTime.parse(in.readUTF());
+                InvertedIndex loaded = InvertedIndex.readFrom(in);
+                write(() -> index = loaded);
+                since = takenAt.minus(CHANGE_MARGIN);
+                log.info("Loaded search index snapshot with {} projects", loaded.size());
+            } catch (IOException | RuntimeException e) {
+                log.warn("Ignoring unreadable search index snapshot {}", snapshotPath, e);
+            }
+        }
+
+        int reindexed = synchronize(since);
+        log.info("Search index synchronized, {} projects re-read", reindexed);
+        if (reindexed > 0) {
+            snapshot();
+        }
+    }
+
+    /**
+     * Re-reads projects changed since the previous pass, including changes made by other
+     * instances, and drops deleted ones.
+     */
+    @Scheduled(
+            initialDelayString = "${app.search.sync.interval-ms:300000}",
+            fixedDelayString = "${app.search.sync.interval-ms:300000}")
+    public void resynchronize() {
+        LocalDateTime previous = lastSyncStartedAt;
+        int reindexed = synchronize(previous == null ? null : previous.minus(CHANGE_MARGIN));
+        log.debug("Search index resynchronized, {} projects re-read", reindexed);
+    }
+
+    /**
+     * Brings the index in line with the database.
+     *
+     * @param since projects changed at or after this time are re-read; null re-reads all
+     * @return number of projects whose text was (re-)indexed
+     */
+    public int synchronize(LocalDateTime since) {
+        Instant startedAt = Instant.now();
+        lastSyncStartedAt = LocalDateTime.now();
+        Set<String> seen = new HashSet<>();
+        int reindexed = 0;
+        String afterId = null;
+
+        while (true) {
+            List<ProjectIndexState> batch =
+                    projectRepository.findIndexStates(afterId, PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            List<String> stale = new ArrayList<>();
+            Map<String, Boolean> listedFlags = new HashMap<>();
+            for (ProjectIndexState state : batch) {
+                seen.add(state.id());
+                boolean changed = since == null || !state.changedAt().isBefore(since);
+                if (changed || !read(i -> i.contains(state.id()))) {
+                    stale.add(state.id());
+                } else {
+                    listedFlags.put(state.id(), state.status().isListed());
+                }
+            }
+
+            List<ProjectSearchRow> rows =
+                    stale.isEmpty() ? List.of() : projectRepository.findSearchRows(stale);
+            List<Map<String, Integer>> documents = new ArrayList<>(rows.size());
+            for (ProjectSearchRow row : rows) {
+                documents.add(termFrequencies(row.title(), row.summary(), row.description()));
+            }
+            write(
+                    () -> {
+                        for (int i = 0; i < rows.size(); i++) {
+                            ProjectSearchRow row = rows.get(i);
+                            index.put(row.id(), documents.get(i), row.status().isListed());
+                        }
+                        listedFlags.forEach(index::setListed);
+                    });
+            reindexed += rows.size();
+
+            afterId = batch.get(batch.size() - 1).id();
+        }
+
+        write(
+                () -> {
+                    for (String key : index.keys()) {
+                        if (ProjectWalk.isDeleted(key, seen, startedAt)) {
+                            index.remove(key);
+                        }
+                    }
+                });
+        if (reindexed > 0) {
+            dirty.set(true);
+        }
+        return reindexed;
+    }
+
+    /**
+     * Indexes a project's current text and status once the current transaction commits.
+     *
+     * @param project the saved project
+     */
+    public void index(ProjectEntity project) {
+        String id = project.getId();
+        Map<String, Integer> document =
+                termFrequencies(project.getTitle(), project.getSummary(), project.getDescription());
+        boolean listed = project.getStatus().isListed();
+        afterCommit(() -> index.put(id, document, listed));
+    }
+
+    /**
+     * Removes a project from the index once the current transaction commits.
+     *
+     * @param projectId the project's ULID
+     */
+    public void remove(String projectId) {
+        afterCommit(() -> index.remove(projectId));
+    }
+
+    /**
+     * Ranks published projects against a free-text query.
+     *
+     * @param text the query
+     * @param limit maximum number of results
+     * @return project ULIDs, best match first
+     */
+    public List<String> search(String text, int limit) {
+        List<String> terms = SearchTextAnalyzer.tokenize(text);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        return read(i -> i.search(terms, limit)).stream().map(InvertedIndex.Hit::key).toList();
+    }
+
+    /** Writes the index to its snapshot file if it changed since the last snapshot. */
+    @Scheduled(
+            initialDelayString = "${app.search.snapshot-interval-ms:600000}",
+            fixedDelayString = "${app.search.snapshot-interval-ms:600000}")
+    public void snapshot() {
+        if (snapshotPath == null || !dirty.getAndSet(false)) {
+            return;
+        }
+
+        // Searches and updates only wait for the copy; the disk write happens outside the lock
+        LocalDateTime takenAt = LocalDateTime.now();
+        InvertedIndex copy = read(InvertedIndex::copy);
+        try {
+            Files.createDirectories(snapshotPath.toAbsolutePath().getParent());
+            Path temp = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+            try (DataOutputStream out =
+                    new DataOutputStream(
+                            new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeUTF(takenAt.toString());
+                copy.writeTo(out);
+            }
+            Files.move(
+                    temp,
+                    snapshotPath,
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            dirty.set(true);
+            log.warn("Could not write search index snapshot {}", snapshotPath, e);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        snapshot();
+    }
+
+    private static Map<String, Integer> termFrequencies(
+            String title, String summary, String description) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        addTerms(frequencies, title, TITLE_WEIGHT);
+        addTerms(frequencies, summary, SUMMARY_WEIGHT);
+        addTerms(frequencies, description, 1);
+        return frequencies;
+    }
+
+    private static void addTerms(Map<String, Integer> frequencies, String text, int weight) {
+        for (String term : SearchTextAnalyzer.tokenize(text)) {
+            frequencies.merge(term, weight, Integer::sum);
+        }
+    }
+
+    private void afterCommit(Runnable change) {
+        AfterCommit.run(
+                () -> {
+                    write(change);
+                    dirty.set(true);
+                });
+    }
+
+    private <T> T read(Function<InvertedIndex, T> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.apply(index);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void write(Runnable writer) {
+        lock.writeLock().lock();
+        try {
+            writer.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
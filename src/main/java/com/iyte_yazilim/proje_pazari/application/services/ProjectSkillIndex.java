@@ -0,0 +1,309 @@
+package com.iyte_yazilim.proje_pazari.application.services;
+
+import com.iyte_yazilim.proje_pazari.domain.enums.ProjectStatus;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.ProjectRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.ProjectEntity;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.projections.ProjectMatchState;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.projections.ProjectSkillRow;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * In-memory skill bitmaps of all projects, for skill overlap scoring without SQL.
+ *
+ * <p>Every project's skills are resolved once through the {@link SkillDictionary} into a {@link
+ * SkillSet}, so comparing them with a set of wanted skills is a scan of a few words per project:
+ * {@code AND != 0} for "any of", {@code bitCount} for overlap. Skill filters of the catalog are
+ * served by SQL instead (see {@code ProjectSummaryRepository#findSummaryPage}).
+ *
+ * <p>Projects are kept newest first. Drafts are kept but never returned. Besides skills, each entry
+ * carries the owner, creation time and team sizes that {@link ProjectRecommender} scores on.
+ *
+ * <h2>Consistency:</h2>
+ *
+ * <ul>
+ *   <li>Write paths call {@link #index(ProjectEntity)}, which applies after the transaction
+ *       commits
+ *   <li>At startup, and then periodically, the index is rebuilt from the database to pick up
+ *       status changes and deletions made outside those write paths
+ * </ul>
+ *
+ * <h2>Configuration:</h2>
+ *
+ * <ul>
+ *   <li>{@code app.skills.sync.interval-ms} - How often the index is synchronized
+ *   <li>{@code app.skills.sync.batch-size} - Projects read per query while synchronizing
+ * </ul>
+ *
+ * <h2>Metrics:</h2>
+ *
+ * <ul>
+ *   <li>{@code projects.skills.indexed} - Projects in the index
+ * </ul>
+ *
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ */
+@Service
+@Slf4j
+public class ProjectSkillIndex {
+
+    private final ProjectRepository projectRepository;
+    private final SkillDictionary skillDictionary;
+    private final int batchSize;
+
+    // Immutable entries replaced as a whole, so readers never need a lock
+    private final NavigableMap<String, IndexedProject> projects =
+            new ConcurrentSkipListMap<>(Comparator.reverseOrder());
+
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * What the index holds about a project.
+     *
+     * @param maxTeamSize team size limit, or null if the team is unlimited
+     */
+    public record IndexedProject(
+            String id,
+            String ownerId,
+            ProjectStatus status,
+            SkillSet skills,
+            LocalDateTime createdAt,
+            Integer maxTeamSize,
+            int currentTeamSize) {
+
+        public boolean isListed() {
+            return status.isListed();
+        }
+
+        /** Returns the places left in the team, or {@link Integer#MAX_VALUE} if unlimited. */
+        public int openSlots() {
+            return maxTeamSize == null
+                    ? Integer.MAX_VALUE
+                    : Math.max(0, maxTeamSize - currentTeamSize);
+        }
+    }
+
+    private record Scored(IndexedProject project, double score) {}
+
+    public ProjectSkillIndex(
+            ProjectRepository projectRepository,
+            SkillDictionary skillDictionary,
+            MeterRegistry meterRegistry,
+            @Value("${app.skills.sync.batch-size:500}") int batchSize) {
+        this.projectRepository = projectRepository;
+        this.skillDictionary = skillDictionary;
+        this.batchSize = batchSize;
+
+        Gauge.builder("projects.skills.indexed", projects, Map::size)
+                .description("Projects in the skill index")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        int indexed = synchronize();
+        log.info(
+                "Skill index built with {} projects and {} skills",
+                indexed,
+                skillDictionary.size());
+    }
+
+    /**
+     * Re-reads the status and skills of every project and drops deleted ones.
+     *
+     * @return number of projects indexed
+     */
+    @Scheduled(
+            initialDelayString = "${app.skills.sync.interval-ms:900000}",
+            fixedDelayString = "${app.skills.sync.interval-ms:900000}")
+    public int synchronize() {
+        Instant startedAt = Instant.now();
+        Set<String> seen = new HashSet<>();
+        String afterId = null;
+
+        while (true) {
+            List<ProjectMatchState> batch =
+                    projectRepository.findMatchStates(afterId, PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            List<String> ids = batch.stream().map(ProjectMatchState::id).toList();
+            Map<String, List<String>> skills = new HashMap<>();
+            for (ProjectSkillRow row : projectRepository.findSkillRows(ids)) {
+                skills.computeIfAbsent(row.projectId(), id -> new ArrayList<>()).add(row.skill());
+            }
+            for (ProjectMatchState state : batch) {
+                put(
+                        new IndexedProject(
+                                state.id(),
+                                state.ownerId(),
+                                state.status(),
+                                skillDictionary.encode(skills.get(state.id())),
+                                state.createdAt(),
+                                state.maxTeamSize(),
+                                teamSize(state.currentTeamSize())));
+                seen.add(state.id());
+            }
+
+            afterId = batch.get(batch.size() - 1).id();
+        }
+
+        if (projects.keySet().removeIf(id -> ProjectWalk.isDeleted(id, seen, startedAt))) {
+            version.incrementAndGet();
+        }
+        return seen.size();
+    }
+
+    /**
+     * Indexes a project's current status and skills once the current transaction commits.
+     *
+     * @param project the saved project
+     */
+    public void index(ProjectEntity project) {
+        IndexedProject entry =
+                new IndexedProject(
+                        project.getId(),
+                        project.getOwner().getId(),
+                        project.getStatus(),
+                        skillDictionary.encode(project.getRequiredSkills()),
+                        project.getCreatedAt(),
+                        project.getMaxTeamSize(),
+                        teamSize(project.getCurrentTeamSize()));
+        AfterCommit.run(() -> put(entry));
+    }
+
+    /**
+     * Removes a project from the index once the current transaction commits.
+     *
+     * @param projectId the project's ULID
+     */
+    public void remove(String projectId) {
+        AfterCommit.run(
+                () -> {
+                    if (projects.remove(projectId) != null) {
+                        version.incrementAndGet();
+                    }
+                });
+    }
+
+    /**
+     * Records a new team size of an indexed project once the current transaction commits.
+     *
+     * @param projectId the project's ULID
+     * @param currentTeamSize the team size written by the current transaction
+     */
+    public void updateTeamSize(String projectId, int currentTeamSize) {
+        AfterCommit.run(
+                () -> {
+                    IndexedProject updated =
+                            projects.computeIfPresent(
+                                    projectId,
+                                    (id, p) ->
+                                            new IndexedProject(
+                                                    p.id(),
+                                                    p.ownerId(),
+                                                    p.status(),
+                                                    p.skills(),
+                                                    p.createdAt(),
+                                                    p.maxTeamSize(),
+                                                    currentTeamSize));
+                    if (updated != null) {
+                        version.incrementAndGet();
+                    }
+                });
+    }
+
+    /**
+     * Returns a number that changes whenever an indexed project changes, so results derived from
+     * the index can be cached until it moves.
+     */
+    public long version() {
+        return version.get();
+    }
+
+    /**
+     * Returns the best-scoring published projects, keeping only {@code limit} candidates in a
+     * bounded heap while scanning.
+     *
+     * @param filter projects to consider
+     * @param score score of a project that passed the filter; higher is better
+     * @param limit maximum number of results
+     * @return projects by descending score, newer projects first on ties
+     */
+    public List<IndexedProject> top(
+            Predicate<IndexedProject> filter, ToDoubleFunction<IndexedProject> score, int limit) {
+        if (limit < 1) {
+            return List.of();
+        }
+
+        Comparator<Scored> weakestFirst =
+                Comparator.comparingDouble(Scored::score)
+                        .thenComparing(scored -> scored.project().id());
+        PriorityQueue<Scored> best = new PriorityQueue<>(weakestFirst);
+        for (IndexedProject project : projects.values()) {
+            if (!project.isListed() || !filter.test(project)) {
+                continue;
+            }
+            Scored candidate = new Scored(project, score.applyAsDouble(project));
+            if (best.size() < limit) {
+                best.add(candidate);
+            } else if (weakestFirst.compare(candidate, best.peek()) > 0) {
+                best.poll();
+                best.add(candidate);
+            }
+        }
+
+        IndexedProject[] ranked = new IndexedProject[best.size()];
+        for (int i = ranked.length - 1; i >= 0; i--) {
+            ranked[i] = best.poll().project();
+        }
+        return List.of(ranked);
+    }
+
+    /**
+     * Resolves skill names without registering new ones.
+     *
+     * @param skills skill names as typed; aliases are resolved and unknown skills ignored
+     * @return the known skills
+     */
+    public SkillSet lookup(Collection<String> skills) {
+        return SkillSet.of(
+                skills.stream().mapToInt(skillDictionary::idOf).filter(id -> id >= 0).toArray());
+    }
+
+    private void put(IndexedProject entry) {
+        if (!entry.equals(projects.put(entry.id(), entry))) {
+            version.incrementAndGet();
+        }
+    }
+
+    private static int teamSize(Integer currentTeamSize) {
+        return currentTeamSize == null ? 0 : currentTeamSize;
+    }
+}
@@ -0,0 +1,79 @@
+package com.iyte_yazilim.proje_pazari.application.services;
+
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.ProjectRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.ProjectEntity;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Brings {@code project_skill_keys} in line with the required skills of every project.
+ *
+ * <p>Covers projects saved before skill filter keys were stored, and keys computed by an older
+ * version of {@link ProjectEntity#skillKey}. Keys are recomputed through that same method, so
+ * they always match what {@code ProjectEntity#setRequiredSkills} stores. Projects are walked in
+ * batches, each in its own short transaction; only projects whose keys differ are written.
+ *
+ * <h2>Configuration:</h2>
+ *
+ * <ul>
+ *   <li>{@code app.projects.skill-keys.batch-size} - Projects loaded per transaction
+ * </ul>
+ *
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ * @see ProjectEntity#refreshRequiredSkillKeys()
+ */
+@Service
+@Slf4j
+public class ProjectSkillKeyBackfill {
+
+    private final ProjectRepository projectRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public ProjectSkillKeyBackfill(
+            ProjectRepository projectRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.projects.skill-keys.batch-size:500}") int batchSize) {
+        this.projectRepository = projectRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    /** Updates stale or missing keys once at startup. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int updated = 0;
+        String afterId = null;
+        while (true) {
+            List<String> ids =
+                    projectRepository.findIdsAfter(afterId, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            updated += transactionTemplate.execute(status -> refresh(ids));
+            afterId = ids.getLast();
+        }
+        if (updated > 0) {
+            log.info("Updated skill keys of {} projects", updated);
+        }
+    }
+
+    private int refresh(List<String> ids) {
+        int updated = 0;
+        for (ProjectEntity project : projectRepository.findWithSkillsByIds(ids)) {
+            if (project.refreshRequiredSkillKeys()) {
+                updated++;
+            }
+        }
+        return updated;
+    }
+}
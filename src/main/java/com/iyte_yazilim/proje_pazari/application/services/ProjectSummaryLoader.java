@@ -0,0 +1,56 @@
+package com.iyte_yazilim.proje_pazari.application.services;
+
+import com.iyte_yazilim.proje_pazari.application.dtos.ProjectSummaryDTO;
+import com.iyte_yazilim.proje_pazari.domain.enums.ProjectStatus;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.ProjectRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.projections.ProjectSummaryRow;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Loads the summaries of projects ranked by an in-memory index.
+ *
+ * <p>The summaries are read by primary key in one query and returned in the order of the ranking.
+ * Indexes may lag behind the database, so projects deleted since, or no longer in an accepted
+ * status, are dropped.
+ *
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ * @see ProjectSearchIndex
+ * @see ProjectRecommender
+ */
+@Service
+@RequiredArgsConstructor
+public class ProjectSummaryLoader {
+
+    private final ProjectRepository projectRepository;
+
+    /**
+     * Loads project summaries, keeping the rank order.
+     *
+     * @param ids project ULIDs, best first
+     * @param statuses statuses the projects must still have
+     * @return summaries of the projects that still exist with one of the statuses, best first
+     */
+    public List<ProjectSummaryDTO> loadRanked(List<String> ids, Set<ProjectStatus> statuses) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<String, ProjectSummaryRow> rows =
+                projectRepository.findSummariesByIds(ids).stream()
+                        .collect(Collectors.toMap(ProjectSummaryRow::id, Function.identity()));
+        return ids.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .filter(row -> statuses.contains(row.status()))
+                .map(ProjectSummaryDTO::from)
+                .toList();
+    }
+}
@@ -0,0 +1,33 @@
+package com.iyte_yazilim.proje_pazari.application.services;
+
+import com.github.f4b6a3.ulid.Ulid;
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * Shared rule of the in-memory project indexes for dropping projects that a full walk of the
+ * {@code projects} table did not see.
+ *
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ * @see ProjectSearchIndex
+ * @see ProjectSkillIndex
+ */
+final class ProjectWalk {
+
+    private ProjectWalk() {}
+
+    /**
+     * Returns whether an indexed project is gone from the database. Projects created after the
+     * walk began may not have been seen yet, so only projects created before it count.
+     *
+     * @param projectId the indexed project's ULID
+     * @param seen ULIDs of the projects the walk read
+     * @param startedAt when the walk began
+     * @return whether the project should be dropped from the index
+     */
+    static boolean isDeleted(String projectId, Set<String> seen, Instant startedAt) {
+        return !seen.contains(projectId) && Ulid.from(projectId).getInstant().isBefore(startedAt);
+    }
+}
@@ -0,0 +1,112 @@
+package com.iyte_yazilim.proje_pazari.application.services;
+
+import com.github.f4b6a3.ulid.Ulid;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.RefreshTokenRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.RefreshTokenEntity;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.UserEntity;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Issues and revokes opaque refresh tokens.
+ *
+ * <p>Refresh tokens are 256-bit random values. Because they carry full entropy, a single SHA-256
+ * digest is enough to store them safely, which makes renewing an access token an indexed lookup
+ * instead of a BCrypt password check.
+ *
+ * <h2>Configuration:</h2>
+ *
+ * <ul>
+ *   <li>{@code jwt.refresh-expiration} - Refresh token lifetime in milliseconds
+ * </ul>
+ *
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ * @see RefreshTokenRepository
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final long refreshExpiration;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public RefreshTokenService(
+            RefreshTokenRepository refreshTokenRepository,
+            @Value("${jwt.refresh-expiration:1209600000}") long refreshExpiration) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshExpiration = refreshExpiration;
+    }
+
+    /**
+     * Issues a refresh token that starts a new rotation family (used on login).
+     *
+     * @param user the authenticated user
+     * @return the raw refresh token; only its hash is stored
+     */
+    @Transactional
+    public String issue(UserEntity user) {
+        refreshTokenRepository.deleteExpiredByUserId(user.getId(), LocalDateTime.now());
+        return issue(user, Ulid.fast().toString());
+    }
+
+    /**
+     * Issues a refresh token in an existing rotation family (used on refresh).
+     *
+     * @param user the token owner
+     * @param familyId the rotation family of the token being replaced
+     * @return the raw refresh token; only its hash is stored
+     */
+    @Transactional
+    public String issue(UserEntity user, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        RefreshTokenEntity entity = new RefreshTokenEntity();
+        entity.setUser(user);
+        entity.setTokenHash(hash(rawToken));
+        entity.setFamilyId(familyId);
+        entity.setExpiresAt(LocalDateTime.now().plusNanos(refreshExpiration * 1_000_000L));
+        refreshTokenRepository.save(entity);
+
+        return rawToken;
+    }
+
+    /**
+     * Revokes every active refresh token of a user (e.g. after a password change).
+     *
+     * @param userId the user's ULID
+     */
+    @Transactional
+    public void revokeAll(String userId) {
+        refreshTokenRepository.revokeAllByUserId(userId, LocalDateTime.now());
+    }
+
+    /**
+     * Computes the stored form of a raw refresh token.
+     *
+     * @param rawToken the token as sent by the client
+     * @return SHA-256 hex digest
+     */
+    public String hash(String rawToken) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of()
+                    .formatHex(sha256.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.iyte_yazilim.proje_pazari.application.services;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Splits text into search terms for the project search index.
+ *
+ * <p>Terms are folded so that queries typed without a Turkish keyboard still match:
+ *
+ * <ol>
+ *   <li>Lower-cased with Turkish rules, so {@code İ} becomes {@code i} and {@code I} becomes
+ *       {@code ı} (not {@code i̇} or {@code i} as the root locale would)
+ *   <li>Diacritics are stripped ({@code ç ğ ö ş ü â î û} become {@code c g o s u a i u})
+ *   <li>Dotless {@code ı} is folded into {@code i}, which also restores English words such as
+ *       {@code "INTERNET"}
+ * </ol>
+ *
+ * <p>Terms are maximal runs of letters and digits of at least {@value #MIN_TERM_LENGTH} and at
+ * most {@value #MAX_TERM_LENGTH} characters. No stemming is applied.
+ *
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ * @see ProjectSearchIndex
+ */
+public final class SearchTextAnalyzer {
+
+    static final int MIN_TERM_LENGTH = 2;
+    static final int MAX_TERM_LENGTH = 40;
+
+    private static final Locale TURKISH = Locale.forLanguageTag("tr");
+
+    private SearchTextAnalyzer() {}
+
+    /**
+     * Returns the terms of a text in order of appearance, with repetitions.
+     *
+     * @param text the text, may be null
+     * @return folded terms
+     */
+    public static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return terms;
+        }
+
+        String folded = fold(text);
+        int start = -1;
+        for (int i = 0; i <= folded.length(); i++) {
+            boolean termChar = i < folded.length() && Character.isLetterOrDigit(folded.charAt(i));
+            if (termChar && start < 0) {
+                start = i;
+            } else if (!termChar && start >= 0) {
+                int length = i - start;
+                if (length >= MIN_TERM_LENGTH && length <= MAX_TERM_LENGTH) {
+                    terms.add(folded.substring(start, i));
+                }
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    /** Applies the case and diacritic folding described above, without splitting into terms. */
+    static String fold(String text) {
+        String lower = text.toLowerCase(TURKISH);
+        String decomposed = Normalizer.normalize(lower, Normalizer.Form.NFD);
+        StringBuilder folded = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            folded.append(c == 'ı' ? 'i' : c);
+        }
+        return folded.toString();
+    }
+}
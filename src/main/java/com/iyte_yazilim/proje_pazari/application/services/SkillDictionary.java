@@ -0,0 +1,212 @@
+package com.iyte_yazilim.proje_pazari.application.services;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.springframework.stereotype.Service;
+
+/**
+ * Maps free-text skill names to canonical skills with dense integer ids.
+ *
+ * <p>Project skills are typed by hand, so the same skill arrives as {@code "React"}, {@code
+ * "react.js"} and {@code "ReactJS"}. A name is reduced to a key by {@link #normalize}, aliases are
+ * resolved through a built-in table, and each distinct canonical skill gets the next id the first
+ * time it is {@linkplain #register registered}. Ids are small and dense, so a {@link SkillSet} of
+ * them is a compact bitmap.
+ *
+ * <p>Ids are assigned in memory and are not stable across restarts; never persist them.
+ *
+ * <h2>Metrics:</h2>
+ *
+ * <ul>
+ *   <li>{@code skills.dictionary.size} - Distinct canonical skills
+ * </ul>
+ *
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ * @see ProjectSkillIndex
+ */
+@Service
+public class SkillDictionary {
+
+    /** Canonical display names and the other spellings that mean the same skill. */
+    private static final Map<String, List<String>> CANONICAL_SKILLS =
+            Map.ofEntries(
+                    Map.entry("JavaScript", List.of("js", "ecmascript")),
+                    Map.entry("TypeScript", List.of("ts")),
+                    Map.entry("React", List.of("react.js", "reactjs", "react js")),
+                    Map.entry("Node.js", List.of("nodejs", "node js", "node")),
+                    Map.entry("Vue.js", List.of("vue", "vuejs")),
+                    Map.entry("Spring Boot", List.of("springboot", "spring-boot")),
+                    Map.entry("Go", List.of("golang")),
+                    Map.entry("C#", List.of("csharp", "c sharp")),
+                    Map.entry("C++", List.of("cpp", "cplusplus")),
+                    Map.entry("PostgreSQL", List.of("postgres", "psql")),
+                    Map.entry("Kubernetes", List.of("k8s")),
+                    Map.entry(
+                            "Machine Learning",
+                            List.of("ml", "makine öğrenmesi", "makine öğrenimi")),
+                    Map.entry("Artificial Intelligence", List.of("ai", "yapay zeka")),
+                    Map.entry("UI/UX Design", List.of("ui/ux", "ux/ui", "ui ux", "ux")));
+
+    private static final Map<String, String> ALIASES = buildAliases();
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private final List<String> names = new CopyOnWriteArrayList<>();
+
+    public SkillDictionary(MeterRegistry meterRegistry) {
+        Gauge.builder("skills.dictionary.size", this, SkillDictionary::size)
+                .description("Distinct canonical skills")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Reduces a skill name to its lookup key: folded like search terms, separators collapsed to
+     * single spaces. Characters that carry meaning in skill names ({@code . + #}) are kept.
+     *
+     * @param name the name as typed
+     * @return the key, or null for a blank name
+     */
+    public static String normalize(String name) {
+        if (name == null) {
+            return null;
+        }
+        String folded = SearchTextAnalyzer.fold(name);
+        StringBuilder key = new StringBuilder(folded.length());
+        for (int i = 0; i < folded.length(); i++) {
+            char c = folded.charAt(i);
+            boolean separator = Character.isWhitespace(c) || c == '-' || c == '_';
+            if (!separator) {
+                key.append(c);
+            } else if (!key.isEmpty() && key.charAt(key.length() - 1) != ' ') {
+                key.append(' ');
+            }
+        }
+        int end = key.length();
+        if (end > 0 && key.charAt(end - 1) == ' ') {
+            key.setLength(end - 1);
+        }
+        return key.isEmpty() ? null : key.toString();
+    }
+
+    /**
+     * Removes blank names and names meaning the same skill as an earlier one, aliases included.
+     *
+     * @param names names as typed
+     * @return the remaining names, stripped, in their original order
+     */
+    public static List<String> distinct(Collection<String> names) {
+        Map<String, String> byKey = new LinkedHashMap<>();
+        for (String name : names) {
+            String key = canonicalKey(name);
+            if (key != null) {
+                byKey.putIfAbsent(key, name.strip());
+            }
+        }
+        return new ArrayList<>(byKey.values());
+    }
+
+    /**
+     * Returns the id of a skill, assigning one if the skill is new.
+     *
+     * @param name the name as typed
+     * @return the id, or -1 for a blank name
+     */
+    public int register(String name) {
+        String key = canonicalKey(name);
+        if (key == null) {
+            return -1;
+        }
+        Integer id = ids.get(key);
+        if (id != null) {
+            return id;
+        }
+        synchronized (names) {
+            return ids.computeIfAbsent(
+                    key,
+                    k -> {
+                        names.add(ALIASES.containsKey(k) ? ALIASES.get(k) : name.strip());
+                        return names.size() - 1;
+                    });
+        }
+    }
+
+    /**
+     * Returns the id of a known skill.
+     *
+     * @param name the name as typed
+     * @return the id, or -1 if no project has used the skill
+     */
+    public int idOf(String name) {
+        String key = canonicalKey(name);
+        return key == null ? -1 : ids.getOrDefault(key, -1);
+    }
+
+    /**
+     * Returns the display name of a skill: its canonical name for known aliases, otherwise the
+     * spelling it was first registered with.
+     *
+     * @param id the skill id
+     * @return the name
+     * @throws IndexOutOfBoundsException if no skill has the id
+     */
+    public String nameOf(int id) {
+        return names.get(id);
+    }
+
+    /**
+     * Registers skill names and returns them as a set.
+     *
+     * @param skillNames names as typed; blank ones are ignored
+     * @return the set of their ids
+     */
+    public SkillSet encode(Collection<String> skillNames) {
+        if (skillNames == null || skillNames.isEmpty()) {
+            return SkillSet.EMPTY;
+        }
+        return SkillSet.of(
+                skillNames.stream().mapToInt(this::register).filter(id -> id >= 0).toArray());
+    }
+
+    public int size() {
+        return names.size();
+    }
+
+    /**
+     * Reduces a skill name to the key of the skill it means: its {@linkplain #normalize normalized}
+     * form, or that of the canonical name if it is a known alias.
+     *
+     * @param name the name as typed
+     * @return the key, or null for a blank name
+     */
+    public static String canonicalKey(String name) {
+        String key = normalize(name);
+        if (key == null) {
+            return null;
+        }
+        String canonical = ALIASES.get(key);
+        return canonical == null ? key : normalize(canonical);
+    }
+
+    // Maps the key of every alias and canonical name to the canonical display name
+    private static Map<String, String> buildAliases() {
+        Map<String, String> aliases = new HashMap<>();
+        CANONICAL_SKILLS.forEach(
+                (canonical, others) -> {
+                    List<String> spellings = new ArrayList<>(others);
+                    spellings.add(canonical);
+                    for (String spelling : spellings) {
+                        aliases.put(normalize(spelling), canonical);
+                    }
+                });
+        return Map.copyOf(aliases);
+    }
+}
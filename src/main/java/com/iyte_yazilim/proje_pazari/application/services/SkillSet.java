@@ -0,0 +1,125 @@
+package com.iyte_yazilim.proje_pazari.application.services;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable set of skill ids from a {@link SkillDictionary}, stored as a bitmap.
+ *
+ * <p>Bit {@code n} of word {@code n / 64} is set when skill {@code n} is in the set. Trailing zero
+ * words are trimmed, so a project needing a few common skills takes one or two words and every
+ * set operation is a loop of {@code AND}s and {@code bitCount}s over them.
+ *
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ * @see ProjectSkillIndex
+ */
+public final class SkillSet {
+
+    public static final SkillSet EMPTY = new SkillSet(new long[0]);
+
+    private final long[] words;
+
+    private SkillSet(long[] words) {
+        this.words = words;
+    }
+
+    /**
+     * Creates a set from skill ids.
+     *
+     * @param ids non-negative skill ids; duplicates are ignored
+     * @return the set
+     */
+    public static SkillSet of(int... ids) {
+        int max = -1;
+        for (int id : ids) {
+            if (id < 0) {
+                throw new IllegalArgumentException("Skill id must not be negative: " + id);
+            }
+            max = Math.max(max, id);
+        }
+        if (max < 0) {
+            return EMPTY;
+        }
+        long[] words = new long[(max >> 6) + 1];
+        for (int id : ids) {
+            words[id >> 6] |= 1L << id;
+        }
+        return new SkillSet(words);
+    }
+
+    /** Returns whether the skill is in this set. */
+    public boolean contains(int id) {
+        int word = id >> 6;
+        return id >= 0 && word < words.length && (words[word] & (1L << id)) != 0;
+    }
+
+    /** Returns whether every skill of {@code other} is in this set. */
+    public boolean containsAll(SkillSet other) {
+        if (other.words.length > words.length) {
+            // The last word of a trimmed set is never zero
+            return false;
+        }
+        for (int i = 0; i < other.words.length; i++) {
+            if ((words[i] & other.words[i]) != other.words[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Returns whether the sets share at least one skill. */
+    public boolean intersects(SkillSet other) {
+        int length = Math.min(words.length, other.words.length);
+        for (int i = 0; i < length; i++) {
+            if ((words[i] & other.words[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Returns the number of skills in both sets. */
+    public int overlap(SkillSet other) {
+        int length = Math.min(words.length, other.words.length);
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            count += Long.bitCount(words[i] & other.words[i]);
+        }
+        return count;
+    }
+
+    /** Returns the number of skills in this set. */
+    public int size() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return words.length == 0;
+    }
+
+    /** Returns the skill ids in increasing order. */
+    public IntStream ids() {
+        return IntStream.range(0, words.length << 6).filter(this::contains);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof SkillSet other && Arrays.equals(words, other.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(ids().toArray());
+    }
+}
@@ -0,0 +1,23 @@
+package com.iyte_yazilim.proje_pazari.application.services;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * An accepted upload waiting in a local staging file to be stored.
+ *
+ * <p>Closing it deletes the staging file, if the storage backend has not already moved it.
+ *
+ * @param fileName the name the image will be stored under
+ * @param file the staging file
+ * @param size the file size in bytes
+ * @see FileStorageService#stageImage(java.io.InputStream)
+ */
+public record StagedImage(String fileName, Path file, long size) implements AutoCloseable {
+
+    @Override
+    public void close() throws IOException {
+        Files.deleteIfExists(file);
+    }
+}
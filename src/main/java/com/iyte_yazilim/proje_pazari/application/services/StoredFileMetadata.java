@@ -0,0 +1,25 @@
+package com.iyte_yazilim.proje_pazari.application.services;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+/**
+ * Location and validators of a stored file, used to serve it and answer conditional requests.
+ *
+ * @param fileName the stored file name
+ * @param key the key of the file in the storage backend
+ * @param path absolute path of the file on disk, or null if the backend is not the local disk
+ * @param size the file size in bytes
+ * @param lastModified the file's last modification time
+ * @param etag SHA-256 digest of the file content (unquoted)
+ * @param immutable true if the name is never reused for different content
+ * @see FileStorageService#getFileMetadata(String)
+ */
+public record StoredFileMetadata(
+        String fileName,
+        String key,
+        Path path,
+        long size,
+        Instant lastModified,
+        String etag,
+        boolean immutable) {}
@@ -0,0 +1,195 @@
+package com.iyte_yazilim.proje_pazari.application.services;
+
+import com.iyte_yazilim.proje_pazari.domain.models.StoredObject;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.StoredFileRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Deletes uploaded files that nothing references any more.
+ *
+ * <p>Orphans appear when an upload lands on disk but its transaction rolls back, when an in-line
+ * delete of a replaced picture fails, or when a process dies mid-upload and leaves a temporary
+ * file behind. This job walks the storage once and deletes:
+ *
+ * <ul>
+ *   <li>Files that have no reference in {@code stored_files} and are not used as a {@code
+ *       users.profile_picture_url}
+ *   <li>Renditions whose original is gone
+ *   <li>Temporary files of uploads that never completed
+ * </ul>
+ *
+ * <h2>Safety and pacing:</h2>
+ *
+ * <p>Only files untouched for the grace period are considered, and the modification time is
+ * checked again right before deleting, so in-flight uploads are never removed. The reference
+ * count of an original is re-read under a row lock at that point too, so a file uploaded again
+ * after its batch was checked is kept. References are looked up with one query per table per
+ * batch; the job pauses between batches and stops after a maximum number of deletions per run to
+ * keep its disk and database load low.
+ *
+ * <h2>Configuration:</h2>
+ *
+ * <ul>
+ *   <li>{@code app.upload.gc.interval-ms} - Delay between two runs
+ *   <li>{@code app.upload.gc.grace-period-minutes} - Minimum age of a file before it may be deleted
+ *   <li>{@code app.upload.gc.batch-size} - Files checked per batch
+ *   <li>{@code app.upload.gc.batch-pause-ms} - Pause between two batches
+ *   <li>{@code app.upload.gc.max-deletes-per-run} - Upper bound on deletions per run
+ * </ul>
+ *
+ * <p>Deletions and reclaimed space are published as {@code uploads.gc.deleted} and {@code
+ * uploads.gc.reclaimed} (bytes).
+ *
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ * @see FileStorageService#walkFiles()
+ */
+@Service
+@Slf4j
+public class UploadGarbageCollector {
+
+    private final FileStorageService fileStorageService;
+    private final StoredFileRepository storedFileRepository;
+    private final UserRepository userRepository;
+    private final Duration gracePeriod;
+    private final int batchSize;
+    private final long batchPauseMillis;
+    private final int maxDeletesPerRun;
+
+    private final Counter deletedCounter;
+    private final Counter reclaimedBytesCounter;
+
+    public UploadGarbageCollector(
+            FileStorageService fileStorageService,
+            StoredFileRepository storedFileRepository,
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.upload.gc.grace-period-minutes:60}") long gracePeriodMinutes,
+            @Value("${app.upload.gc.batch-size:200}") int batchSize,
+            @Value("${app.upload.gc.batch-pause-ms:1000}") long batchPauseMillis,
+            @Value("${app.upload.gc.max-deletes-per-run:5000}") int maxDeletesPerRun) {
+        this.fileStorageService = fileStorageService;
+        this.storedFileRepository = storedFileRepository;
+        this.userRepository = userRepository;
+        this.gracePeriod = Duration.ofMinutes(gracePeriodMinutes);
+        this.batchSize = batchSize;
+        this.batchPauseMillis = batchPauseMillis;
+        this.maxDeletesPerRun = maxDeletesPerRun;
+
+        this.deletedCounter =
+                Counter.builder("uploads.gc.deleted")
+                        .description("Orphaned upload files deleted")
+                        .register(meterRegistry);
+        this.reclaimedBytesCounter =
+                Counter.builder("uploads.gc.reclaimed")
+                        .description("Disk space reclaimed by deleting orphaned uploads")
+                        .baseUnit("bytes")
+                        .register(meterRegistry);
+    }
+
+    /**
+     * Walks the storage once and deletes orphaned files.
+     *
+     * @return number of bytes reclaimed
+     */
+    @Scheduled(
+            initialDelayString = "${app.upload.gc.interval-ms:21600000}",
+            fixedDelayString = "${app.upload.gc.interval-ms:21600000}")
+    public long collect() {
+        Instant cutoff = Instant.now().minus(gracePeriod);
+        long reclaimed = 0;
+        int deleted = 0;
+
+        try (Stream<StoredObject> files = fileStorageService.walkFiles()) {
+            Iterator<StoredObject> iterator = files.iterator();
+            List<StoredObject> batch = new ArrayList<>(batchSize);
+
+            while (iterator.hasNext() && deleted < maxDeletesPerRun) {
+                StoredObject file = iterator.next();
+                if (file.lastModified().isBefore(cutoff)) {
+                    batch.add(file);
+                }
+                if (batch.size() == batchSize || (!iterator.hasNext() && !batch.isEmpty())) {
+                    for (StoredObject orphan : findOrphans(batch)) {
+                        if (deleted >= maxDeletesPerRun) {
+                            break;
+                        }
+                        long bytes = fileStorageService.deleteIfUnmodifiedSince(orphan, cutoff);
+                        if (bytes >= 0) {
+                            deleted++;
+                            reclaimed += bytes;
+                            deletedCounter.increment();
+                            reclaimedBytesCounter.increment(bytes);
+                        }
+                    }
+                    batch.clear();
+                    pause();
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("Upload garbage collection stopped; it continues on the next run", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (deleted > 0) {
+            log.info("Deleted {} orphaned uploads, reclaimed {} bytes", deleted, reclaimed);
+        }
+        return reclaimed;
+    }
+
+    private List<StoredObject> findOrphans(List<StoredObject> batch) throws IOException {
+        Set<String> names = new HashSet<>();
+        Set<String> urls = new HashSet<>();
+        for (StoredObject file : batch) {
+            String name = file.name();
+            names.add(name);
+            urls.add(FileStorageService.PUBLIC_URL_PREFIX + name);
+        }
+
+        Set<String> referenced = new HashSet<>(storedFileRepository.findExistingNames(names));
+        for (String url : userRepository.findReferencedProfilePictureUrls(urls)) {
+            referenced.add(url.substring(FileStorageService.PUBLIC_URL_PREFIX.length()));
+        }
+
+        List<StoredObject> orphans = new ArrayList<>();
+        for (StoredObject file : batch) {
+            String name = file.name();
+            boolean orphan;
+            if (fileStorageService.isTemporary(file)) {
+                orphan = true;
+            } else if (fileStorageService.isRendition(name)) {
+                // Renditions are never referenced directly; they live as long as their original
+                orphan = fileStorageService.isOrphanedRendition(name);
+            } else {
+                orphan = !referenced.contains(name);
+            }
+            if (orphan) {
+                orphans.add(file);
+            }
+        }
+        return orphans;
+    }
+
+    private void pause() throws InterruptedException {
+        if (batchPauseMillis > 0) {
+            Thread.sleep(batchPauseMillis);
+        }
+    }
+}
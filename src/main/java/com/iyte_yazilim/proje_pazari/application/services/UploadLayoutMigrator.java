@@ -0,0 +1,160 @@
+package com.iyte_yazilim.proje_pazari.application.services;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Moves uploads from the old flat directory into the sharded layout.
+ *
+ * <p>Runs once in the background after startup. The flat directory itself is the migration
+ * state: every moved file disappears from it, so an interrupted run simply resumes with whatever
+ * is left on the next start. Files are moved by atomic rename and {@link FileStorageService}
+ * looks in both layouts, so {@code /api/v1/files/{name}} keeps working throughout.
+ *
+ * <h2>Configuration:</h2>
+ *
+ * <ul>
+ *   <li>{@code app.upload.migration.enabled} - Run the migration at startup
+ *   <li>{@code app.upload.migration.parallelism} - Files moved concurrently
+ *   <li>{@code app.upload.migration.batch-size} - Files listed per pass over the root
+ * </ul>
+ *
+ * <p>Moved files are counted as {@code uploads.migration.moved}.
+ *
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ * @see FileStorageService#moveToShardedLayout(String)
+ */
+@Service
+@Slf4j
+public class UploadLayoutMigrator {
+
+    private final FileStorageService fileStorageService;
+    private final boolean enabled;
+    private final int batchSize;
+    private final ExecutorService workers;
+    private final Counter movedCounter;
+
+    public UploadLayoutMigrator(
+            FileStorageService fileStorageService,
+            MeterRegistry meterRegistry,
+            @Value("${app.upload.migration.enabled:true}") boolean enabled,
+            @Value("${app.upload.migration.parallelism:4}") int parallelism,
+            @Value("${app.upload.migration.batch-size:500}") int batchSize) {
+        this.fileStorageService = fileStorageService;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        AtomicInteger counter = new AtomicInteger();
+        this.workers =
+                Executors.newFixedThreadPool(
+                        parallelism,
+                        runnable -> {
+                            Thread thread =
+                                    new Thread(
+                                            runnable,
+                                            "uploads-migration-" + counter.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        this.movedCounter =
+                Counter.builder("uploads.migration.moved")
+                        .description("Uploads moved from the flat into the sharded layout")
+                        .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void startInBackground() {
+        if (!enabled) {
+            return;
+        }
+        Thread coordinator = new Thread(this::migrateQuietly, "uploads-migration");
+        coordinator.setDaemon(true);
+        coordinator.start();
+    }
+
+    /**
+     * Moves every file left in the flat layout.
+     *
+     * @return number of files moved
+     * @throws IOException if the storage root cannot be listed
+     * @throws InterruptedException if interrupted while waiting for a batch
+     */
+    public int migrate() throws IOException, InterruptedException {
+        int moved = 0;
+        // Files that failed to move are skipped for the rest of this run
+        Set<String> failed = ConcurrentHashMap.newKeySet();
+
+        while (true) {
+            List<String> batch = fileStorageService.listUnshardedFiles(batchSize, failed);
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            List<Callable<Boolean>> moves = new ArrayList<>(batch.size());
+            for (String fileName : batch) {
+                moves.add(() -> move(fileName, failed));
+            }
+            for (Future<Boolean> result : workers.invokeAll(moves)) {
+                try {
+                    if (result.get()) {
+                        moved++;
+                    }
+                } catch (ExecutionException e) {
+                    // move() reports its own failures
+                }
+            }
+        }
+
+        if (moved > 0 || !failed.isEmpty()) {
+            log.info("Moved {} uploads to the sharded layout, {} failed", moved, failed.size());
+        }
+        return moved;
+    }
+
+    private boolean move(String fileName, Set<String> failed) {
+        try {
+            boolean moved = fileStorageService.moveToShardedLayout(fileName);
+            if (moved) {
+                movedCounter.increment();
+            }
+            return moved;
+        } catch (IOException | RuntimeException e) {
+            failed.add(fileName);
+            log.warn("Failed to move upload {} to the sharded layout", fileName, e);
+            return false;
+        }
+    }
+
+    private void migrateQuietly() {
+        try {
+            migrate();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | RuntimeException e) {
+            log.error("Upload layout migration stopped; it resumes on the next start", e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdownNow();
+    }
+}
@@ -0,0 +1,80 @@
+package com.iyte_yazilim.proje_pazari.application.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.iyte_yazilim.proje_pazari.application.dtos.UserProfileDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Read-through cache of assembled {@link UserProfileDTO}s, keyed by user id.
+ *
+ * <p>Profile pages are the hottest reads of the API. Entries are bounded in number and expire
+ * after a fixed TTL as a safety net, but correctness relies on explicit eviction: every handler
+ * that changes data shown on a profile calls {@link #evict(String)}.
+ *
+ * <h2>Consistency:</h2>
+ *
+ * <p>Inside a transaction the entry is evicted immediately and again after commit. The second
+ * eviction removes any value a concurrent reader loaded from the not yet committed state; it
+ * waits for an in-flight load of the same key, so a stale value cannot survive it.
+ *
+ * <h2>Configuration:</h2>
+ *
+ * <ul>
+ *   <li>{@code app.cache.user-profile.max-size} - Maximum number of cached profiles
+ *   <li>{@code app.cache.user-profile.ttl-seconds} - Time to live of an entry
+ * </ul>
+ *
+ * <p>Hit, miss and eviction metrics are published as {@code cache.*{cache=user.profiles}}.
+ *
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ * @see com.iyte_yazilim.proje_pazari.application.queries.getUserProfile.GetUserProfileHandler
+ */
+@Service
+public class UserProfileCache {
+
+    static final String CACHE_NAME = "user.profiles";
+
+    private final Cache<String, UserProfileDTO> cache;
+
+    public UserProfileCache(
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.user-profile.max-size:10000}") long maxSize,
+            @Value("${app.cache.user-profile.ttl-seconds:300}") long ttlSeconds) {
+        this.cache =
+                Caffeine.newBuilder()
+                        .maximumSize(maxSize)
+                        .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                        .recordStats()
+                        .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Returns the cached profile, loading it on a miss.
+     *
+     * @param userId the user's ULID
+     * @param loader builds the profile; may return null if the user does not exist
+     * @return the profile, or null if the user does not exist (not cached)
+     */
+    public UserProfileDTO get(String userId, Function<String, UserProfileDTO> loader) {
+        return cache.get(userId, loader);
+    }
+
+    /**
+     * Evicts a user's profile, and again after the current transaction commits.
+     *
+     * @param userId the user's ULID
+     */
+    public void evict(String userId) {
+        cache.invalidate(userId);
+        AfterCommit.run(() -> cache.invalidate(userId));
+    }
+}
@@ -0,0 +1,100 @@
+package com.iyte_yazilim.proje_pazari.application.services;
+
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.UserRepository;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Repairs drift in the denormalized per-user activity counters.
+ *
+ * <p>{@code projects_created_count} and {@code applications_submitted_count} are incremented in
+ * the same transaction as the write they count, so they are normally exact. Rows written outside
+ * the handlers (manual fixes, imports, deletes) can still make them drift; this job recomputes them
+ * in batches of users walked in id order. Each batch is its own short transaction and only rows
+ * whose counters differ are updated.
+ *
+ * <p>A first pass runs at startup, so users created before the counters existed are backfilled
+ * right after deployment instead of showing zero until the first scheduled run.
+ *
+ * <h2>Configuration:</h2>
+ *
+ * <ul>
+ *   <li>{@code app.stats.reconcile.interval-ms} - Delay between two runs
+ *   <li>{@code app.stats.reconcile.batch-size} - Users checked per transaction
+ * </ul>
+ *
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ * @see UserRepository#reconcileActivityCounters(List)
+ */
+@Service
+@Slf4j
+public class UserStatsReconciler {
+
+    private final UserRepository userRepository;
+    private final UserProfileCache userProfileCache;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public UserStatsReconciler(
+            UserRepository userRepository,
+            UserProfileCache userProfileCache,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.stats.reconcile.batch-size:500}") int batchSize) {
+        this.userRepository = userRepository;
+        this.userProfileCache = userProfileCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    /** Backfills the counters once at startup. */
+    @EventListener(ApplicationReadyEvent.class)
+    void backfill() {
+        reconcile();
+    }
+
+    /**
+     * Walks all users once and repairs drifted counters.
+     *
+     * @return number of users whose counters were repaired
+     */
+    @Scheduled(
+            initialDelayString = "${app.stats.reconcile.interval-ms:3600000}",
+            fixedDelayString = "${app.stats.reconcile.interval-ms:3600000}")
+    public int reconcile() {
+        int repaired = 0;
+        String afterId = null;
+
+        while (true) {
+            List<String> batch = userRepository.findIdsAfter(afterId, PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            Integer updated =
+                    transactionTemplate.execute(
+                            status -> userRepository.reconcileActivityCounters(batch));
+            if (updated != null && updated > 0) {
+                repaired += updated;
+                // Counters are shown on profiles; the batch is small, so evicting it is cheap
+                batch.forEach(userProfileCache::evict);
+            }
+
+            afterId = batch.get(batch.size() - 1);
+        }
+
+        if (repaired > 0) {
+            log.warn("Repaired activity counters of {} users", repaired);
+        }
+        return repaired;
+    }
+}
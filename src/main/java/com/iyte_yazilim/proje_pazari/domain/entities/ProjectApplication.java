@@ -1,6 +1,7 @@
 package com.iyte_yazilim.proje_pazari.domain.entities;
 
 import com.github.f4b6a3.ulid.Ulid;
+import com.iyte_yazilim.proje_pazari.domain.enums.ApplicationStatus;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -40,4 +41,7 @@ public class ProjectApplication extends BaseEntity<Ulid> {
 
     /** The user who submitted this application. */
     private User user;
+
+    /** Review state; starts as {@link ApplicationStatus#PENDING}. */
+    private ApplicationStatus status;
 }
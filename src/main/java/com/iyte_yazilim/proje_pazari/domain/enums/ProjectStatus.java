@@ -1,5 +1,8 @@
 package com.iyte_yazilim.proje_pazari.domain.enums;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * Represents the lifecycle status of a project in the Proje Pazarı system.
  *
@@ -30,5 +33,30 @@ public enum ProjectStatus {
     COMPLETED,
 
     /** Project has been cancelled or abandoned. */
-    CANCELLED
+    CANCELLED;
+
+    /**
+     * Returns whether projects in this status appear in public listings and searches. Drafts are
+     * private to their owner.
+     *
+     * @return false for {@link #DRAFT}, true otherwise
+     */
+    public boolean isListed() {
+        return this != DRAFT;
+    }
+
+    /**
+     * Returns every status that appears in public listings and searches.
+     *
+     * @return a new set of the {@linkplain #isListed() listed} statuses
+     */
+    public static Set<ProjectStatus> listed() {
+        Set<ProjectStatus> listed = EnumSet.noneOf(ProjectStatus.class);
+        for (ProjectStatus status : values()) {
+            if (status.isListed()) {
+                listed.add(status);
+            }
+        }
+        return listed;
+    }
 }
@@ -13,8 +13,8 @@ import lombok.Getter;
  *
  * <ul>
  *   <li><b>0-3:</b> Success codes
- *   <li><b>4-9:</b> Client error codes
- *   <li><b>10+:</b> Server error codes
+ *   <li><b>4-9, 12:</b> Client error codes
+ *   <li><b>10-11:</b> Server error codes
  * </ul>
  *
  * @author IYTE Yazılım Topluluğu
@@ -58,9 +58,15 @@ public enum ResponseCode {
     /** Request failed validation checks. */
     VALIDATION_ERROR(9),
 
+    /** Too many requests; the client has to wait before retrying. */
+    TOO_MANY_REQUESTS(12),
+
     // Server error codes
     /** Unexpected server error occurred. */
-    INTERNAL_SERVER_ERROR(10);
+    INTERNAL_SERVER_ERROR(10),
+
+    /** Server is temporarily overloaded; the request may be retried later. */
+    SERVICE_UNAVAILABLE(11);
 
     /** Numeric status code for this response type. */
     private final int status;
@@ -0,0 +1,116 @@
+package com.iyte_yazilim.proje_pazari.domain.interfaces;
+
+import com.iyte_yazilim.proje_pazari.domain.models.StoredObject;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.stream.Stream;
+
+/**
+ * Where uploaded files are kept.
+ *
+ * <p>Objects are addressed by keys relative to the backend root, with {@code /} separating
+ * directory levels. Naming, reference counting and layout are decided by the caller; a backend
+ * only stores bytes. Implementations must be safe for concurrent use.
+ *
+ * <h2>Implementations:</h2>
+ *
+ * <ul>
+ *   <li>{@code LocalStorageBackend} - a directory on the local disk ({@code
+ *       app.upload.backend=local})
+ *   <li>{@code S3StorageBackend} - a bucket of any S3-compatible object store, shared by all
+ *       application nodes ({@code app.upload.backend=s3})
+ * </ul>
+ *
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ */
+public interface IStorageBackend {
+
+    /**
+     * Reads the size and modification time of an object.
+     *
+     * @param key the object key
+     * @return the object, or null if it does not exist
+     * @throws IOException if the backend cannot be reached
+     */
+    StoredObject stat(String key) throws IOException;
+
+    /**
+     * Opens an object for reading.
+     *
+     * @param key the object key
+     * @return the object content; must be closed by the caller
+     * @throws FileNotFoundException if the object does not exist
+     * @throws IOException if the backend cannot be reached
+     */
+    InputStream open(String key) throws IOException;
+
+    /**
+     * Stores a local file under a key, replacing any existing object atomically.
+     *
+     * <p>The source file may be moved rather than copied; callers must not use it afterwards.
+     *
+     * @param key the object key
+     * @param source a complete local file
+     * @param contentType the media type to serve the object with
+     * @throws IOException if the object cannot be written
+     */
+    void put(String key, Path source, String contentType) throws IOException;
+
+    /**
+     * Deletes an object if it exists.
+     *
+     * @param key the object key
+     * @return false if the object certainly did not exist; backends that cannot tell return true
+     * @throws IOException if the backend cannot be reached
+     */
+    boolean delete(String key) throws IOException;
+
+    /**
+     * Moves an object to another key.
+     *
+     * @param sourceKey the current key
+     * @param targetKey the new key; an existing object is replaced
+     * @return true if the object was moved, false if it no longer exists under the source key
+     * @throws IOException if the object cannot be moved
+     */
+    boolean move(String sourceKey, String targetKey) throws IOException;
+
+    /**
+     * Lists stored objects.
+     *
+     * <p>The stream may hold open resources (directory handles, pending HTTP pages) and must be
+     * closed by the caller.
+     *
+     * @param recursive false to list only objects directly below the root
+     * @return the objects, in no particular order
+     * @throws IOException if the listing cannot be started
+     */
+    Stream<StoredObject> list(boolean recursive) throws IOException;
+
+    /**
+     * Returns the local file holding an object, for zero-copy serving.
+     *
+     * @param key the object key
+     * @return the file path, or null if the backend does not keep objects on the local disk
+     */
+    default Path localPath(String key) {
+        return null;
+    }
+
+    /**
+     * Creates a time-limited URL from which clients can download an object directly.
+     *
+     * @param key the object key
+     * @param validFor how long the URL stays usable
+     * @return the presigned URL, or null if the backend cannot hand out direct links
+     */
+    default URI presignedDownloadUri(String key, Duration validFor) {
+        return null;
+    }
+}
@@ -80,6 +80,14 @@ public class ApiResponse<T> {
         return new ApiResponse<>(null, message, ResponseCode.VALIDATION_ERROR);
     }
 
+    public static <T> ApiResponse<T> tooManyRequests(String message) {
+        return new ApiResponse<>(null, message, ResponseCode.TOO_MANY_REQUESTS);
+    }
+
+    public static <T> ApiResponse<T> serviceUnavailable(String message) {
+        return new ApiResponse<>(null, message, ResponseCode.SERVICE_UNAVAILABLE);
+    }
+
     public static <T> ApiResponse<T> error(String message) {
         return new ApiResponse<>(null, message, ResponseCode.INTERNAL_SERVER_ERROR);
     }
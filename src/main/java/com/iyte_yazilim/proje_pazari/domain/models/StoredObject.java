@@ -0,0 +1,25 @@
+package com.iyte_yazilim.proje_pazari.domain.models;
+
+import java.time.Instant;
+
+/**
+ * An object held by an {@link com.iyte_yazilim.proje_pazari.domain.interfaces.IStorageBackend}.
+ *
+ * @param key the object key, relative to the backend root and separated by {@code /}
+ * @param size the object size in bytes
+ * @param lastModified the time the object was last written
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ */
+public record StoredObject(String key, long size, Instant lastModified) {
+
+    /**
+     * Returns the last segment of the key.
+     *
+     * @return the object name without its directory prefix
+     */
+    public String name() {
+        return key.substring(key.lastIndexOf('/') + 1);
+    }
+}
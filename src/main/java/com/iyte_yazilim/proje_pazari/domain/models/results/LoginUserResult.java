@@ -9,7 +9,10 @@ package com.iyte_yazilim.proje_pazari.domain.models.results;
  * @param email the authenticated user's email address
  * @param firstName the user's first name
  * @param lastName the user's last name
+ * @param role the user's role
  * @param token the JWT authentication token for API access
+ * @param refreshToken single-use token for {@code POST /api/v1/auth/refresh}
+ * @param expiresIn access token lifetime in milliseconds
  * @author IYTE Yazılım Topluluğu
  * @version 1.0
  * @since 2024-01-01
@@ -21,4 +24,6 @@ public record LoginUserResult(
         String firstName,
         String lastName,
         String role,
-        String token) {}
+        String token,
+        String refreshToken,
+        long expiresIn) {}
@@ -0,0 +1,14 @@
+package com.iyte_yazilim.proje_pazari.domain.models.results;
+
+/**
+ * Result returned after a successful token refresh.
+ *
+ * @param token the new JWT access token
+ * @param refreshToken the new refresh token; the presented one can no longer be used
+ * @param expiresIn access token lifetime in milliseconds
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ * @see com.iyte_yazilim.proje_pazari.application.commands.refreshToken.RefreshTokenCommand
+ */
+public record RefreshTokenResult(String token, String refreshToken, long expiresIn) {}
@@ -1,10 +1,14 @@
 package com.iyte_yazilim.proje_pazari.infrastructure.config;
 
+import com.iyte_yazilim.proje_pazari.domain.interfaces.IStorageBackend;
+import com.iyte_yazilim.proje_pazari.infrastructure.storage.LocalStorageBackend;
+import com.iyte_yazilim.proje_pazari.infrastructure.storage.S3StorageBackend;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -14,10 +18,32 @@ public class FileStorageConfig {
     @Value("${app.upload.dir:./uploads}")
     private String uploadDir;
 
+    /** Local directory for uploads; with an object store backend it only holds staging files. */
     @Bean
     public Path fileStorageLocation() throws IOException {
         Path path = Paths.get(uploadDir).toAbsolutePath().normalize();
         Files.createDirectories(path);
         return path;
     }
+
+    @Bean
+    @ConditionalOnProperty(
+            name = "app.upload.backend",
+            havingValue = "local",
+            matchIfMissing = true)
+    public IStorageBackend localStorageBackend(Path fileStorageLocation) {
+        return new LocalStorageBackend(fileStorageLocation);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.upload.backend", havingValue = "s3")
+    public IStorageBackend s3StorageBackend(
+            @Value("${app.upload.s3.endpoint}") String endpoint,
+            @Value("${app.upload.s3.public-endpoint:}") String publicEndpoint,
+            @Value("${app.upload.s3.region:us-east-1}") String region,
+            @Value("${app.upload.s3.bucket}") String bucket,
+            @Value("${app.upload.s3.access-key}") String accessKey,
+            @Value("${app.upload.s3.secret-key}") String secretKey) {
+        return new S3StorageBackend(endpoint, publicEndpoint, region, bucket, accessKey, secretKey);
+    }
 }
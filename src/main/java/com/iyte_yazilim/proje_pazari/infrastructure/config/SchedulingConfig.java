@@ -0,0 +1,9 @@
+package com.iyte_yazilim.proje_pazari.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/** Enables {@code @Scheduled} background jobs such as counter reconciliation. */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {}
@@ -0,0 +1,77 @@
+package com.iyte_yazilim.proje_pazari.infrastructure.persistence;
+
+import com.iyte_yazilim.proje_pazari.domain.enums.ApplicationStatus;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.ProjectApplicationEntity;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * JPA Repository for project applications.
+ *
+ * <p>A user can apply to a project once; the {@code (project_id, user_id)} unique constraint
+ * enforces it even when two requests race past {@link #existsByProjectIdAndUserId}.
+ *
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ * @see ProjectApplicationEntity
+ */
+public interface ProjectApplicationRepository
+        extends JpaRepository<ProjectApplicationEntity, String> {
+
+    /**
+     * Checks whether a user already applied to a project.
+     *
+     * @param projectId the project's ULID
+     * @param userId the applicant's ULID
+     * @return true if an application exists, whatever its status
+     */
+    boolean existsByProjectIdAndUserId(String projectId, String userId);
+
+    /**
+     * Counts a project's applications in one status.
+     *
+     * @param projectId the project's ULID
+     * @param status the status to count
+     * @return the number of applications
+     */
+    long countByProjectIdAndStatus(String projectId, ApplicationStatus status);
+
+    /**
+     * Loads an application together with its project and the project's owner.
+     *
+     * @param id the application's ULID
+     * @return the application, if it exists
+     */
+    @Query(
+            "SELECT a FROM ProjectApplicationEntity a"
+                    + " JOIN FETCH a.project p JOIN FETCH p.owner"
+                    + " WHERE a.id = :id")
+    Optional<ProjectApplicationEntity> findWithProjectById(@Param("id") String id);
+
+    /**
+     * Moves an application from one status to another, only if it is still in the first one.
+     *
+     * <p>The condition is evaluated on the locked row, so of two concurrent reviews of the same
+     * application exactly one sees an updated row.
+     *
+     * @param id the application's ULID
+     * @param from the status the application must have
+     * @param to the new status
+     * @param now the change time (bulk updates skip {@code @PreUpdate})
+     * @return 1 if the status changed, 0 if the application was not in {@code from}
+     */
+    @Modifying
+    @Query(
+            "UPDATE ProjectApplicationEntity a SET a.status = :to, a.updatedAt = :now"
+                    + " WHERE a.id = :id AND a.status = :from")
+    int updateStatus(
+            @Param("id") String id,
+            @Param("from") ApplicationStatus from,
+            @Param("to") ApplicationStatus to,
+            @Param("now") LocalDateTime now);
+}
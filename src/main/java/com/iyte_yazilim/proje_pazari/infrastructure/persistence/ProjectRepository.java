@@ -1,13 +1,145 @@
 package com.iyte_yazilim.proje_pazari.infrastructure.persistence;
 
 import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.ProjectEntity;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.projections.ProjectIndexState;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.projections.ProjectMatchState;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.projections.ProjectSearchRow;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.projections.ProjectSkillRow;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.projections.ProjectSummaryRow;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 /** ProjectRepository - JPA Repository for persistence layer */
-public interface ProjectRepository extends JpaRepository<ProjectEntity, String> {
+public interface ProjectRepository
+        extends JpaRepository<ProjectEntity, String>, ProjectSummaryRepository {
     @Query("SELECT p FROM ProjectEntity p WHERE p.owner.id = :ownerId")
     List<ProjectEntity> findByOwnerId(@Param("ownerId") String ownerId);
+
+    /**
+     * Finds summaries of the given projects, in no particular order.
+     *
+     * @param ids project ULIDs
+     * @return summaries of the projects that exist
+     */
+    @Query(
+            "SELECT new com.iyte_yazilim.proje_pazari.infrastructure.persistence.projections"
+                    + ".ProjectSummaryRow("
+                    + " p.id, p.title, COALESCE(p.summary, SUBSTRING(p.description, 1, 200)),"
+                    + " p.status, p.createdAt)"
+                    + " FROM ProjectEntity p WHERE p.id IN :ids")
+    List<ProjectSummaryRow> findSummariesByIds(@Param("ids") Collection<String> ids);
+
+    /**
+     * Finds one batch of project states after a keyset position, ordered by ULID.
+     *
+     * @param afterId ULID of the last project of the previous batch, or null for the first batch
+     * @param pageable batch size (page number must be 0)
+     * @return states ordered by id
+     */
+    @Query(
+            "SELECT new com.iyte_yazilim.proje_pazari.infrastructure.persistence.projections"
+                    + ".ProjectIndexState(p.id, p.status, COALESCE(p.updatedAt, p.createdAt))"
+                    + " FROM ProjectEntity p"
+                    + " WHERE (:afterId IS NULL OR p.id > :afterId)"
+                    + " ORDER BY p.id ASC")
+    List<ProjectIndexState> findIndexStates(@Param("afterId") String afterId, Pageable pageable);
+
+    /**
+     * Finds the searchable text of the given projects.
+     *
+     * @param ids project ULIDs
+     * @return rows of the projects that exist
+     */
+    @Query(
+            "SELECT new com.iyte_yazilim.proje_pazari.infrastructure.persistence.projections"
+                    + ".ProjectSearchRow(p.id, p.title, p.summary, p.description, p.status)"
+                    + " FROM ProjectEntity p WHERE p.id IN :ids")
+    List<ProjectSearchRow> findSearchRows(@Param("ids") Collection<String> ids);
+
+    /**
+     * Finds one batch of project match states after a keyset position, ordered by ULID.
+     *
+     * @param afterId ULID of the last project of the previous batch, or null for the first batch
+     * @param pageable batch size (page number must be 0)
+     * @return states ordered by id
+     */
+    @Query(
+            "SELECT new com.iyte_yazilim.proje_pazari.infrastructure.persistence.projections"
+                    + ".ProjectMatchState("
+                    + " p.id, p.owner.id, p.status, p.createdAt, p.maxTeamSize, p.currentTeamSize)"
+                    + " FROM ProjectEntity p"
+                    + " WHERE (:afterId IS NULL OR p.id > :afterId)"
+                    + " ORDER BY p.id ASC")
+    List<ProjectMatchState> findMatchStates(@Param("afterId") String afterId, Pageable pageable);
+
+    /**
+     * Finds the required skills of the given projects, one row per skill.
+     *
+     * @param ids project ULIDs
+     * @return rows of the projects that exist; projects without skills have none
+     */
+    @Query(
+            "SELECT new com.iyte_yazilim.proje_pazari.infrastructure.persistence.projections"
+                    + ".ProjectSkillRow(p.id, s)"
+                    + " FROM ProjectEntity p JOIN p.requiredSkills s WHERE p.id IN :ids")
+    List<ProjectSkillRow> findSkillRows(@Param("ids") Collection<String> ids);
+
+    /**
+     * Adds one member to a project's team if it has a free place.
+     *
+     * <p>Check and increment are a single statement. The row lock serializes concurrent
+     * approvals, and each one re-evaluates the capacity condition against the committed team
+     * size, so a team can never be overfilled. A null {@code maxTeamSize} means no limit.
+     *
+     * @param projectId the project's ULID
+     * @param now the change time (bulk updates skip {@code @PreUpdate})
+     * @return 1 if the member was added, 0 if the team is full or the project does not exist
+     */
+    @Modifying
+    @Query(
+            "UPDATE ProjectEntity p"
+                    + " SET p.currentTeamSize = p.currentTeamSize + 1, p.updatedAt = :now"
+                    + " WHERE p.id = :projectId"
+                    + " AND (p.maxTeamSize IS NULL OR p.currentTeamSize < p.maxTeamSize)")
+    int incrementTeamSizeIfRoom(
+            @Param("projectId") String projectId, @Param("now") LocalDateTime now);
+
+    /**
+     * Reads a project's team size from the database, bypassing any managed entity.
+     *
+     * @param projectId the project's ULID
+     * @return the team size, or null if the project does not exist
+     */
+    @Query("SELECT p.currentTeamSize FROM ProjectEntity p WHERE p.id = :projectId")
+    Integer findCurrentTeamSize(@Param("projectId") String projectId);
+
+    /**
+     * Finds one batch of project ids after a keyset position, ordered by ULID.
+     *
+     * @param afterId ULID of the last project of the previous batch, or null for the first batch
+     * @param pageable batch size (page number must be 0)
+     * @return ids in ascending order
+     */
+    @Query(
+            "SELECT p.id FROM ProjectEntity p"
+                    + " WHERE (:afterId IS NULL OR p.id > :afterId)"
+                    + " ORDER BY p.id ASC")
+    List<String> findIdsAfter(@Param("afterId") String afterId, Pageable pageable);
+
+    /**
+     * Loads projects together with their required skills and filter keys.
+     *
+     * @param ids project ULIDs
+     * @return the projects that exist, in no particular order
+     */
+    @EntityGraph(attributePaths = {"requiredSkills", "requiredSkillKeys"})
+    @Query("SELECT p FROM ProjectEntity p WHERE p.id IN :ids")
+    List<ProjectEntity> findWithSkillsByIds(@Param("ids") Collection<String> ids);
 }
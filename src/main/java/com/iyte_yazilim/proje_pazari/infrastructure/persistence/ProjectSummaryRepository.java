@@ -0,0 +1,47 @@
+package com.iyte_yazilim.proje_pazari.infrastructure.persistence;
+
+import com.iyte_yazilim.proje_pazari.domain.enums.ProjectStatus;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.projections.ProjectSummaryRow;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Catalog queries of {@link ProjectRepository} that are built per request.
+ *
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ * @see ProjectSummaryRepositoryImpl
+ */
+public interface ProjectSummaryRepository {
+
+    /**
+     * Finds one page of project summaries before a keyset position, newest first.
+     *
+     * <p>ULIDs sort by creation time, so {@code ORDER BY id DESC} is a recency order that needs no
+     * tie-breaker. The statement contains only the filters that are set, so each combination gets
+     * its own plan on the matching composite index instead of one generic plan for all of them.
+     * Only summary columns are selected; descriptions, skills and applications are never loaded,
+     * and no count query is issued.
+     *
+     * @param beforeId ULID of the last project of the previous page, or null for the first page
+     * @param statuses statuses to include (never empty)
+     * @param category exact category, or null for all categories
+     * @param skillKeys skills in {@link
+     *     com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.ProjectEntity#skillKey}
+     *     form that must all be required by the project; empty for no skill filter
+     * @param deadlineFrom inclusive lower bound of the deadline, or null
+     * @param deadlineTo exclusive upper bound of the deadline, or null
+     * @param limit maximum number of rows
+     * @return summaries ordered by id, newest first
+     */
+    List<ProjectSummaryRow> findSummaryPage(
+            String beforeId,
+            Collection<ProjectStatus> statuses,
+            String category,
+            Collection<String> skillKeys,
+            LocalDateTime deadlineFrom,
+            LocalDateTime deadlineTo,
+            int limit);
+}
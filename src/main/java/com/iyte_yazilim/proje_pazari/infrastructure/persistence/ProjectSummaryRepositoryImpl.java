@@ -0,0 +1,78 @@
+package com.iyte_yazilim.proje_pazari.infrastructure.persistence;
+
+import com.iyte_yazilim.proje_pazari.domain.enums.ProjectStatus;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.ProjectEntity;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.projections.ProjectSummaryRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Criteria implementation of {@link ProjectSummaryRepository}.
+ *
+ * <p>A required skill becomes a membership test on {@code project_skill_keys}, one per skill, each
+ * an index lookup by project and key. Keys are stored normalized, so no function is applied to
+ * the column.
+ *
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ */
+class ProjectSummaryRepositoryImpl implements ProjectSummaryRepository {
+
+    @PersistenceContext private EntityManager entityManager;
+
+    @Override
+    public List<ProjectSummaryRow> findSummaryPage(
+            String beforeId,
+            Collection<ProjectStatus> statuses,
+            String category,
+            Collection<String> skillKeys,
+            LocalDateTime deadlineFrom,
+            LocalDateTime deadlineTo,
+            int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ProjectSummaryRow> query = cb.createQuery(ProjectSummaryRow.class);
+        Root<ProjectEntity> p = query.from(ProjectEntity.class);
+
+        List<Predicate> where = new ArrayList<>();
+        where.add(p.get("status").in(statuses));
+        if (beforeId != null) {
+            where.add(cb.lessThan(p.<String>get("id"), beforeId));
+        }
+        if (category != null) {
+            where.add(cb.equal(p.get("category"), category));
+        }
+        if (deadlineFrom != null) {
+            where.add(cb.greaterThanOrEqualTo(p.<LocalDateTime>get("deadline"), deadlineFrom));
+        }
+        if (deadlineTo != null) {
+            where.add(cb.lessThan(p.<LocalDateTime>get("deadline"), deadlineTo));
+        }
+        for (String skillKey : skillKeys) {
+            where.add(cb.isMember(skillKey, p.<Set<String>>get("requiredSkillKeys")));
+        }
+
+        query.select(
+                        cb.construct(
+                                ProjectSummaryRow.class,
+                                p.get("id"),
+                                p.get("title"),
+                                cb.coalesce(
+                                        p.<String>get("summary"),
+                                        cb.substring(p.<String>get("description"), 1, 200)),
+                                p.get("status"),
+                                p.get("createdAt")))
+                .where(where.toArray(Predicate[]::new))
+                .orderBy(cb.desc(p.get("id")));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+}
@@ -0,0 +1,82 @@
+package com.iyte_yazilim.proje_pazari.infrastructure.persistence;
+
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.RefreshTokenEntity;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * JPA Repository for refresh token persistence operations.
+ *
+ * <p>All lookups go through the unique index on {@code token_hash}; revocations are bulk updates
+ * so rotation never loads more than the presented token.
+ *
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ * @see RefreshTokenEntity
+ */
+public interface RefreshTokenRepository extends JpaRepository<RefreshTokenEntity, String> {
+
+    /**
+     * Finds a refresh token by its hash, together with its user.
+     *
+     * @param tokenHash SHA-256 hex digest of the raw token
+     * @return Optional containing the token if found, empty otherwise
+     */
+    @Query("SELECT r FROM RefreshTokenEntity r JOIN FETCH r.user WHERE r.tokenHash = :tokenHash")
+    Optional<RefreshTokenEntity> findByTokenHash(@Param("tokenHash") String tokenHash);
+
+    /**
+     * Marks a single token as used, only if it has not been revoked yet.
+     *
+     * @param id the token id
+     * @param now revocation timestamp
+     * @return 1 if this call revoked the token, 0 if it was already revoked
+     */
+    @Modifying
+    @Query(
+            "UPDATE RefreshTokenEntity r SET r.revokedAt = :now"
+                    + " WHERE r.id = :id AND r.revokedAt IS NULL")
+    int revokeIfActive(@Param("id") String id, @Param("now") LocalDateTime now);
+
+    /**
+     * Revokes every active token of a rotation family.
+     *
+     * @param familyId the family id
+     * @param now revocation timestamp
+     * @return number of revoked tokens
+     */
+    @Modifying
+    @Query(
+            "UPDATE RefreshTokenEntity r SET r.revokedAt = :now"
+                    + " WHERE r.familyId = :familyId AND r.revokedAt IS NULL")
+    int revokeFamily(@Param("familyId") String familyId, @Param("now") LocalDateTime now);
+
+    /**
+     * Revokes every active token of a user.
+     *
+     * @param userId the user's ULID
+     * @param now revocation timestamp
+     * @return number of revoked tokens
+     */
+    @Modifying
+    @Query(
+            "UPDATE RefreshTokenEntity r SET r.revokedAt = :now"
+                    + " WHERE r.user.id = :userId AND r.revokedAt IS NULL")
+    int revokeAllByUserId(@Param("userId") String userId, @Param("now") LocalDateTime now);
+
+    /**
+     * Deletes the expired tokens of a user.
+     *
+     * @param userId the user's ULID
+     * @param now reference timestamp
+     * @return number of deleted tokens
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshTokenEntity r WHERE r.user.id = :userId AND r.expiresAt < :now")
+    int deleteExpiredByUserId(@Param("userId") String userId, @Param("now") LocalDateTime now);
+}
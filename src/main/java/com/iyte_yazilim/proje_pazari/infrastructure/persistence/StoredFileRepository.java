@@ -0,0 +1,79 @@
+package com.iyte_yazilim.proje_pazari.infrastructure.persistence;
+
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.StoredFileEntity;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * JPA Repository for the reference counts of content-addressed files.
+ *
+ * <p>Increments are single bulk updates; releases lock the row so a concurrent upload of the same
+ * content waits until the file has either survived or been removed. A row whose count dropped to
+ * zero stays until the file is deleted, so uploads keep serializing on it meanwhile.
+ *
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ * @see StoredFileEntity
+ */
+public interface StoredFileRepository extends JpaRepository<StoredFileEntity, String> {
+
+    /**
+     * Adds one reference to an existing file.
+     *
+     * @param name the stored file name
+     * @return 1 if the file was known, 0 if no row exists yet
+     */
+    @Modifying
+    @Query("UPDATE StoredFileEntity f SET f.refCount = f.refCount + 1 WHERE f.name = :name")
+    int incrementRefCount(@Param("name") String name);
+
+    /**
+     * Creates the row of a new file without any reference.
+     *
+     * <p>A plain insert, unlike {@code save}, which would merge over a row created concurrently.
+     * Fails with a unique-key violation if the row already exists.
+     *
+     * @param name the stored file name
+     * @param size the file size in bytes
+     * @param now the creation time (native inserts skip {@code @PrePersist})
+     * @return 1
+     */
+    @Modifying
+    @Query(
+            value =
+                    "INSERT INTO stored_files (name, ref_count, size, created_at)"
+                            + " VALUES (:name, 0, :size, :now)",
+            nativeQuery = true)
+    int insertUnreferenced(
+            @Param("name") String name,
+            @Param("size") long size,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * Loads a file's row with a write lock held until the transaction ends.
+     *
+     * @param name the stored file name
+     * @return Optional containing the row if the file is reference counted
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT f FROM StoredFileEntity f WHERE f.name = :name")
+    Optional<StoredFileEntity> findForUpdate(@Param("name") String name);
+
+    /**
+     * Returns which of the given file names are still referenced.
+     *
+     * @param names candidate file names of one batch
+     * @return the subset of names with a positive reference count
+     */
+    @Query("SELECT f.name FROM StoredFileEntity f WHERE f.name IN :names AND f.refCount > 0")
+    List<String> findExistingNames(@Param("names") Collection<String> names);
+}
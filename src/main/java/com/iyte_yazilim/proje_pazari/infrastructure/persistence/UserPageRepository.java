@@ -0,0 +1,30 @@
+package com.iyte_yazilim.proje_pazari.infrastructure.persistence;
+
+import com.iyte_yazilim.proje_pazari.domain.enums.UserRole;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.UserEntity;
+import java.util.List;
+
+/**
+ * User listing queries of {@link UserRepository} that are built per request.
+ *
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ * @see UserPageRepositoryImpl
+ */
+public interface UserPageRepository {
+
+    /**
+     * Finds one page of users after a keyset position, ordered by ULID.
+     *
+     * <p>The statement contains only the filters that are set, so each combination is planned on
+     * its own instead of sharing one generic plan. No count query is issued.
+     *
+     * @param afterId ULID of the last user of the previous page, or null for the first page
+     * @param role role filter, or null for all roles
+     * @param active active flag filter, or null for both
+     * @param limit maximum number of rows
+     * @return users ordered by id
+     */
+    List<UserEntity> findPage(String afterId, UserRole role, Boolean active, int limit);
+}
@@ -0,0 +1,45 @@
+package com.iyte_yazilim.proje_pazari.infrastructure.persistence;
+
+import com.iyte_yazilim.proje_pazari.domain.enums.UserRole;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.UserEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Criteria implementation of {@link UserPageRepository}.
+ *
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ */
+class UserPageRepositoryImpl implements UserPageRepository {
+
+    @PersistenceContext private EntityManager entityManager;
+
+    @Override
+    public List<UserEntity> findPage(String afterId, UserRole role, Boolean active, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<UserEntity> query = cb.createQuery(UserEntity.class);
+        Root<UserEntity> u = query.from(UserEntity.class);
+
+        List<Predicate> where = new ArrayList<>();
+        if (afterId != null) {
+            where.add(cb.greaterThan(u.<String>get("id"), afterId));
+        }
+        if (role != null) {
+            where.add(cb.equal(u.get("role"), role));
+        }
+        if (active != null) {
+            where.add(cb.equal(u.get("isActive"), active));
+        }
+
+        query.select(u).where(where.toArray(Predicate[]::new)).orderBy(cb.asc(u.get("id")));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+}
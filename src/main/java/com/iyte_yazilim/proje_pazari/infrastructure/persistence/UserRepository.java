@@ -1,8 +1,13 @@
 package com.iyte_yazilim.proje_pazari.infrastructure.persistence;
 
 import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.UserEntity;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.projections.UserProfileRow;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -16,7 +21,7 @@ import org.springframework.data.repository.query.Param;
  * @since 2024-01-01
  * @see UserEntity
  */
-public interface UserRepository extends JpaRepository<UserEntity, String> {
+public interface UserRepository extends JpaRepository<UserEntity, String>, UserPageRepository {
 
     /**
      * Finds a user by their email address.
@@ -35,20 +40,107 @@ public interface UserRepository extends JpaRepository<UserEntity, String> {
     boolean existsByEmail(String email);
 
     /**
-     * Counts the number of projects owned by a user.
+     * Loads everything a profile page needs in a single statement.
+     *
+     * <p>Returns one row per owned project (newest first), or a single row with null project
+     * columns if the user owns none; an empty list means the user does not exist. Only a short
+     * summary of each project is selected, never the full description. Counts come from the
+     * denormalized counter columns instead of {@code COUNT} scans.
+     *
+     * @param userId the user's ULID
+     * @return profile rows
+     */
+    @Query(
+            "SELECT new com.iyte_yazilim.proje_pazari.infrastructure.persistence.projections"
+                    + ".UserProfileRow("
+                    + " u.id, u.email, u.firstName, u.lastName, u.description,"
+                    + " u.profilePictureUrl, u.linkedinUrl, u.githubUrl, u.createdAt,"
+                    + " u.projectsCreatedCount, u.applicationsSubmittedCount,"
+                    + " p.id, p.title, COALESCE(p.summary, SUBSTRING(p.description, 1, 200)),"
+                    + " p.status, p.createdAt)"
+                    + " FROM UserEntity u LEFT JOIN ProjectEntity p ON p.owner.id = u.id"
+                    + " WHERE u.id = :userId"
+                    + " ORDER BY p.createdAt DESC")
+    List<UserProfileRow> findProfileRows(@Param("userId") String userId);
+
+    /**
+     * Increments the owned-project counter of a user.
+     *
+     * <p>Must run in the same transaction that inserts the project.
+     *
+     * @param userId the user's ULID
+     * @return number of updated rows
+     */
+    @Modifying
+    @Query(
+            "UPDATE UserEntity u SET u.projectsCreatedCount = u.projectsCreatedCount + 1"
+                    + " WHERE u.id = :userId")
+    int incrementProjectsCreated(@Param("userId") String userId);
+
+    /**
+     * Increments the submitted-application counter of a user.
+     *
+     * <p>Must run in the same transaction that inserts the application.
      *
      * @param userId the user's ULID
-     * @return count of projects owned by the user
+     * @return number of updated rows
+     */
+    @Modifying
+    @Query(
+            "UPDATE UserEntity u"
+                    + " SET u.applicationsSubmittedCount = u.applicationsSubmittedCount + 1"
+                    + " WHERE u.id = :userId")
+    int incrementApplicationsSubmitted(@Param("userId") String userId);
+
+    /**
+     * Finds a batch of user ids after a keyset position, for batch jobs.
+     *
+     * @param afterId last id of the previous batch, or null for the first batch
+     * @param pageable batch size (page number must be 0)
+     * @return user ids in ascending order
+     */
+    @Query(
+            "SELECT u.id FROM UserEntity u WHERE (:afterId IS NULL OR u.id > :afterId)"
+                    + " ORDER BY u.id ASC")
+    List<String> findIdsAfter(@Param("afterId") String afterId, Pageable pageable);
+
+    /**
+     * Recomputes the activity counters of the given users where they have drifted.
+     *
+     * @param userIds ids of the batch to check
+     * @return number of users whose counters were repaired
+     */
+    @Modifying
+    @Query(
+            "UPDATE UserEntity u SET"
+                    + " u.projectsCreatedCount ="
+                    + " (SELECT COUNT(p) FROM ProjectEntity p WHERE p.owner.id = u.id),"
+                    + " u.applicationsSubmittedCount ="
+                    + " (SELECT COUNT(a) FROM ProjectApplicationEntity a WHERE a.user.id = u.id)"
+                    + " WHERE u.id IN :userIds AND ("
+                    + " u.projectsCreatedCount <>"
+                    + " (SELECT COUNT(p) FROM ProjectEntity p WHERE p.owner.id = u.id)"
+                    + " OR u.applicationsSubmittedCount <>"
+                    + " (SELECT COUNT(a) FROM ProjectApplicationEntity a WHERE a.user.id = u.id))")
+    int reconcileActivityCounters(@Param("userIds") List<String> userIds);
+
+    /**
+     * Returns which of the given profile picture URLs are still used by a user.
+     *
+     * @param urls candidate URLs of one batch
+     * @return the subset of URLs referenced by at least one user
      */
-    @Query("SELECT COUNT(p) FROM ProjectEntity p WHERE p.owner.id = :userId")
-    int countProjectsByUserId(@Param("userId") String userId);
+    @Query(
+            "SELECT DISTINCT u.profilePictureUrl FROM UserEntity u"
+                    + " WHERE u.profilePictureUrl IN :urls")
+    List<String> findReferencedProfilePictureUrls(@Param("urls") Collection<String> urls);
 
     /**
-     * Counts the number of project applications submitted by a user.
+     * Finds the skills on a user's profile.
      *
      * @param userId the user's ULID
-     * @return count of applications by the user
+     * @return the skills as typed; empty if the user has none or does not exist
      */
-    @Query("SELECT COUNT(a) FROM ProjectApplicationEntity a WHERE a.user.id = :userId")
-    int countApplicationsByUserId(@Param("userId") String userId);
+    @Query("SELECT s FROM UserEntity u JOIN u.skills s WHERE u.id = :userId")
+    List<String> findSkills(@Param("userId") String userId);
 }
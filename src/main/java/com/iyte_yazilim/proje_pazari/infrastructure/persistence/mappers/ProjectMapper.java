@@ -16,6 +16,7 @@ public interface ProjectMapper {
             expression = "java(project.getId() != null ? project.getId().toString() : null)")
     @Mapping(target = "owner", source = "owner")
     @Mapping(target = "applications", source = "applications")
+    @Mapping(target = "requiredSkillKeys", ignore = true)
     ProjectEntity domainToEntity(Project project);
 
     // Map Persistence Entity -> Domain Entity
@@ -13,6 +13,7 @@ public interface UserMapper {
             target = "id",
             expression = "java(user.getId() != null ? user.getId().toString() : null)")
     @Mapping(target = "isActive", ignore = true)
+    @Mapping(target = "skills", ignore = true)
     UserEntity domainToEntity(User user);
 
     // Map Persistence Entity -> Domain Entity
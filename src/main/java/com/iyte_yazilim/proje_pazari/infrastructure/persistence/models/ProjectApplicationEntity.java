@@ -1,14 +1,19 @@
 package com.iyte_yazilim.proje_pazari.infrastructure.persistence.models;
 
 import com.github.f4b6a3.ulid.Ulid;
+import com.iyte_yazilim.proje_pazari.domain.enums.ApplicationStatus;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -16,7 +21,13 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "project_applications")
+@Table(
+        name = "project_applications",
+        uniqueConstraints =
+                @UniqueConstraint(
+                        name = "uk_project_applications_project_user",
+                        columnNames = {"project_id", "user_id"}),
+        indexes = @Index(name = "idx_project_applications_user_id", columnList = "user_id"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -35,6 +46,15 @@ public class ProjectApplicationEntity {
     @JoinColumn(name = "user_id", nullable = false)
     private UserEntity user;
 
+    /**
+     * Review state. Changed only through conditional updates ({@code ... WHERE status = PENDING}),
+     * so two reviewers can never both act on the same application. Rows inserted outside JPA start
+     * out pending as well.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20, columnDefinition = "varchar(20) default 'PENDING'")
+    private ApplicationStatus status;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -46,6 +66,9 @@ public class ProjectApplicationEntity {
         if (id == null || id.isBlank()) {
             id = Ulid.fast().toString();
         }
+        if (status == null) {
+            status = ApplicationStatus.PENDING;
+        }
         createdAt = LocalDateTime.now();
     }
 
@@ -1,14 +1,17 @@
 package com.iyte_yazilim.proje_pazari.infrastructure.persistence.models;
 
 import com.github.f4b6a3.ulid.Ulid;
+import com.iyte_yazilim.proje_pazari.application.services.SkillDictionary;
 import com.iyte_yazilim.proje_pazari.domain.enums.ProjectStatus;
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -16,14 +19,23 @@ import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "projects")
+@Table(
+        name = "projects",
+        indexes = {
+            @Index(name = "idx_projects_status_id", columnList = "status, id"),
+            @Index(name = "idx_projects_category_status_id", columnList = "category, status, id"),
+            @Index(name = "idx_projects_status_deadline", columnList = "status, deadline")
+        })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -61,9 +73,32 @@ public class ProjectEntity {
     private Integer currentTeamSize;
 
     @ElementCollection
+    @CollectionTable(
+            name = "project_entity_required_skills",
+            joinColumns = @JoinColumn(name = "project_entity_id"),
+            indexes =
+                    @Index(
+                            name = "idx_project_skills_project_skill",
+                            columnList = "project_entity_id, required_skill"))
     @Column(name = "required_skill")
     private List<String> requiredSkills;
 
+    /**
+     * {@link #requiredSkills} in the form skill filters compare against (see {@link #skillKey}),
+     * so a filter is a plain index lookup. Kept in sync by {@link #setRequiredSkills}.
+     */
+    @ElementCollection
+    @CollectionTable(
+            name = "project_skill_keys",
+            joinColumns = @JoinColumn(name = "project_id"),
+            indexes =
+                    @Index(
+                            name = "idx_project_skill_keys_skill_project",
+                            columnList = "skill_key, project_id"))
+    @Column(name = "skill_key", nullable = false)
+    @Setter(AccessLevel.NONE)
+    private Set<String> requiredSkillKeys = new HashSet<>();
+
     @Column(name = "category")
     private String category;
 
@@ -76,6 +111,52 @@ public class ProjectEntity {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    /**
+     * Replaces the required skills and their filter keys.
+     *
+     * @param requiredSkills the skills as typed, or null
+     */
+    public void setRequiredSkills(List<String> requiredSkills) {
+        this.requiredSkills = requiredSkills;
+        refreshRequiredSkillKeys();
+    }
+
+    /**
+     * Recomputes the filter keys from the required skills, leaving them untouched if they are
+     * already current.
+     *
+     * @return whether the keys changed
+     */
+    public boolean refreshRequiredSkillKeys() {
+        Set<String> keys = new HashSet<>();
+        if (requiredSkills != null) {
+            for (String skill : requiredSkills) {
+                String key = skillKey(skill);
+                if (key != null) {
+                    keys.add(key);
+                }
+            }
+        }
+        if (keys.equals(requiredSkillKeys)) {
+            return false;
+        }
+        requiredSkillKeys.clear();
+        requiredSkillKeys.addAll(keys);
+        return true;
+    }
+
+    /**
+     * Reduces a skill to the form it is stored and filtered by, so that aliases such as {@code
+     * "ReactJS"} and {@code "React"} share a key.
+     *
+     * @param skill a skill as typed
+     * @return the {@linkplain SkillDictionary#canonicalKey canonical key}, or null for a blank
+     *     skill
+     */
+    public static String skillKey(String skill) {
+        return SkillDictionary.canonicalKey(skill);
+    }
+
     @PrePersist
     protected void onCreate() {
         if (id == null || id.isBlank()) {
@@ -0,0 +1,72 @@
+package com.iyte_yazilim.proje_pazari.infrastructure.persistence.models;
+
+import com.github.f4b6a3.ulid.Ulid;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Persisted refresh token.
+ *
+ * <p>Only the SHA-256 hash of the token is stored. Tokens issued by rotating one another share the
+ * same {@code familyId}, so a replayed (already rotated) token can revoke its whole family.
+ */
+@Entity
+@Table(
+        name = "refresh_tokens",
+        indexes = {
+            @Index(
+                    name = "idx_refresh_tokens_token_hash",
+                    columnList = "token_hash",
+                    unique = true),
+            @Index(name = "idx_refresh_tokens_family_id", columnList = "family_id"),
+            @Index(name = "idx_refresh_tokens_user_id", columnList = "user_id")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshTokenEntity {
+
+    @Id
+    @Column(length = 26)
+    private String id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private UserEntity user;
+
+    @Column(name = "token_hash", nullable = false, length = 64)
+    private String tokenHash;
+
+    @Column(name = "family_id", nullable = false, length = 26)
+    private String familyId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "revoked_at")
+    private LocalDateTime revokedAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (id == null || id.isBlank()) {
+            id = Ulid.fast().toString();
+        }
+        createdAt = LocalDateTime.now();
+    }
+}
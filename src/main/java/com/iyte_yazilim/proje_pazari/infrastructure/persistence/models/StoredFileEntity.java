@@ -0,0 +1,45 @@
+package com.iyte_yazilim.proje_pazari.infrastructure.persistence.models;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Reference count of a content-addressed stored file.
+ *
+ * <p>The file name is the SHA-256 digest of its content plus extension, so identical uploads share
+ * one file and one row. The file is deleted when the last reference is released.
+ */
+@Entity
+@Table(name = "stored_files")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoredFileEntity {
+
+    @Id
+    @Column(length = 80)
+    private String name;
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    @Column(nullable = false)
+    private long size;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
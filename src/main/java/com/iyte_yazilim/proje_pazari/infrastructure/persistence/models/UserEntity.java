@@ -2,22 +2,33 @@ package com.iyte_yazilim.proje_pazari.infrastructure.persistence.models;
 
 import com.github.f4b6a3.ulid.Ulid;
 import com.iyte_yazilim.proje_pazari.domain.enums.UserRole;
+import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "users")
+@Table(
+        name = "users",
+        indexes = {
+            @Index(name = "idx_users_role_active_id", columnList = "role, is_active, id"),
+            @Index(name = "idx_users_active_id", columnList = "is_active, id"),
+            @Index(name = "idx_users_profile_picture_url", columnList = "profile_picture_url")
+        })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -63,6 +74,12 @@ public class UserEntity {
     @Column(name = "preferred_language", length = 5)
     private String preferredLanguage = "tr";
 
+    /** Skills the user offers, as typed; matched against project skills for recommendations. */
+    @ElementCollection
+    @CollectionTable(name = "user_skills", joinColumns = @JoinColumn(name = "user_id"))
+    @Column(name = "skill", length = 50)
+    private List<String> skills;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -72,6 +89,34 @@ public class UserEntity {
     @Column(name = "is_active", nullable = false, columnDefinition = "boolean default true")
     private Boolean isActive = true;
 
+    /**
+     * Number of projects owned by the user. Incremented in the project creation transaction and
+     * repaired by {@code UserStatsReconciler}.
+     *
+     * <p>Read-only for the entity: only the repository's bulk updates write it, so saving a user
+     * loaded before a concurrent increment cannot write the stale value back.
+     */
+    @Column(
+            name = "projects_created_count",
+            nullable = false,
+            insertable = false,
+            updatable = false,
+            columnDefinition = "integer default 0")
+    private Integer projectsCreatedCount = 0;
+
+    /**
+     * Number of applications submitted by the user. Incremented in the application transaction and
+     * repaired by {@code UserStatsReconciler}. Read-only for the entity, like {@link
+     * #projectsCreatedCount}.
+     */
+    @Column(
+            name = "applications_submitted_count",
+            nullable = false,
+            insertable = false,
+            updatable = false,
+            columnDefinition = "integer default 0")
+    private Integer applicationsSubmittedCount = 0;
+
     @PrePersist
     protected void onCreate() {
         if (id == null || id.isBlank()) {
@@ -0,0 +1,12 @@
+package com.iyte_yazilim.proje_pazari.infrastructure.persistence.projections;
+
+import com.iyte_yazilim.proje_pazari.domain.enums.ProjectStatus;
+import java.time.LocalDateTime;
+
+/**
+ * Identity, status and last change time of a project, used to bring the search index in line
+ * with the database without reading project text.
+ *
+ * @see com.iyte_yazilim.proje_pazari.infrastructure.persistence.ProjectRepository#findIndexStates
+ */
+public record ProjectIndexState(String id, ProjectStatus status, LocalDateTime changedAt) {}
@@ -0,0 +1,17 @@
+package com.iyte_yazilim.proje_pazari.infrastructure.persistence.projections;
+
+import com.iyte_yazilim.proje_pazari.domain.enums.ProjectStatus;
+import java.time.LocalDateTime;
+
+/**
+ * The columns of a project that skill matching and recommendations score on, without its text.
+ *
+ * @see com.iyte_yazilim.proje_pazari.infrastructure.persistence.ProjectRepository#findMatchStates
+ */
+public record ProjectMatchState(
+        String id,
+        String ownerId,
+        ProjectStatus status,
+        LocalDateTime createdAt,
+        Integer maxTeamSize,
+        Integer currentTeamSize) {}
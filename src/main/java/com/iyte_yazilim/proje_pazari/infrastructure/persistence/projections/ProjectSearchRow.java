@@ -0,0 +1,11 @@
+package com.iyte_yazilim.proje_pazari.infrastructure.persistence.projections;
+
+import com.iyte_yazilim.proje_pazari.domain.enums.ProjectStatus;
+
+/**
+ * The searchable text of a project.
+ *
+ * @see com.iyte_yazilim.proje_pazari.infrastructure.persistence.ProjectRepository#findSearchRows
+ */
+public record ProjectSearchRow(
+        String id, String title, String summary, String description, ProjectStatus status) {}
@@ -0,0 +1,8 @@
+package com.iyte_yazilim.proje_pazari.infrastructure.persistence.projections;
+
+/**
+ * One required skill of a project, as typed by its owner.
+ *
+ * @see com.iyte_yazilim.proje_pazari.infrastructure.persistence.ProjectRepository#findSkillRows
+ */
+public record ProjectSkillRow(String projectId, String skill) {}
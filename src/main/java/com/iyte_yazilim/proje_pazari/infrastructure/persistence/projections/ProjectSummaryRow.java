@@ -0,0 +1,12 @@
+package com.iyte_yazilim.proje_pazari.infrastructure.persistence.projections;
+
+import com.iyte_yazilim.proje_pazari.domain.enums.ProjectStatus;
+import java.time.LocalDateTime;
+
+/**
+ * One row of the project listing: only the columns a summary card needs.
+ *
+ * @see com.iyte_yazilim.proje_pazari.infrastructure.persistence.ProjectSummaryRepository#findSummaryPage
+ */
+public record ProjectSummaryRow(
+        String id, String title, String summary, ProjectStatus status, LocalDateTime createdAt) {}
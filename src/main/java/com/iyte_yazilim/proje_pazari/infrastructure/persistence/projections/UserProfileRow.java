@@ -0,0 +1,30 @@
+package com.iyte_yazilim.proje_pazari.infrastructure.persistence.projections;
+
+import com.iyte_yazilim.proje_pazari.domain.enums.ProjectStatus;
+import java.time.LocalDateTime;
+
+/**
+ * One row of the aggregated profile query.
+ *
+ * <p>The user columns and the activity counters repeat on every row; each row carries one owned
+ * project, or null project columns if the user owns none.
+ *
+ * @see com.iyte_yazilim.proje_pazari.infrastructure.persistence.UserRepository#findProfileRows
+ */
+public record UserProfileRow(
+        String userId,
+        String email,
+        String firstName,
+        String lastName,
+        String description,
+        String profilePictureUrl,
+        String linkedinUrl,
+        String githubUrl,
+        LocalDateTime joinedAt,
+        Integer projectsCreated,
+        Integer applicationsSubmitted,
+        String projectId,
+        String projectTitle,
+        String projectSummary,
+        ProjectStatus projectStatus,
+        LocalDateTime projectCreatedAt) {}
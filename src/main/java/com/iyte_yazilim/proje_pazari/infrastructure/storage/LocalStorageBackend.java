@@ -0,0 +1,114 @@
+package com.iyte_yazilim.proje_pazari.infrastructure.storage;
+
+import com.iyte_yazilim.proje_pazari.domain.interfaces.IStorageBackend;
+import com.iyte_yazilim.proje_pazari.domain.models.StoredObject;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Stores objects as files below a directory on the local disk.
+ *
+ * <p>Keys map directly to relative paths. Writes are atomic renames, so the source of {@link
+ * #put} must be on the same file system as the root (uploads are staged in the root itself).
+ * Objects are exposed through {@link #localPath(String)} so they can be sent with {@code
+ * sendfile}.
+ *
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ */
+public class LocalStorageBackend implements IStorageBackend {
+
+    private final Path root;
+
+    public LocalStorageBackend(Path root) {
+        this.root = root.toAbsolutePath().normalize();
+    }
+
+    @Override
+    public StoredObject stat(String key) throws IOException {
+        try {
+            BasicFileAttributes attributes =
+                    Files.readAttributes(resolve(key), BasicFileAttributes.class);
+            return new StoredObject(
+                    key, attributes.size(), attributes.lastModifiedTime().toInstant());
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        try {
+            return Files.newInputStream(resolve(key));
+        } catch (NoSuchFileException e) {
+            throw new FileNotFoundException("File not found: " + key);
+        }
+    }
+
+    @Override
+    public void put(String key, Path source, String contentType) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Override
+    public boolean delete(String key) throws IOException {
+        return Files.deleteIfExists(resolve(key));
+    }
+
+    @Override
+    public boolean move(String sourceKey, String targetKey) throws IOException {
+        Path target = resolve(targetKey);
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(resolve(sourceKey), target, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public Stream<StoredObject> list(boolean recursive) throws IOException {
+        Stream<Path> paths = recursive ? Files.walk(root) : Files.list(root);
+        return paths.filter(path -> Files.isRegularFile(path, LinkOption.NOFOLLOW_LINKS))
+                .map(this::toStoredObject)
+                .filter(Objects::nonNull);
+    }
+
+    @Override
+    public Path localPath(String key) {
+        return resolve(key);
+    }
+
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+
+        // Verify the normalized path is still within the storage location
+        if (!path.startsWith(root) || path.equals(root)) {
+            throw new IllegalArgumentException("Invalid file path");
+        }
+        return path;
+    }
+
+    // A file deleted between listing and reading its attributes is skipped
+    private StoredObject toStoredObject(Path path) {
+        String key = root.relativize(path).toString().replace('\\', '/');
+        try {
+            return stat(key);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.iyte_yazilim.proje_pazari.infrastructure.storage;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Signs S3 requests with AWS Signature Version 4.
+ *
+ * <p>Supports both forms used by {@link S3StorageBackend}: an {@code Authorization} header for
+ * requests made by the application, and query string signatures for presigned URLs handed to
+ * clients. Only the host header is signed besides the {@code x-amz-*} headers, which is what
+ * S3-compatible stores (AWS, MinIO, Ceph, R2) require.
+ *
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ */
+public class S3RequestSigner {
+
+    /** Payload hash for requests whose body is not signed (allowed by S3 over TLS). */
+    public static final String UNSIGNED_PAYLOAD = "UNSIGNED-PAYLOAD";
+
+    /** SHA-256 of the empty string, the payload hash of requests without a body. */
+    public static final String EMPTY_PAYLOAD =
+            "e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855";
+
+    private static final String ALGORITHM = "AWS4-HMAC-SHA256";
+    private static final String SERVICE = "s3";
+
+    private static final DateTimeFormatter TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+    private static final DateTimeFormatter DATE =
+            DateTimeFormatter.ofPattern("yyyyMMdd").withZone(ZoneOffset.UTC);
+
+    private final String accessKey;
+    private final String secretKey;
+    private final String region;
+
+    public S3RequestSigner(String accessKey, String secretKey, String region) {
+        this.accessKey = accessKey;
+        this.secretKey = secretKey;
+        this.region = region;
+    }
+
+    /**
+     * Computes the headers that authenticate a request.
+     *
+     * @param method the HTTP method
+     * @param uri the request URI; its path must already be encoded with {@link #encode}
+     * @param headers additional headers to sign, with lower-case names (e.g. {@code
+     *     x-amz-copy-source})
+     * @param payloadHash hex SHA-256 of the body, {@link #EMPTY_PAYLOAD} or {@link
+     *     #UNSIGNED_PAYLOAD}
+     * @param now the signing time
+     * @return headers to add to the request, including {@code Authorization}
+     */
+    public Map<String, String> sign(
+            String method,
+            URI uri,
+            Map<String, String> headers,
+            String payloadHash,
+            Instant now) {
+        String timestamp = TIMESTAMP.format(now);
+
+        Map<String, String> signed = new TreeMap<>(headers);
+        signed.put("host", hostOf(uri));
+        signed.put("x-amz-content-sha256", payloadHash);
+        signed.put("x-amz-date", timestamp);
+
+        StringBuilder canonicalHeaders = new StringBuilder();
+        for (Map.Entry<String, String> header : signed.entrySet()) {
+            canonicalHeaders.append(header.getKey()).append(':');
+            canonicalHeaders.append(header.getValue().trim()).append('\n');
+        }
+        String signedHeaders = String.join(";", signed.keySet());
+
+        String canonicalRequest =
+                String.join(
+                        "\n",
+                        method,
+                        uri.getRawPath(),
+                        canonicalQuery(uri.getRawQuery()),
+                        canonicalHeaders.toString(),
+                        signedHeaders,
+                        payloadHash);
+        String signature = signature(canonicalRequest, now);
+
+        Map<String, String> result = new LinkedHashMap<>();
+        result.put(
+                "Authorization",
+                ALGORITHM
+                        + " Credential="
+                        + accessKey
+                        + "/"
+                        + scope(now)
+                        + ", SignedHeaders="
+                        + signedHeaders
+                        + ", Signature="
+                        + signature);
+        result.put("x-amz-content-sha256", payloadHash);
+        result.put("x-amz-date", timestamp);
+        return result;
+    }
+
+    /**
+     * Creates a presigned URL that allows a {@code GET} without credentials.
+     *
+     * @param uri the object URI; its path must already be encoded with {@link #encode}
+     * @param validFor how long the URL stays usable (at most seven days)
+     * @param now the signing time
+     * @return the URI with the signature in its query string
+     */
+    public URI presign(URI uri, Duration validFor, Instant now) {
+        String query =
+                "X-Amz-Algorithm="
+                        + ALGORITHM
+                        + "&X-Amz-Credential="
+                        + encode(accessKey + "/" + scope(now), true)
+                        + "&X-Amz-Date="
+                        + TIMESTAMP.format(now)
+                        + "&X-Amz-Expires="
+                        + validFor.toSeconds()
+                        + "&X-Amz-SignedHeaders=host";
+        if (uri.getRawQuery() != null) {
+            query = uri.getRawQuery() + "&" + query;
+        }
+
+        String canonicalRequest =
+                String.join(
+                        "\n",
+                        "GET",
+                        uri.getRawPath(),
+                        canonicalQuery(query),
+                        "host:" + hostOf(uri) + "\n",
+                        "host",
+                        UNSIGNED_PAYLOAD);
+        String signature = signature(canonicalRequest, now);
+
+        String base = uri.toString();
+        int queryStart = base.indexOf('?');
+        if (queryStart >= 0) {
+            base = base.substring(0, queryStart);
+        }
+        return URI.create(base + "?" + query + "&X-Amz-Signature=" + signature);
+    }
+
+    /**
+     * URI-encodes a string as SigV4 requires: every byte except unreserved characters.
+     *
+     * @param value the string to encode
+     * @param encodeSlash false to keep {@code /} (for object key paths)
+     * @return the encoded string
+     */
+    public static String encode(String value, boolean encodeSlash) {
+        StringBuilder encoded = new StringBuilder();
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            char c = (char) (b & 0xFF);
+            if ((c >= 'A' && c <= 'Z')
+                    || (c >= 'a' && c <= 'z')
+                    || (c >= '0' && c <= '9')
+                    || c == '-'
+                    || c == '.'
+                    || c == '_'
+                    || c == '~'
+                    || (c == '/' && !encodeSlash)) {
+                encoded.append(c);
+            } else {
+                encoded.append('%').append(String.format("%02X", b & 0xFF));
+            }
+        }
+        return encoded.toString();
+    }
+
+    private String signature(String canonicalRequest, Instant now) {
+        String stringToSign =
+                String.join(
+                        "\n",
+                        ALGORITHM,
+                        TIMESTAMP.format(now),
+                        scope(now),
+                        HexFormat.of().formatHex(sha256(canonicalRequest)));
+
+        byte[] key = hmac(("AWS4" + secretKey).getBytes(StandardCharsets.UTF_8), DATE.format(now));
+        key = hmac(key, region);
+        key = hmac(key, SERVICE);
+        key = hmac(key, "aws4_request");
+        return HexFormat.of().formatHex(hmac(key, stringToSign));
+    }
+
+    private String scope(Instant now) {
+        return DATE.format(now) + "/" + region + "/" + SERVICE + "/aws4_request";
+    }
+
+    // Parameters sorted by name; names and values are already encoded
+    private static String canonicalQuery(String rawQuery) {
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return "";
+        }
+        List<String> parameters = new ArrayList<>();
+        for (String parameter : rawQuery.split("&")) {
+            parameters.add(parameter.contains("=") ? parameter : parameter + "=");
+        }
+        parameters.sort(null);
+        return String.join("&", parameters);
+    }
+
+    private static String hostOf(URI uri) {
+        boolean defaultPort =
+                uri.getPort() == -1
+                        || (uri.getScheme().equals("https") && uri.getPort() == 443)
+                        || (uri.getScheme().equals("http") && uri.getPort() == 80);
+        return defaultPort ? uri.getHost() : uri.getHost() + ":" + uri.getPort();
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256")
+                    .digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static byte[] hmac(byte[] key, String value) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(key, "HmacSHA256"));
+            return mac.doFinal(value.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,327 @@
+package com.iyte_yazilim.proje_pazari.infrastructure.storage;
+
+import com.iyte_yazilim.proje_pazari.domain.interfaces.IStorageBackend;
+import com.iyte_yazilim.proje_pazari.domain.models.StoredObject;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+/**
+ * Stores objects in a bucket of an S3-compatible object store.
+ *
+ * <p>Talks to the S3 REST API directly over the JDK HTTP client with path-style addressing
+ * ({@code <endpoint>/<bucket>/<key>}), which AWS S3, MinIO, Ceph and Cloudflare R2 all accept, so
+ * no SDK is needed. Requests are signed with {@link S3RequestSigner}.
+ *
+ * <p>Downloads never pass through the application: {@link #presignedDownloadUri} signs a URL
+ * against {@code public-endpoint}, which may differ from the endpoint the application uses (e.g.
+ * an internal MinIO address behind a public hostname).
+ *
+ * <h2>Configuration:</h2>
+ *
+ * <ul>
+ *   <li>{@code app.upload.s3.endpoint} - Base URL of the object store API
+ *   <li>{@code app.upload.s3.public-endpoint} - Base URL used in presigned links (defaults to
+ *       the endpoint)
+ *   <li>{@code app.upload.s3.region} - Signing region
+ *   <li>{@code app.upload.s3.bucket} - Bucket holding the uploads; must already exist
+ *   <li>{@code app.upload.s3.access-key} / {@code app.upload.s3.secret-key} - Credentials
+ * </ul>
+ *
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ */
+public class S3StorageBackend implements IStorageBackend {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    private static final int LIST_PAGE_SIZE = 1000;
+    private static final DateTimeFormatter RFC_1123 = DateTimeFormatter.RFC_1123_DATE_TIME;
+
+    private final HttpClient httpClient;
+    private final S3RequestSigner signer;
+    private final String endpoint;
+    private final String publicEndpoint;
+    private final String bucket;
+
+    public S3StorageBackend(
+            String endpoint,
+            String publicEndpoint,
+            String region,
+            String bucket,
+            String accessKey,
+            String secretKey) {
+        this.httpClient =
+                HttpClient.newBuilder()
+                        .connectTimeout(Duration.ofSeconds(5))
+                        .followRedirects(HttpClient.Redirect.NEVER)
+                        .build();
+        this.signer = new S3RequestSigner(accessKey, secretKey, region);
+        this.endpoint = stripTrailingSlash(endpoint);
+        this.publicEndpoint =
+                stripTrailingSlash(
+                        publicEndpoint == null || publicEndpoint.isBlank()
+                                ? endpoint
+                                : publicEndpoint);
+        this.bucket = bucket;
+    }
+
+    @Override
+    public StoredObject stat(String key) throws IOException {
+        HttpRequest request = request("HEAD", objectUri(endpoint, key)).build();
+        HttpResponse<Void> response = send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() == 404) {
+            return null;
+        }
+        expectSuccess(response, "HEAD", key);
+
+        long size = response.headers().firstValueAsLong("Content-Length").orElse(0);
+        Instant lastModified =
+                response.headers()
+                        .firstValue("Last-Modified")
+                        .map(value -> ZonedDateTime.parse(value, RFC_1123).toInstant())
+                        .orElse(Instant.EPOCH);
+        return new StoredObject(key, size, lastModified);
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        HttpRequest request = request("GET", objectUri(endpoint, key)).build();
+        HttpResponse<InputStream> response =
+                send(request, HttpResponse.BodyHandlers.ofInputStream());
+        if (response.statusCode() == 404) {
+            response.body().close();
+            throw new FileNotFoundException("File not found: " + key);
+        }
+        if (response.statusCode() / 100 != 2) {
+            response.body().close();
+            throw failure(response.statusCode(), "GET", key);
+        }
+        return response.body();
+    }
+
+    @Override
+    public void put(String key, Path source, String contentType) throws IOException {
+        // The body streams from disk; S3 accepts unsigned payloads over TLS
+        URI uri = objectUri(endpoint, key);
+        HttpRequest request =
+                signed("PUT", uri, Map.of(), S3RequestSigner.UNSIGNED_PAYLOAD)
+                        .header("Content-Type", contentType)
+                        .PUT(HttpRequest.BodyPublishers.ofFile(source))
+                        .build();
+        expectSuccess(send(request, HttpResponse.BodyHandlers.discarding()), "PUT", key);
+    }
+
+    @Override
+    public boolean delete(String key) throws IOException {
+        HttpRequest request = request("DELETE", objectUri(endpoint, key)).build();
+        HttpResponse<Void> response = send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() == 404) {
+            return false;
+        }
+        expectSuccess(response, "DELETE", key);
+
+        // S3 answers 204 whether or not the object existed
+        return true;
+    }
+
+    @Override
+    public boolean move(String sourceKey, String targetKey) throws IOException {
+        // S3 has no rename: copy server-side, then delete the source
+        String copySource = "/" + bucket + "/" + S3RequestSigner.encode(sourceKey, false);
+        HttpRequest request =
+                signed(
+                                "PUT",
+                                objectUri(endpoint, targetKey),
+                                Map.of("x-amz-copy-source", copySource),
+                                S3RequestSigner.EMPTY_PAYLOAD)
+                        .PUT(HttpRequest.BodyPublishers.noBody())
+                        .build();
+        HttpResponse<String> response = send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() == 404) {
+            return false;
+        }
+        // A copy can fail after the 200 status line has been sent; the body then holds an error
+        if (response.statusCode() / 100 != 2 || response.body().contains("<Error>")) {
+            throw failure(response.statusCode(), "COPY", sourceKey);
+        }
+        delete(sourceKey);
+        return true;
+    }
+
+    @Override
+    public Stream<StoredObject> list(boolean recursive) throws IOException {
+        ListingIterator iterator = new ListingIterator(recursive);
+        iterator.fetchNextPage();
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
+    }
+
+    @Override
+    public URI presignedDownloadUri(String key, Duration validFor) {
+        return signer.presign(objectUri(publicEndpoint, key), validFor, Instant.now());
+    }
+
+    private URI objectUri(String base, String key) {
+        return URI.create(base + "/" + bucket + "/" + S3RequestSigner.encode(key, false));
+    }
+
+    private HttpRequest.Builder request(String method, URI uri) {
+        return signed(method, uri, Map.of(), S3RequestSigner.EMPTY_PAYLOAD)
+                .method(method, HttpRequest.BodyPublishers.noBody());
+    }
+
+    private HttpRequest.Builder signed(
+            String method, URI uri, Map<String, String> headers, String payloadHash) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri).timeout(TIMEOUT);
+        headers.forEach(builder::header);
+        signer.sign(method, uri, headers, payloadHash, Instant.now()).forEach(builder::header);
+        return builder;
+    }
+
+    private <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> handler)
+            throws IOException {
+        try {
+            return httpClient.send(request, handler);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the object store");
+        }
+    }
+
+    private static void expectSuccess(HttpResponse<?> response, String operation, String key)
+            throws IOException {
+        if (response.statusCode() / 100 != 2) {
+            throw failure(response.statusCode(), operation, key);
+        }
+    }
+
+    private static IOException failure(int status, String operation, String key) {
+        return new IOException("Object store " + operation + " " + key + " failed: " + status);
+    }
+
+    private static String stripTrailingSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    /** Pages through ListObjectsV2 lazily, one request per {@value #LIST_PAGE_SIZE} keys. */
+    private final class ListingIterator implements Iterator<StoredObject> {
+
+        private final boolean recursive;
+        private List<StoredObject> page = List.of();
+        private int position;
+        private String continuationToken;
+        private boolean lastPage;
+
+        ListingIterator(boolean recursive) {
+            this.recursive = recursive;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (position == page.size() && !lastPage) {
+                try {
+                    fetchNextPage();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return position < page.size();
+        }
+
+        @Override
+        public StoredObject next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return page.get(position++);
+        }
+
+        void fetchNextPage() throws IOException {
+            StringBuilder query = new StringBuilder("list-type=2&max-keys=" + LIST_PAGE_SIZE);
+            if (!recursive) {
+                query.append("&delimiter=%2F");
+            }
+            if (continuationToken != null) {
+                query.append("&continuation-token=")
+                        .append(S3RequestSigner.encode(continuationToken, true));
+            }
+            URI uri = URI.create(endpoint + "/" + bucket + "?" + query);
+            HttpResponse<InputStream> response =
+                    send(request("GET", uri).build(), HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream body = response.body()) {
+                if (response.statusCode() / 100 != 2) {
+                    throw failure(response.statusCode(), "LIST", bucket);
+                }
+                parse(body);
+            }
+        }
+
+        private void parse(InputStream body) throws IOException {
+            Document document;
+            try {
+                DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+                factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+                factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+                document = factory.newDocumentBuilder().parse(body);
+            } catch (ParserConfigurationException | SAXException e) {
+                throw new IOException("Invalid object listing", e);
+            }
+
+            List<StoredObject> objects = new ArrayList<>();
+            NodeList contents = document.getElementsByTagName("Contents");
+            for (int i = 0; i < contents.getLength(); i++) {
+                Element entry = (Element) contents.item(i);
+                objects.add(
+                        new StoredObject(
+                                text(entry, "Key"),
+                                Long.parseLong(text(entry, "Size")),
+                                Instant.parse(text(entry, "LastModified"))));
+            }
+
+            Element root = document.getDocumentElement();
+            continuationToken = text(root, "NextContinuationToken");
+            lastPage = !"true".equals(text(root, "IsTruncated")) || continuationToken == null;
+            page = objects;
+            position = 0;
+        }
+    }
+
+    // Direct children only, so the Prefix of CommonPrefixes is not mistaken for a key
+    private static String text(Element parent, String tag) {
+        for (Node node = parent.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (node instanceof Element element && element.getTagName().equals(tag)) {
+                return element.getTextContent();
+            }
+        }
+        return null;
+    }
+}
@@ -1,6 +1,8 @@
 package com.iyte_yazilim.proje_pazari.presentation.config;
 
+import com.iyte_yazilim.proje_pazari.presentation.security.JwtKeyRing;
 import jakarta.annotation.PostConstruct;
+import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
@@ -12,6 +14,9 @@ public class JwtSecretValidator {
     @Value("${jwt.secret}")
     private String jwtSecret;
 
+    @Value("${jwt.verification-keys:}")
+    private String verificationKeys;
+
     private static final String DEFAULT_SECRET =
             "your-256-bit-secret-key-change-this-in-production-please-make-it-long-enough-for-hs256";
 
@@ -39,6 +44,20 @@ public class JwtSecretValidator {
             throw new IllegalStateException(errorMessage);
         }
 
+        for (Map.Entry<String, String> key :
+                JwtKeyRing.parseRetiredKeys(verificationKeys).entrySet()) {
+            if (key.getValue().length() < 32) {
+                String errorMessage =
+                        "SECURITY ERROR: JWT verification key '"
+                                + key.getKey()
+                                + "' is too short (minimum 32 characters required for HS256). "
+                                + "Please fix JWT_VERIFICATION_KEYS. "
+                                + "Application startup blocked.";
+                log.error(errorMessage);
+                throw new IllegalStateException(errorMessage);
+            }
+        }
+
         log.info("JWT secret validation passed");
     }
 }
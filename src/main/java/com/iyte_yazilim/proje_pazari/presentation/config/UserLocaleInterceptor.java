@@ -1,11 +1,9 @@
 package com.iyte_yazilim.proje_pazari.presentation.config;
 
-import com.iyte_yazilim.proje_pazari.infrastructure.persistence.UserRepository;
-import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.UserEntity;
+import com.iyte_yazilim.proje_pazari.presentation.security.UserPrincipal;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.util.Locale;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.security.core.Authentication;
@@ -15,15 +13,15 @@ import org.springframework.web.servlet.HandlerInterceptor;
 
 /**
  * Interceptor to set user's preferred language for localized responses. Priority: 1. User's
- * preferred language (from DB) 2. Accept-Language header 3. Default (tr)
+ * preferred language (from the JWT {@code lang} claim) 2. Accept-Language header 3. Default (tr)
+ *
+ * <p>The preference is read from the authenticated {@link UserPrincipal}, so no database access
+ * happens per request. Tokens are reissued when the preference changes.
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class UserLocaleInterceptor implements HandlerInterceptor {
 
-    private final UserRepository userRepository;
-
     @Override
     public boolean preHandle(
             HttpServletRequest request, HttpServletResponse response, Object handler) {
@@ -33,24 +31,14 @@ public class UserLocaleInterceptor implements HandlerInterceptor {
         // If user is authenticated, check their language preference
         if (authentication != null
                 && authentication.isAuthenticated()
-                && !"anonymousUser".equals(authentication.getPrincipal())) {
-
-            String email = authentication.getName();
-
-            try {
-                UserEntity user = userRepository.findByEmail(email).orElse(null);
-
-                if (user != null
-                        && user.getPreferredLanguage() != null
-                        && !user.getPreferredLanguage().isBlank()) {
-                    // User has a language preference - use it
-                    Locale userLocale = Locale.forLanguageTag(user.getPreferredLanguage());
-                    LocaleContextHolder.setLocale(userLocale);
-                    log.debug("Set locale to user preference: {}", user.getPreferredLanguage());
-                    return true;
-                }
-            } catch (Exception e) {
-                log.warn("Failed to load user language preference for: {}", email, e);
+                && authentication.getPrincipal() instanceof UserPrincipal principal) {
+
+            String preferredLanguage = principal.getPreferredLanguage();
+            if (preferredLanguage != null && !preferredLanguage.isBlank()) {
+                // User has a language preference - use it
+                LocaleContextHolder.setLocale(Locale.forLanguageTag(preferredLanguage));
+                log.debug("Set locale to user preference: {}", preferredLanguage);
+                return true;
             }
         }
 
@@ -1,10 +1,13 @@
 package com.iyte_yazilim.proje_pazari.presentation.controllers;
 
 import com.iyte_yazilim.proje_pazari.application.commands.loginUser.LoginUserCommand;
+import com.iyte_yazilim.proje_pazari.application.commands.loginUser.LoginUserRequest;
+import com.iyte_yazilim.proje_pazari.application.commands.refreshToken.RefreshTokenCommand;
 import com.iyte_yazilim.proje_pazari.application.commands.registerUser.RegisterUserCommand;
 import com.iyte_yazilim.proje_pazari.domain.interfaces.IRequestHandler;
 import com.iyte_yazilim.proje_pazari.domain.models.ApiResponse;
 import com.iyte_yazilim.proje_pazari.domain.models.results.LoginUserResult;
+import com.iyte_yazilim.proje_pazari.domain.models.results.RefreshTokenResult;
 import com.iyte_yazilim.proje_pazari.domain.models.results.RegisterUserResult;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -12,6 +15,7 @@ import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -27,6 +31,7 @@ import org.springframework.web.bind.annotation.*;
  * <ul>
  *   <li>User registration
  *   <li>User login
+ *   <li>Access token refresh
  * </ul>
  *
  * <h2>Base Path:</h2>
@@ -49,6 +54,11 @@ import org.springframework.web.bind.annotation.*;
  * POST /api/v1/auth/login
  * Content-Type: application/json
  * {"email":"student@iyte.edu.tr","password":"Pass123!"}
+ *
+ * // Refresh
+ * POST /api/v1/auth/refresh
+ * Content-Type: application/json
+ * {"refreshToken":"q3Vx0pN1..."}
  * }</pre>
  *
  * @author IYTE Yazılım Topluluğu
@@ -56,6 +66,7 @@ import org.springframework.web.bind.annotation.*;
  * @since 2024-01-01
  * @see RegisterUserCommand
  * @see LoginUserCommand
+ * @see RefreshTokenCommand
  */
 @RestController
 @RequestMapping("/api/v1/auth")
@@ -70,6 +81,8 @@ public class AuthController {
     private final IRequestHandler<RegisterUserCommand, ApiResponse<RegisterUserResult>>
             registerUserHandler;
     private final IRequestHandler<LoginUserCommand, ApiResponse<LoginUserResult>> loginUserHandler;
+    private final IRequestHandler<RefreshTokenCommand, ApiResponse<RefreshTokenResult>>
+            refreshTokenHandler;
 
     @PostMapping("/register")
     @Operation(
@@ -182,8 +195,8 @@ public class AuthController {
                                             "message": "Login successful",
                                             "data": {
                                                 "token": "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...",
-                                                "tokenType": "Bearer",
-                                                "expiresIn": 86400000
+                                                "refreshToken": "q3Vx0pN1...",
+                                                "expiresIn": 900000
                                             }
                                         }
                                         """))),
@@ -204,7 +217,14 @@ public class AuthController {
                                             "message": "Invalid email or password",
                                             "data": null
                                         }
-                                        """)))
+                                        """))),
+                @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                        responseCode = "429",
+                        description = "Too many login attempts for this email or client",
+                        content =
+                                @Content(
+                                        mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                        schema = @Schema(implementation = ApiResponse.class)))
             })
     @io.swagger.v3.oas.annotations.parameters.RequestBody(
             description = "User login credentials",
@@ -212,7 +232,7 @@ public class AuthController {
             content =
                     @Content(
                             mediaType = MediaType.APPLICATION_JSON_VALUE,
-                            schema = @Schema(implementation = LoginUserCommand.class),
+                            schema = @Schema(implementation = LoginUserRequest.class),
                             examples =
                                     @ExampleObject(
                                             name = "Login Request",
@@ -224,14 +244,57 @@ public class AuthController {
                         }
                         """)))
     public ResponseEntity<ApiResponse<LoginUserResult>> login(
-            @Valid @RequestBody LoginUserCommand command) {
+            @Valid @RequestBody LoginUserRequest body, HttpServletRequest request) {
+
+        // Behind the load balancer the remote address is taken from X-Forwarded-For, trusting
+        // only proxies matched by server.tomcat.remoteip.internal-proxies
+        ApiResponse<LoginUserResult> response =
+                loginUserHandler.handle(body.toCommand(request.getRemoteAddr()));
+
+        HttpStatus status =
+                switch (response.getCode()) {
+                    case SUCCESS -> HttpStatus.OK;
+                    case BAD_REQUEST -> HttpStatus.BAD_REQUEST;
+                    case TOO_MANY_REQUESTS -> HttpStatus.TOO_MANY_REQUESTS;
+                    default -> HttpStatus.OK;
+                };
+
+        return ResponseEntity.status(status).body(response);
+    }
+
+    @PostMapping("/refresh")
+    @Operation(
+            summary = "Refresh access token",
+            description =
+                    "Exchanges a refresh token for a new access token and a new refresh token. "
+                            + "Each refresh token can be used once; reusing one revokes the session.")
+    @ApiResponses(
+            value = {
+                @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                        responseCode = "200",
+                        description = "Token refreshed",
+                        content =
+                                @Content(
+                                        mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                        schema = @Schema(implementation = ApiResponse.class))),
+                @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                        responseCode = "401",
+                        description = "Unknown, expired or already used refresh token",
+                        content =
+                                @Content(
+                                        mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                        schema = @Schema(implementation = ApiResponse.class)))
+            })
+    public ResponseEntity<ApiResponse<RefreshTokenResult>> refresh(
+            @Valid @RequestBody RefreshTokenCommand command) {
 
-        ApiResponse<LoginUserResult> response = loginUserHandler.handle(command);
+        ApiResponse<RefreshTokenResult> response = refreshTokenHandler.handle(command);
 
         HttpStatus status =
                 switch (response.getCode()) {
                     case SUCCESS -> HttpStatus.OK;
                     case BAD_REQUEST -> HttpStatus.BAD_REQUEST;
+                    case UNAUTHORIZED -> HttpStatus.UNAUTHORIZED;
                     default -> HttpStatus.OK;
                 };
 
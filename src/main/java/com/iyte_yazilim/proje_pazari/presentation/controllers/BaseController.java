@@ -1,6 +1,11 @@
 package com.iyte_yazilim.proje_pazari.presentation.controllers;
 
 import com.iyte_yazilim.proje_pazari.presentation.security.UserPrincipal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -26,4 +31,29 @@ public abstract class BaseController {
     protected String getCurrentUserRole(Authentication authentication) {
         return getCurrentUser(authentication).getRole();
     }
+
+    /**
+     * Builds a weak entity tag from the state of a resource.
+     *
+     * <p>The response message is localized, so the request locale is part of the tag. The
+     * per-response timestamp is not, so two responses with equal tags carry the same data but not
+     * the same bytes; the tag is therefore weak, which is all {@code If-None-Match} needs.
+     *
+     * @param state the resource data, typically an immutable DTO record
+     * @return the tag, in the {@code W/"..."} form
+     */
+    protected String entityTag(Object state) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            sha256.update(String.valueOf(state).getBytes(StandardCharsets.UTF_8));
+            sha256.update((byte) 0);
+            sha256.update(
+                    LocaleContextHolder.getLocale()
+                            .toLanguageTag()
+                            .getBytes(StandardCharsets.UTF_8));
+            return "W/\"" + HexFormat.of().formatHex(sha256.digest(), 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
 }
@@ -1,16 +1,23 @@
 package com.iyte_yazilim.proje_pazari.presentation.controllers;
 
+import com.iyte_yazilim.proje_pazari.application.services.AvatarRenditionService;
 import com.iyte_yazilim.proje_pazari.application.services.FileStorageService;
+import com.iyte_yazilim.proje_pazari.application.services.StoredFileMetadata;
+import com.iyte_yazilim.proje_pazari.presentation.web.FileResponseWriter;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -21,12 +28,15 @@ import org.springframework.web.bind.annotation.*;
 public class FileController {
 
     private final FileStorageService fileStorageService;
+    private final AvatarRenditionService avatarRenditionService;
+    private final FileResponseWriter fileResponseWriter;
 
     @GetMapping("/{fileName:.+}")
     @Operation(
             summary = "Download file",
             description =
                     "Serves uploaded files (e.g., profile pictures). "
+                            + "Pass size to get a downscaled rendition of an image. "
                             + "Currently public for profile pictures. "
                             + "TODO: Add authentication/authorization if used for private files.")
     @ApiResponses(
@@ -34,44 +44,108 @@ public class FileController {
                 @io.swagger.v3.oas.annotations.responses.ApiResponse(
                         responseCode = "200",
                         description = "File retrieved successfully"),
+                @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                        responseCode = "206",
+                        description = "Requested byte range of the file"),
+                @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                        responseCode = "304",
+                        description = "File unchanged since If-None-Match / If-Modified-Since"),
+                @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                        responseCode = "307",
+                        description = "Presigned link to the file in the object store"),
                 @io.swagger.v3.oas.annotations.responses.ApiResponse(
                         responseCode = "404",
-                        description = "File not found")
+                        description = "File not found"),
+                @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                        responseCode = "416",
+                        description = "Requested range not satisfiable")
             })
-    public ResponseEntity<Resource> downloadFile(@PathVariable String fileName) {
+    public void downloadFile(
+            @PathVariable String fileName,
+            @Parameter(description = "Requested size in pixels; served by the nearest rendition")
+                    @RequestParam(required = false)
+                    Integer size,
+            HttpServletRequest request,
+            HttpServletResponse response)
+            throws IOException {
+        StoredFileMetadata metadata;
         try {
-            Resource resource = fileStorageService.loadFileAsResource(fileName);
-
-            String contentType = "application/octet-stream";
+            metadata = fileStorageService.getFileMetadata(fileName);
+        } catch (IOException e) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
 
-            // Try to determine file's content type
+        String renditionName =
+                size != null ? fileStorageService.renditionFor(fileName, size) : null;
+        if (renditionName != null) {
             try {
-                int lastDotIndex = fileName.lastIndexOf(".");
-                if (lastDotIndex >= 0 && lastDotIndex < fileName.length() - 1) {
-                    String fileExtension = fileName.substring(lastDotIndex + 1).toLowerCase();
-                    contentType =
-                            switch (fileExtension) {
-                                case "jpg", "jpeg" -> "image/jpeg";
-                                case "png" -> "image/png";
-                                case "gif" -> "image/gif";
-                                case "webp" -> "image/webp";
-                                default -> "application/octet-stream";
-                            };
-                }
-            } catch (Exception e) {
-                // Log the exception for debugging purposes
-                log.debug("Failed to determine content type for file: {}", fileName, e);
-                // Use default content type
+                StoredFileMetadata rendition = fileStorageService.getFileMetadata(renditionName);
+                send(rendition, contentTypeOf(renditionName), request, response);
+                return;
+            } catch (FileNotFoundException e) {
+                // Not rendered yet: serve the original, but do not let it be cached as this size
+                avatarRenditionService.requestRenditions(fileName);
+                metadata =
+                        new StoredFileMetadata(
+                                metadata.fileName(),
+                                metadata.key(),
+                                metadata.path(),
+                                metadata.size(),
+                                metadata.lastModified(),
+                                metadata.etag(),
+                                false);
             }
+        }
 
-            return ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType(contentType))
-                    .header(
-                            HttpHeaders.CONTENT_DISPOSITION,
-                            "inline; filename=\"" + resource.getFilename() + "\"")
-                    .body(resource);
-        } catch (IOException e) {
-            return ResponseEntity.notFound().build();
+        send(metadata, contentTypeOf(fileName), request, response);
+    }
+
+    // Object stores hand out presigned links, so the bytes never pass through the application
+    private void send(
+            StoredFileMetadata file,
+            String contentType,
+            HttpServletRequest request,
+            HttpServletResponse response)
+            throws IOException {
+        URI location = fileStorageService.presignedDownloadUri(file);
+        if (location == null) {
+            fileResponseWriter.write(file, contentType, request, response);
+            return;
         }
+
+        // Reusing a link for half its lifetime leaves clients enough time to finish the download
+        long maxAge = fileStorageService.presignedUrlTtl().toSeconds() / 2;
+        response.setStatus(HttpServletResponse.SC_TEMPORARY_REDIRECT);
+        response.setHeader(HttpHeaders.LOCATION, location.toString());
+        response.setHeader(
+                HttpHeaders.CACHE_CONTROL,
+                CacheControl.maxAge(maxAge, TimeUnit.SECONDS).cachePrivate().getHeaderValue());
+    }
+
+    private String contentTypeOf(String fileName) {
+        String contentType = "application/octet-stream";
+
+        // Try to determine file's content type
+        try {
+            int lastDotIndex = fileName.lastIndexOf(".");
+            if (lastDotIndex >= 0 && lastDotIndex < fileName.length() - 1) {
+                String fileExtension = fileName.substring(lastDotIndex + 1).toLowerCase();
+                contentType =
+                        switch (fileExtension) {
+                            case "jpg", "jpeg" -> "image/jpeg";
+                            case "png" -> "image/png";
+                            case "gif" -> "image/gif";
+                            case "webp" -> "image/webp";
+                            default -> "application/octet-stream";
+                        };
+            }
+        } catch (Exception e) {
+            // Log the exception for debugging purposes
+            log.debug("Failed to determine content type for file: {}", fileName, e);
+            // Use default content type
+        }
+
+        return contentType;
     }
 }
@@ -1,6 +1,16 @@
 package com.iyte_yazilim.proje_pazari.presentation.controllers;
 
+import com.iyte_yazilim.proje_pazari.application.commands.applyToProject.ApplyToProjectCommand;
+import com.iyte_yazilim.proje_pazari.application.commands.approveApplication.ApproveApplicationCommand;
 import com.iyte_yazilim.proje_pazari.application.commands.createProject.CreateProjectCommand;
+import com.iyte_yazilim.proje_pazari.application.commands.rejectApplication.RejectApplicationCommand;
+import com.iyte_yazilim.proje_pazari.application.dtos.CursorPageDTO;
+import com.iyte_yazilim.proje_pazari.application.dtos.ProjectApplicationDTO;
+import com.iyte_yazilim.proje_pazari.application.dtos.ProjectSummaryDTO;
+import com.iyte_yazilim.proje_pazari.application.queries.browseProjects.BrowseProjectsQuery;
+import com.iyte_yazilim.proje_pazari.application.queries.searchProjects.SearchProjectsQuery;
+import com.iyte_yazilim.proje_pazari.domain.enums.ProjectStatus;
+import com.iyte_yazilim.proje_pazari.domain.enums.ResponseCode;
 import com.iyte_yazilim.proje_pazari.domain.interfaces.IRequestHandler;
 import com.iyte_yazilim.proje_pazari.domain.models.ApiResponse;
 import com.iyte_yazilim.proje_pazari.domain.models.results.CreateProjectCommandResult;
@@ -12,11 +22,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.time.LocalDateTime;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -27,10 +41,92 @@ import org.springframework.web.bind.annotation.*;
         description =
                 "Project management endpoints. "
                         + "Allows users to create, read, update, and delete projects.")
-public class ProjectController {
+public class ProjectController extends BaseController {
 
     private final IRequestHandler<CreateProjectCommand, ApiResponse<CreateProjectCommandResult>>
             createProjectHandler;
+    private final IRequestHandler<
+                    BrowseProjectsQuery, ApiResponse<CursorPageDTO<ProjectSummaryDTO>>>
+            browseProjectsHandler;
+    private final IRequestHandler<SearchProjectsQuery, ApiResponse<List<ProjectSummaryDTO>>>
+            searchProjectsHandler;
+    private final IRequestHandler<ApplyToProjectCommand, ApiResponse<ProjectApplicationDTO>>
+            applyToProjectHandler;
+    private final IRequestHandler<ApproveApplicationCommand, ApiResponse<ProjectApplicationDTO>>
+            approveApplicationHandler;
+    private final IRequestHandler<RejectApplicationCommand, ApiResponse<ProjectApplicationDTO>>
+            rejectApplicationHandler;
+
+    @GetMapping
+    @Operation(
+            summary = "Browse projects",
+            description =
+                    "Lists published projects newest first, page by page. Pass the returned "
+                            + "nextCursor to fetch the next page. Page size defaults to 20, "
+                            + "max 100. Filters combine with AND; a project matches the skills "
+                            + "filter if it requires every listed skill.")
+    @ApiResponses(
+            value = {
+                @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                        responseCode = "200",
+                        description = "Projects retrieved successfully"),
+                @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                        responseCode = "400",
+                        description = "Invalid cursor, DRAFT status or empty deadline range")
+            })
+    public ResponseEntity<ApiResponse<CursorPageDTO<ProjectSummaryDTO>>> browseProjects(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) ProjectStatus status,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) List<String> skills,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                    LocalDateTime deadlineFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                    LocalDateTime deadlineTo) {
+
+        ApiResponse<CursorPageDTO<ProjectSummaryDTO>> response =
+                browseProjectsHandler.handle(
+                        new BrowseProjectsQuery(
+                                cursor, limit, status, category, skills, deadlineFrom, deadlineTo));
+
+        HttpStatus httpStatus =
+                response.getCode() == ResponseCode.BAD_REQUEST
+                        ? HttpStatus.BAD_REQUEST
+                        : HttpStatus.OK;
+
+        return ResponseEntity.status(httpStatus).body(response);
+    }
+
+    @GetMapping("/search")
+    @Operation(
+            summary = "Search projects",
+            description =
+                    "Ranks published projects by relevance to a keyword query over title, "
+                            + "summary and description. Matching ignores case and Turkish "
+                            + "diacritics, so \"yazilim\" finds \"Yazılım\".")
+    @ApiResponses(
+            value = {
+                @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                        responseCode = "200",
+                        description = "Projects retrieved successfully, best match first"),
+                @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                        responseCode = "400",
+                        description = "Blank or overlong query")
+            })
+    public ResponseEntity<ApiResponse<List<ProjectSummaryDTO>>> searchProjects(
+            @RequestParam String q, @RequestParam(required = false) Integer limit) {
+
+        ApiResponse<List<ProjectSummaryDTO>> response =
+                searchProjectsHandler.handle(new SearchProjectsQuery(q, limit));
+
+        HttpStatus httpStatus =
+                response.getCode() == ResponseCode.BAD_REQUEST
+                        ? HttpStatus.BAD_REQUEST
+                        : HttpStatus.OK;
+
+        return ResponseEntity.status(httpStatus).body(response);
+    }
 
     @PostMapping
     @PreAuthorize("isAuthenticated()")
@@ -142,4 +238,120 @@ public class ProjectController {
 
         return ResponseEntity.status(status).body(response);
     }
+
+    @PostMapping("/{projectId}/applications")
+    @PreAuthorize("isAuthenticated()")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @Operation(
+            summary = "Apply to a project",
+            description =
+                    "Submits a pending application from the authenticated user. A user can "
+                            + "apply to a project once, and only while it is open and its team "
+                            + "has room.")
+    @ApiResponses(
+            value = {
+                @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                        responseCode = "201",
+                        description = "Application submitted"),
+                @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                        responseCode = "400",
+                        description = "The user owns the project"),
+                @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                        responseCode = "404",
+                        description = "Project not found"),
+                @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                        responseCode = "409",
+                        description = "Already applied, or the project is not accepting")
+            })
+    public ResponseEntity<ApiResponse<ProjectApplicationDTO>> applyToProject(
+            @PathVariable String projectId, Authentication auth) {
+
+        ApiResponse<ProjectApplicationDTO> response =
+                applyToProjectHandler.handle(
+                        new ApplyToProjectCommand(projectId, getCurrentUserId(auth)));
+
+        return ResponseEntity.status(applicationStatus(response)).body(response);
+    }
+
+    @PostMapping("/{projectId}/applications/{applicationId}/approve")
+    @PreAuthorize("isAuthenticated()")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @Operation(
+            summary = "Approve an application",
+            description =
+                    "Accepts a pending applicant into the team. Only the project owner can "
+                            + "approve, and only while the team has room.")
+    @ApiResponses(
+            value = {
+                @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                        responseCode = "200",
+                        description = "Application approved"),
+                @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                        responseCode = "403",
+                        description = "The user does not own the project"),
+                @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                        responseCode = "404",
+                        description = "Application not found"),
+                @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                        responseCode = "409",
+                        description = "Application already reviewed, or the team is full")
+            })
+    public ResponseEntity<ApiResponse<ProjectApplicationDTO>> approveApplication(
+            @PathVariable String projectId,
+            @PathVariable String applicationId,
+            Authentication auth) {
+
+        ApiResponse<ProjectApplicationDTO> response =
+                approveApplicationHandler.handle(
+                        new ApproveApplicationCommand(
+                                projectId, applicationId, getCurrentUserId(auth)));
+
+        return ResponseEntity.status(applicationStatus(response)).body(response);
+    }
+
+    @PostMapping("/{projectId}/applications/{applicationId}/reject")
+    @PreAuthorize("isAuthenticated()")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @Operation(
+            summary = "Reject an application",
+            description = "Turns down a pending application. Only the project owner can reject.")
+    @ApiResponses(
+            value = {
+                @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                        responseCode = "200",
+                        description = "Application rejected"),
+                @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                        responseCode = "403",
+                        description = "The user does not own the project"),
+                @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                        responseCode = "404",
+                        description = "Application not found"),
+                @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                        responseCode = "409",
+                        description = "Application already reviewed")
+            })
+    public ResponseEntity<ApiResponse<ProjectApplicationDTO>> rejectApplication(
+            @PathVariable String projectId,
+            @PathVariable String applicationId,
+            Authentication auth) {
+
+        ApiResponse<ProjectApplicationDTO> response =
+                rejectApplicationHandler.handle(
+                        new RejectApplicationCommand(
+                                projectId, applicationId, getCurrentUserId(auth)));
+
+        return ResponseEntity.status(applicationStatus(response)).body(response);
+    }
+
+    private static HttpStatus applicationStatus(ApiResponse<?> response) {
+        return switch (response.getCode()) {
+            case CREATED -> HttpStatus.CREATED;
+            case BAD_REQUEST -> HttpStatus.BAD_REQUEST;
+            case FORBIDDEN -> HttpStatus.FORBIDDEN;
+            case NOT_FOUND -> HttpStatus.NOT_FOUND;
+            case CONFLICT -> HttpStatus.CONFLICT;
+            case INTERNAL_SERVER_ERROR -> HttpStatus.INTERNAL_SERVER_ERROR;
+            default -> HttpStatus.OK;
+        };
+    }
 }
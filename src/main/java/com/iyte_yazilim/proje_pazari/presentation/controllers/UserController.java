@@ -4,20 +4,33 @@ import com.iyte_yazilim.proje_pazari.application.commands.changePassword.ChangeP
 import com.iyte_yazilim.proje_pazari.application.commands.deactivateAccount.DeactivateAccountCommand;
 import com.iyte_yazilim.proje_pazari.application.commands.updateUserProfile.UpdateUserProfileCommand;
 import com.iyte_yazilim.proje_pazari.application.commands.uploadProfilePicture.UploadProfilePictureCommand;
+import com.iyte_yazilim.proje_pazari.application.dtos.CursorPageDTO;
+import com.iyte_yazilim.proje_pazari.application.dtos.ProjectSummaryDTO;
 import com.iyte_yazilim.proje_pazari.application.dtos.UserDto;
 import com.iyte_yazilim.proje_pazari.application.dtos.UserProfileDTO;
 import com.iyte_yazilim.proje_pazari.application.queries.getAllUsers.GetAllUsersQuery;
 import com.iyte_yazilim.proje_pazari.application.queries.getCurrentUserProfile.GetCurrentUserProfileQuery;
+import com.iyte_yazilim.proje_pazari.application.queries.getRecommendedProjects.GetRecommendedProjectsQuery;
 import com.iyte_yazilim.proje_pazari.application.queries.getUserProfile.GetUserProfileQuery;
+import com.iyte_yazilim.proje_pazari.domain.enums.ResponseCode;
+import com.iyte_yazilim.proje_pazari.domain.enums.UserRole;
 import com.iyte_yazilim.proje_pazari.domain.interfaces.IRequestHandler;
 import com.iyte_yazilim.proje_pazari.domain.models.ApiResponse;
+import com.iyte_yazilim.proje_pazari.presentation.security.JwtUtil;
+import com.iyte_yazilim.proje_pazari.presentation.security.UserPrincipal;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -36,6 +49,9 @@ import org.springframework.web.multipart.MultipartFile;
                         + "Most endpoints require authentication.")
 public class UserController extends BaseController {
 
+    /** Response header carrying a reissued access token after the language preference changes. */
+    public static final String REFRESHED_TOKEN_HEADER = "X-Refreshed-Token";
+
     private final IRequestHandler<GetCurrentUserProfileQuery, ApiResponse<UserProfileDTO>>
             getCurrentUserProfileHandler;
     private final IRequestHandler<GetUserProfileQuery, ApiResponse<UserProfileDTO>>
@@ -47,28 +63,46 @@ public class UserController extends BaseController {
     private final IRequestHandler<ChangePasswordCommand, ApiResponse<Void>> changePasswordHandler;
     private final IRequestHandler<DeactivateAccountCommand, ApiResponse<Void>>
             deactivateAccountHandler;
-    private final IRequestHandler<GetAllUsersQuery, ApiResponse<List<UserDto>>> getAllUsersHandler;
+    private final IRequestHandler<GetAllUsersQuery, ApiResponse<CursorPageDTO<UserDto>>>
+            getAllUsersHandler;
+    private final IRequestHandler<
+                    GetRecommendedProjectsQuery, ApiResponse<List<ProjectSummaryDTO>>>
+            getRecommendedProjectsHandler;
+    private final JwtUtil jwtUtil;
 
     @GetMapping
     @PreAuthorize("isAuthenticated()")
     @SecurityRequirement(name = "Bearer Authentication")
-    @Operation(summary = "Get all users", description = "Retrieves a list of all users")
+    @Operation(
+            summary = "Get all users",
+            description =
+                    "Retrieves users page by page, ordered by registration. Pass the returned "
+                            + "nextCursor to fetch the next page. Page size defaults to 20, max 100.")
     @ApiResponses(
             value = {
                 @io.swagger.v3.oas.annotations.responses.ApiResponse(
                         responseCode = "200",
                         description = "Users retrieved successfully"),
+                @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                        responseCode = "400",
+                        description = "Invalid cursor"),
                 @io.swagger.v3.oas.annotations.responses.ApiResponse(
                         responseCode = "401",
                         description = "Unauthorized")
             })
-    public ResponseEntity<ApiResponse<List<UserDto>>> getAllUsers() {
+    public ResponseEntity<ApiResponse<CursorPageDTO<UserDto>>> getAllUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) UserRole role,
+            @RequestParam(required = false) Boolean active) {
 
-        ApiResponse<List<UserDto>> response = getAllUsersHandler.handle(new GetAllUsersQuery());
+        ApiResponse<CursorPageDTO<UserDto>> response =
+                getAllUsersHandler.handle(new GetAllUsersQuery(cursor, limit, role, active));
 
         HttpStatus status =
                 switch (response.getCode()) {
                     case SUCCESS -> HttpStatus.OK;
+                    case BAD_REQUEST -> HttpStatus.BAD_REQUEST;
                     case NOT_FOUND -> HttpStatus.NOT_FOUND;
                     default -> HttpStatus.OK;
                 };
@@ -87,6 +121,9 @@ public class UserController extends BaseController {
                 @io.swagger.v3.oas.annotations.responses.ApiResponse(
                         responseCode = "200",
                         description = "Profile retrieved successfully"),
+                @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                        responseCode = "304",
+                        description = "Profile unchanged since the ETag in If-None-Match"),
                 @io.swagger.v3.oas.annotations.responses.ApiResponse(
                         responseCode = "401",
                         description = "Unauthorized")
@@ -105,7 +142,45 @@ public class UserController extends BaseController {
                     default -> HttpStatus.OK;
                 };
 
-        return ResponseEntity.status(status).body(response);
+        if (status != HttpStatus.OK) {
+            return ResponseEntity.status(status).body(response);
+        }
+
+        // A matching If-None-Match is answered with 304 before the body is serialized
+        return ResponseEntity.ok()
+                .eTag(entityTag(response.getData()))
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(response);
+    }
+
+    @GetMapping("/me/recommended-projects")
+    @PreAuthorize("isAuthenticated()")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @Operation(
+            summary = "Get recommended projects",
+            description =
+                    "Returns open projects with free places that match the skills on the "
+                            + "authenticated user's profile, best first. Ranking combines skill "
+                            + "overlap, recency and remaining team capacity. Defaults to 10 "
+                            + "results, max 50.")
+    @ApiResponses(
+            value = {
+                @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                        responseCode = "200",
+                        description = "Recommendations retrieved successfully"),
+                @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                        responseCode = "401",
+                        description = "Unauthorized")
+            })
+    public ResponseEntity<ApiResponse<List<ProjectSummaryDTO>>> getRecommendedProjects(
+            @RequestParam(required = false) Integer limit, Authentication auth) {
+        String userId = getCurrentUserId(auth);
+
+        ApiResponse<List<ProjectSummaryDTO>> response =
+                getRecommendedProjectsHandler.handle(
+                        new GetRecommendedProjectsQuery(userId, limit));
+
+        return ResponseEntity.ok(response);
     }
 
     @GetMapping("/{userId}")
@@ -117,6 +192,9 @@ public class UserController extends BaseController {
                 @io.swagger.v3.oas.annotations.responses.ApiResponse(
                         responseCode = "200",
                         description = "Profile retrieved successfully"),
+                @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                        responseCode = "304",
+                        description = "Profile unchanged since the ETag in If-None-Match"),
                 @io.swagger.v3.oas.annotations.responses.ApiResponse(
                         responseCode = "404",
                         description = "User not found")
@@ -132,7 +210,15 @@ public class UserController extends BaseController {
                     default -> HttpStatus.OK;
                 };
 
-        return ResponseEntity.status(status).body(response);
+        if (status != HttpStatus.OK) {
+            return ResponseEntity.status(status).body(response);
+        }
+
+        return ResponseEntity.ok()
+                .eTag(entityTag(response.getData()))
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_LANGUAGE)
+                .body(response);
     }
 
     @PutMapping("/me")
@@ -140,7 +226,10 @@ public class UserController extends BaseController {
     @SecurityRequirement(name = "Bearer Authentication")
     @Operation(
             summary = "Update user profile",
-            description = "Updates the authenticated user's profile information")
+            description =
+                    "Updates the authenticated user's profile information. If the preferred "
+                            + "language changes, a new access token carrying it is returned in "
+                            + "the X-Refreshed-Token header.")
     @ApiResponses(
             value = {
                 @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -165,7 +254,8 @@ public class UserController extends BaseController {
                         command.description(),
                         command.linkedinUrl(),
                         command.githubUrl(),
-                        command.preferredLanguage());
+                        command.preferredLanguage(),
+                        command.skills());
 
         ApiResponse<UserDto> response = updateUserProfileHandler.handle(updatedCommand);
 
@@ -177,6 +267,22 @@ public class UserController extends BaseController {
                     default -> HttpStatus.OK;
                 };
 
+        // Reissue the token so the new language claim takes effect immediately
+        UserPrincipal principal = getCurrentUser(auth);
+        if (response.getCode() == ResponseCode.SUCCESS
+                && !Objects.equals(
+                        principal.getPreferredLanguage(), response.getData().preferredLanguage())) {
+            String token =
+                    jwtUtil.generateToken(
+                            principal.getUserId(),
+                            principal.getEmail(),
+                            principal.getRole(),
+                            response.getData().preferredLanguage());
+            return ResponseEntity.status(status)
+                    .header(REFRESHED_TOKEN_HEADER, token)
+                    .body(response);
+        }
+
         return ResponseEntity.status(status).body(response);
     }
 
@@ -199,10 +305,40 @@ public class UserController extends BaseController {
                         description = "Unauthorized")
             })
     public ResponseEntity<ApiResponse<String>> uploadProfilePicture(
-            @RequestParam("file") MultipartFile file, Authentication auth) {
-        String userId = getCurrentUserId(auth);
+            @RequestParam("file") MultipartFile file, Authentication auth) throws IOException {
+        try (InputStream content = file.getInputStream()) {
+            return uploadProfilePicture(getCurrentUserId(auth), content);
+        }
+    }
+
+    @PutMapping(value = "/me/profile-picture", consumes = "image/*")
+    @PreAuthorize("isAuthenticated()")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @Operation(
+            summary = "Upload profile picture as the request body",
+            description =
+                    "Streams the raw image body straight to storage without multipart buffering."
+                            + " The format is detected from the content, not the Content-Type.")
+    @ApiResponses(
+            value = {
+                @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                        responseCode = "200",
+                        description = "Profile picture uploaded successfully"),
+                @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                        responseCode = "400",
+                        description = "Not an image, or the image is too large"),
+                @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                        responseCode = "401",
+                        description = "Unauthorized")
+            })
+    public ResponseEntity<ApiResponse<String>> streamProfilePicture(
+            HttpServletRequest request, Authentication auth) throws IOException {
+        return uploadProfilePicture(getCurrentUserId(auth), request.getInputStream());
+    }
 
-        UploadProfilePictureCommand command = new UploadProfilePictureCommand(userId, file);
+    private ResponseEntity<ApiResponse<String>> uploadProfilePicture(
+            String userId, InputStream content) {
+        UploadProfilePictureCommand command = new UploadProfilePictureCommand(userId, content);
 
         ApiResponse<String> response = uploadProfilePictureHandler.handle(command);
 
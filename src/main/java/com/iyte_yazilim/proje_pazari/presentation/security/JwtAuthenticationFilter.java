@@ -22,8 +22,8 @@ import org.springframework.web.filter.OncePerRequestFilter;
  *
  * <ol>
  *   <li>Extracts the JWT token from the Authorization header
- *   <li>Validates the token using {@link JwtUtil}
- *   <li>Loads user details from the database
+ *   <li>Looks the token up in the {@link VerifiedTokenCache}, verifying it with {@link
+ *       JwtUtil#verify} (single parse) only on a miss
  *   <li>Sets the authentication in Spring Security context
  * </ol>
  *
@@ -45,6 +45,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
  * @version 1.0
  * @since 2024-01-01
  * @see JwtUtil
+ * @see VerifiedTokenCache
  * @see CustomUserDetailsService
  */
 @Slf4j
@@ -53,6 +54,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     /**
      * Processes each request for JWT authentication.
@@ -84,19 +86,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         jwt = authHeader.substring(7);
 
         try {
-            if (jwtUtil.validateToken(jwt)) {
-                // Extract all user info from JWT - NO database lookup!
-                UserPrincipal userPrincipal = jwtUtil.extractUserPrincipal(jwt);
+            // Repeat tokens are served from the cache; new ones are verified with a single parse.
+            // All user info comes from the JWT - NO database lookup!
+            UserPrincipal userPrincipal = verifiedTokenCache.get(jwt, jwtUtil::verify).principal();
 
-                UsernamePasswordAuthenticationToken authToken =
-                        new UsernamePasswordAuthenticationToken(
-                                userPrincipal, null, userPrincipal.getAuthorities());
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authToken);
-            }
-        } catch (JwtException e) {
-            // JWT validation failed (malformed token, expired token, invalid signature,
-            // etc.)
+            UsernamePasswordAuthenticationToken authToken =
+                    new UsernamePasswordAuthenticationToken(
+                            userPrincipal, null, userPrincipal.getAuthorities());
+            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            // JWT validation failed (malformed or empty token, expired token, invalid
+            // signature, etc.)
             // Log for security monitoring but continue filter chain without authentication
             log.warn(
                     "JWT authentication failed due to invalid token: {}",
@@ -0,0 +1,163 @@
+package com.iyte_yazilim.proje_pazari.presentation.security;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.InvalidKeyException;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.crypto.SecretKey;
+
+/**
+ * Set of HMAC keys used to sign and verify JWTs, addressed by key ID ({@code kid}).
+ *
+ * <p>Exactly one key is active for signing; every issued token carries its {@code kid} header.
+ * Any number of retired keys can stay active for verification only, so rotating the signing key
+ * does not invalidate tokens that are already in circulation: they keep working until their own
+ * {@code exp}, and clients renew them gradually over one token lifetime instead of all at once.
+ *
+ * <h2>Configuration Format:</h2>
+ *
+ * <pre>
+ * jwt.key-id=2025-02
+ * jwt.secret=...current secret...
+ * jwt.verification-keys=2025-01:...previous secret...,2024-12:...older secret...
+ * </pre>
+ *
+ * <h2>Lookup:</h2>
+ *
+ * <p>Keys are derived once at startup and stored in a hash map, so the verifier for a {@code kid}
+ * is found in O(1) while the token is being parsed (see {@link #locator()}). Tokens issued before
+ * key IDs were introduced carry no {@code kid} and are verified with the active key.
+ *
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ * @see JwtUtil
+ */
+public final class JwtKeyRing {
+
+    private final String signingKeyId;
+    private final SecretKey signingKey;
+    private final Map<String, SecretKey> verificationKeys;
+
+    private JwtKeyRing(
+            String signingKeyId, SecretKey signingKey, Map<String, SecretKey> verificationKeys) {
+        this.signingKeyId = signingKeyId;
+        this.signingKey = signingKey;
+        this.verificationKeys = Collections.unmodifiableMap(verificationKeys);
+    }
+
+    /**
+     * Builds a key ring from configuration values.
+     *
+     * @param signingKeyId key ID of the active signing key
+     * @param signingSecret secret of the active signing key
+     * @param retiredKeys comma-separated {@code kid:secret} pairs accepted for verification only;
+     *     may be null or blank
+     * @return the key ring
+     * @throws IllegalStateException if an entry is malformed or a key ID is used twice
+     */
+    public static JwtKeyRing of(String signingKeyId, String signingSecret, String retiredKeys) {
+        if (signingKeyId == null || signingKeyId.isBlank()) {
+            throw new IllegalStateException("jwt.key-id must not be blank");
+        }
+        SecretKey signingKey = toKey(signingSecret);
+
+        Map<String, SecretKey> keys = new HashMap<>();
+        keys.put(signingKeyId, signingKey);
+
+        for (Map.Entry<String, String> entry : parseRetiredKeys(retiredKeys).entrySet()) {
+            if (keys.putIfAbsent(entry.getKey(), toKey(entry.getValue())) != null) {
+                throw new IllegalStateException(
+                        "Duplicate JWT key id in jwt.verification-keys: " + entry.getKey());
+            }
+        }
+
+        return new JwtKeyRing(signingKeyId, signingKey, keys);
+    }
+
+    /**
+     * Parses the {@code kid:secret} list of retired verification keys.
+     *
+     * @param retiredKeys comma-separated {@code kid:secret} pairs; may be null or blank
+     * @return key IDs mapped to their secrets, in configuration order
+     * @throws IllegalStateException if an entry is malformed
+     */
+    public static Map<String, String> parseRetiredKeys(String retiredKeys) {
+        Map<String, String> secrets = new LinkedHashMap<>();
+        if (retiredKeys == null || retiredKeys.isBlank()) {
+            return secrets;
+        }
+        for (String entry : retiredKeys.split(",")) {
+            String trimmed = entry.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            int separator = trimmed.indexOf(':');
+            if (separator <= 0 || separator == trimmed.length() - 1) {
+                throw new IllegalStateException(
+                        "Invalid entry in jwt.verification-keys, expected kid:secret");
+            }
+            secrets.put(trimmed.substring(0, separator), trimmed.substring(separator + 1));
+        }
+        return secrets;
+    }
+
+    private static SecretKey toKey(String secret) {
+        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the key ID written into the header of newly issued tokens.
+     *
+     * @return the active key ID
+     */
+    public String signingKeyId() {
+        return signingKeyId;
+    }
+
+    /**
+     * Returns the key used to sign newly issued tokens.
+     *
+     * @return the active signing key
+     */
+    public SecretKey signingKey() {
+        return signingKey;
+    }
+
+    /**
+     * Finds the verification key for a key ID.
+     *
+     * @param keyId the {@code kid} header value, or null for tokens issued without one
+     * @return the matching key, or null if the key ID is unknown
+     */
+    public SecretKey verificationKey(String keyId) {
+        if (keyId == null) {
+            return signingKey;
+        }
+        return verificationKeys.get(keyId);
+    }
+
+    /**
+     * Creates a JJWT key locator that resolves the verification key from the token header.
+     *
+     * @return locator backed by this key ring
+     */
+    public LocatorAdapter<Key> locator() {
+        return new LocatorAdapter<>() {
+            @Override
+            protected Key locate(JwsHeader header) {
+                SecretKey key = verificationKey(header.getKeyId());
+                if (key == null) {
+                    throw new InvalidKeyException("Unknown JWT key id");
+                }
+                return key;
+            }
+        };
+    }
+}
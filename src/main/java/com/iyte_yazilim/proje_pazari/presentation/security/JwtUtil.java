@@ -1,9 +1,9 @@
 package com.iyte_yazilim.proje_pazari.presentation.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
-import java.nio.charset.StandardCharsets;
+import jakarta.annotation.PostConstruct;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -30,12 +30,33 @@ import org.springframework.stereotype.Component;
  * <ul>
  *   <li>{@code jwt.secret} - Secret key for signing (min 256 bits)
  *   <li>{@code jwt.expiration} - Token expiration time in milliseconds
+ *   <li>{@code jwt.key-id} - Key ID written into the {@code kid} header of issued tokens
+ *   <li>{@code jwt.verification-keys} - Retired {@code kid:secret} pairs still accepted
  * </ul>
  *
  * <h2>Security Notes:</h2>
  *
  * <p>Tokens are signed using HMAC-SHA256 algorithm.
  *
+ * <h2>Key Rotation:</h2>
+ *
+ * <p>Signing keys are managed by a {@link JwtKeyRing}. To rotate without logging users out:
+ *
+ * <ol>
+ *   <li>Move the current {@code jwt.key-id}/{@code jwt.secret} into {@code jwt.verification-keys}
+ *   <li>Set a new {@code jwt.key-id} and {@code jwt.secret} and redeploy
+ *   <li>Once {@code jwt.expiration} has elapsed, remove the retired key
+ * </ol>
+ *
+ * <p>Tokens signed with the retired key stay valid until their own expiry, so renewals are spread
+ * over one token lifetime instead of every client re-authenticating at the same moment.
+ *
+ * <h2>Performance Notes:</h2>
+ *
+ * <p>The signing key and the {@link JwtParser} are built once at startup and reused; both are
+ * immutable and thread-safe. Request authentication should go through {@link #verify(String)},
+ * which checks signature and expiry and builds the {@link UserPrincipal} from a single parse.
+ *
  * @author IYTE Yazılım Topluluğu
  * @version 1.0
  * @since 2024-01-01
@@ -52,13 +73,58 @@ public class JwtUtil {
     @Value("${jwt.expiration}")
     private Long expiration;
 
+    /** Key ID of {@link #secret}, written into the {@code kid} header of issued tokens. */
+    @Value("${jwt.key-id:primary}")
+    private String keyId;
+
+    /** Retired keys accepted for verification only, as comma-separated {@code kid:secret}. */
+    @Value("${jwt.verification-keys:}")
+    private String verificationKeys;
+
+    /** Signing and verification keys, derived once at startup. */
+    private JwtKeyRing keyRing;
+
+    /** Pre-built, thread-safe parser that resolves the verification key by {@code kid}. */
+    private JwtParser parser;
+
+    /** Builds the key ring and the reusable parser once the properties are injected. */
+    @PostConstruct
+    void init() {
+        this.keyRing = JwtKeyRing.of(keyId, secret, verificationKeys);
+        this.parser = Jwts.parser().keyLocator(keyRing.locator()).build();
+    }
+
     /**
-     * Creates the signing key from the secret.
+     * Returns the cached signing key.
      *
-     * @return HMAC-SHA key for signing/verification
+     * @return HMAC-SHA key for signing
      */
     private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        return keyRing.signingKey();
+    }
+
+    /**
+     * Returns the access token lifetime.
+     *
+     * @return token expiration time in milliseconds
+     */
+    public long getExpiration() {
+        return expiration;
+    }
+
+    /**
+     * Verifies a token and extracts the authenticated principal in a single parse.
+     *
+     * <p>The signature and the {@code exp} claim are both checked by the parser, so a returned
+     * result is always valid at the time of the call.
+     *
+     * @param token the JWT token
+     * @return the verified principal together with the token expiry
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, tampered with or expired
+     */
+    public VerifiedToken verify(String token) {
+        Claims claims = extractAllClaims(token);
+        return new VerifiedToken(toUserPrincipal(claims), claims.getExpiration().toInstant());
     }
 
     /**
@@ -118,11 +184,7 @@ public class JwtUtil {
      * @return all claims contained in the token
      */
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     /**
@@ -138,11 +200,33 @@ public class JwtUtil {
     
     // Update token generation with userId, email, and role claims
     public String generateToken(String userId, String email, String role) {
+        return generateToken(userId, email, role, null);
+    }
+
+    /**
+     * Generates a token that also carries the user's preferred language.
+     *
+     * <p>The {@code lang} claim lets {@link
+     * com.iyte_yazilim.proje_pazari.presentation.config.UserLocaleInterceptor} resolve the locale
+     * without loading the user.
+     *
+     * @param userId the user's ULID
+     * @param email the user's email, used as subject
+     * @param role the user's role
+     * @param preferredLanguage language tag such as "tr" or "en"; omitted from the token if null
+     * @return signed JWT token string
+     */
+    public String generateToken(
+            String userId, String email, String role, String preferredLanguage) {
         return Jwts.builder()
+                .header()
+                .keyId(keyRing.signingKeyId())
+                .and()
                 .subject(email)
                 .claim("userId", userId)
                 .claim("email", email)
                 .claim("role", role)
+                .claim("lang", preferredLanguage)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiration))
                 .signWith(getSigningKey())
@@ -169,6 +253,9 @@ public class JwtUtil {
      */
     private String createToken(Map<String, Object> claims, String subject) {
         return Jwts.builder()
+                .header()
+                .keyId(keyRing.signingKeyId())
+                .and()
                 .claims(claims)
                 .subject(subject)
                 .issuedAt(new Date(System.currentTimeMillis()))
@@ -198,10 +285,14 @@ public class JwtUtil {
     }
 
     public UserPrincipal extractUserPrincipal(String token) {
-        Claims claims = extractAllClaims(token);
+        return toUserPrincipal(extractAllClaims(token));
+    }
+
+    private UserPrincipal toUserPrincipal(Claims claims) {
         return new UserPrincipal(
                 claims.get("userId", String.class),
                 claims.get("email", String.class),
-                claims.get("role", String.class));
+                claims.get("role", String.class),
+                claims.get("lang", String.class));
     }
 }
@@ -2,20 +2,32 @@ package com.iyte_yazilim.proje_pazari.presentation.security;
 
 import java.util.Collection;
 import java.util.Collections;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 @Getter
-@AllArgsConstructor
 public class UserPrincipal implements UserDetails {
 
     private final String userId;
     private final String email;
     private final String role;
 
+    /** Preferred language from the token's {@code lang} claim, or null if not set. */
+    private final String preferredLanguage;
+
+    public UserPrincipal(String userId, String email, String role) {
+        this(userId, email, role, null);
+    }
+
+    public UserPrincipal(String userId, String email, String role, String preferredLanguage) {
+        this.userId = userId;
+        this.email = email;
+        this.role = role;
+        this.preferredLanguage = preferredLanguage;
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role));
@@ -0,0 +1,29 @@
+package com.iyte_yazilim.proje_pazari.presentation.security;
+
+import java.time.Instant;
+
+/**
+ * Result of a single successful JWT verification.
+ *
+ * <p>Produced by {@link JwtUtil#verify(String)} after the signature and expiry have been checked in
+ * one parse, so callers never need to re-parse the token to read the principal.
+ *
+ * @param principal the authenticated user built from the token claims
+ * @param expiresAt the instant the token stops being valid ({@code exp} claim)
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ * @see JwtUtil
+ */
+public record VerifiedToken(UserPrincipal principal, Instant expiresAt) {
+
+    /**
+     * Checks whether the token is still valid at the given instant.
+     *
+     * @param now the reference instant
+     * @return true if the token has not yet expired
+     */
+    public boolean isValidAt(Instant now) {
+        return expiresAt.isAfter(now);
+    }
+}
@@ -0,0 +1,136 @@
+package com.iyte_yazilim.proje_pazari.presentation.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded cache of already verified JWTs used by {@link JwtAuthenticationFilter}.
+ *
+ * <p>Clients typically send the same bearer token many times per session. Entries map a SHA-256
+ * digest of the raw token to the {@link VerifiedToken} built on the first request, so repeat
+ * requests skip Base64 decoding, JSON parsing and the HMAC check entirely.
+ *
+ * <h2>Guarantees:</h2>
+ *
+ * <ul>
+ *   <li>Keys are digests, so raw tokens are never retained in memory
+ *   <li>Each entry expires exactly at the token's {@code exp} claim
+ *   <li>Total size is capped by {@code jwt.cache.max-bytes} (estimated resident bytes)
+ *   <li>Hit/miss/eviction metrics are published as {@code cache.*{cache=jwt.verified-tokens}}
+ * </ul>
+ *
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ * @see JwtUtil#verify(String)
+ */
+@Component
+public class VerifiedTokenCache {
+
+    static final String CACHE_NAME = "jwt.verified-tokens";
+
+    /** Rough per-entry cost of the digest key, principal, record and cache node. */
+    private static final int ENTRY_OVERHEAD_BYTES = 384;
+
+    private final Cache<String, VerifiedToken> cache;
+
+    public VerifiedTokenCache(
+            @Value("${jwt.cache.max-bytes:16777216}") long maxBytes, MeterRegistry meterRegistry) {
+        this.cache =
+                Caffeine.newBuilder()
+                        .maximumWeight(maxBytes)
+                        .weigher((String key, VerifiedToken value) -> estimateBytes(value))
+                        .expireAfter(new ExpireAtTokenExpiry())
+                        .recordStats()
+                        .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder(CACHE_NAME + ".resident.bytes", cache, VerifiedTokenCache::weightedSize)
+                .description("Estimated bytes held by the verified token cache")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached verification result for a token, verifying it on a miss.
+     *
+     * @param token the raw JWT
+     * @param verifier performs the full verification on a cache miss
+     * @return the verified token
+     * @throws io.jsonwebtoken.JwtException if verification fails; failures are never cached
+     */
+    public VerifiedToken get(String token, Function<String, VerifiedToken> verifier) {
+        VerifiedToken verified = cache.get(digest(token), key -> verifier.apply(token));
+        if (!verified.isValidAt(Instant.now())) {
+            // Expiry is enforced by the cache, this only guards the boundary instant
+            cache.invalidate(digest(token));
+            return verifier.apply(token);
+        }
+        return verified;
+    }
+
+    /** Removes every cached entry (e.g. after a signing key is withdrawn). */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static int estimateBytes(VerifiedToken value) {
+        UserPrincipal principal = value.principal();
+        return ENTRY_OVERHEAD_BYTES
+                + length(principal.getUserId())
+                + length(principal.getEmail())
+                + length(principal.getRole())
+                + length(principal.getPreferredLanguage());
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    private static double weightedSize(Cache<String, VerifiedToken> cache) {
+        return cache.policy().eviction().map(e -> e.weightedSize().orElse(0L)).orElse(0L);
+    }
+
+    /** Expires each entry at the {@code exp} claim of the token it was built from. */
+    private static final class ExpireAtTokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(
+                String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(
+                String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
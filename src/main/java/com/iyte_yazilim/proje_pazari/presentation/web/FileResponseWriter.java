@@ -0,0 +1,181 @@
+package com.iyte_yazilim.proje_pazari.presentation.web;
+
+import com.iyte_yazilim.proje_pazari.application.services.HotFileCache;
+import com.iyte_yazilim.proje_pazari.application.services.StoredFileMetadata;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * Writes stored files to the servlet response with conditional and byte-range support.
+ *
+ * <h2>Transfer:</h2>
+ *
+ * <p>Small files requested more than once are written from the off-heap {@link HotFileCache}
+ * without touching the disk. On Tomcat, other files of at least {@value
+ * #SENDFILE_THRESHOLD_BYTES} bytes are handed to the connector's {@code sendfile} support, so the
+ * kernel copies them straight from the page cache to the socket. Otherwise the bytes are moved
+ * with {@link FileChannel#transferTo}; no {@code Resource} or stream wrapper is allocated per
+ * request.
+ *
+ * <h2>Protocol:</h2>
+ *
+ * <ul>
+ *   <li>{@code If-None-Match} / {@code If-Modified-Since} are answered with 304
+ *   <li>A single {@code Range} is answered with 206, an unsatisfiable one with 416
+ *   <li>Multiple ranges, or a stale {@code If-Range}, are answered with the full file
+ *   <li>Immutable files are cacheable for a year; others must be revalidated
+ * </ul>
+ *
+ * @author IYTE Yazılım Topluluğu
+ * @version 1.0
+ * @since 2024-01-01
+ * @see com.iyte_yazilim.proje_pazari.presentation.controllers.FileController
+ */
+@Component
+@RequiredArgsConstructor
+public class FileResponseWriter {
+
+    /** Below this size a plain copy is cheaper than setting up sendfile (Tomcat's own default). */
+    static final long SENDFILE_THRESHOLD_BYTES = 48 * 1024;
+
+    static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final String IMMUTABLE_CACHE_CONTROL =
+            CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable().getHeaderValue();
+    private static final String REVALIDATE_CACHE_CONTROL = CacheControl.noCache().getHeaderValue();
+
+    private final HotFileCache hotFileCache;
+
+    /**
+     * Writes a file, or the requested part of it, to the response.
+     *
+     * @param file metadata of a file on the local disk ({@link StoredFileMetadata#path()} set)
+     * @param contentType media type of the file
+     * @param request the current request
+     * @param response the response to write to
+     * @throws IOException if the file cannot be read or the client disconnects
+     */
+    public void write(
+            StoredFileMetadata file,
+            String contentType,
+            HttpServletRequest request,
+            HttpServletResponse response)
+            throws IOException {
+        response.setHeader(
+                HttpHeaders.CACHE_CONTROL,
+                file.immutable() ? IMMUTABLE_CACHE_CONTROL : REVALIDATE_CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        // Sets ETag and Last-Modified, and the 304/412 status if a precondition applies
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+        if (webRequest.checkNotModified(file.etag(), file.lastModified().toEpochMilli())) {
+            return;
+        }
+
+        long length = file.size();
+        long start = 0;
+        long end = length - 1;
+
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && ifRangeMatches(request, file)) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(rangeHeader);
+            } catch (IllegalArgumentException e) {
+                ranges = List.of();
+            }
+            if (ranges.size() == 1) {
+                HttpRange range = ranges.get(0);
+                try {
+                    start = range.getRangeStart(length);
+                    end = range.getRangeEnd(length);
+                } catch (IllegalArgumentException e) {
+                    start = length;
+                }
+                if (start >= length || start > end) {
+                    response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    return;
+                }
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(
+                        HttpHeaders.CONTENT_RANGE,
+                        "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentType(contentType);
+        response.setHeader(
+                HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + file.fileName() + "\"");
+        response.setContentLengthLong(count);
+
+        if (HttpMethod.HEAD.matches(request.getMethod()) || count == 0) {
+            return;
+        }
+
+        try (HotFileCache.Lease cached = hotFileCache.acquire(file)) {
+            if (cached != null) {
+                response.getOutputStream().write(cached.body().slice((int) start, (int) count));
+                return;
+            }
+        }
+
+        if (count >= SENDFILE_THRESHOLD_BYTES
+                && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // The connector sends the file after the handler returns
+            request.setAttribute(SENDFILE_FILENAME, file.path().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file.path(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, out);
+                if (transferred <= 0) {
+                    throw new IOException("File truncated while sending: " + file.fileName());
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    // A Range is only honoured if the client's copy is still the current version
+    private static boolean ifRangeMatches(HttpServletRequest request, StoredFileMetadata file) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"")) {
+            return ifRange.equals("\"" + file.etag() + "\"");
+        }
+        try {
+            long date = request.getDateHeader(HttpHeaders.IF_RANGE);
+            return file.lastModified().toEpochMilli() / 1000 <= date / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.iyte_yazilim.proje_pazari.application.commands.applyToProject;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.iyte_yazilim.proje_pazari.application.dtos.ProjectApplicationDTO;
+import com.iyte_yazilim.proje_pazari.domain.enums.ProjectStatus;
+import com.iyte_yazilim.proje_pazari.domain.enums.ResponseCode;
+import com.iyte_yazilim.proje_pazari.domain.models.ApiResponse;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.ProjectApplicationRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.ProjectRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.UserRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.ProjectApplicationEntity;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.ProjectEntity;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.UserEntity;
+import com.iyte_yazilim.proje_pazari.support.TestFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@SpringBootTest
+class ApplyToProjectHandlerTest {
+
+    @Autowired private ApplyToProjectHandler handler;
+    @Autowired private ProjectApplicationRepository projectApplicationRepository;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private UserRepository userRepository;
+
+    private TestFixtures fixtures;
+    private UserEntity owner;
+    private UserEntity student;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new TestFixtures("apply", userRepository, projectRepository);
+        owner = fixtures.saveUser("owner");
+        student = fixtures.saveUser("student");
+    }
+
+    @Test
+    void shouldSubmitPendingApplicationAndCountIt() {
+        // Given
+        ProjectEntity project = saveProject(ProjectStatus.OPEN, 4, 1);
+
+        // When
+        ApiResponse<ProjectApplicationDTO> response =
+                handler.handle(new ApplyToProjectCommand(project.getId(), student.getId()));
+
+        // Then
+        assertEquals(ResponseCode.CREATED, response.getCode());
+        assertEquals("PENDING", response.getData().status());
+        assertEquals(1, submittedCount(student));
+    }
+
+    @Test
+    void shouldRejectSecondApplicationFromSameUser() {
+        // Given
+        ProjectEntity project = saveProject(ProjectStatus.OPEN, 4, 1);
+        handler.handle(new ApplyToProjectCommand(project.getId(), student.getId()));
+
+        // When
+        ApiResponse<ProjectApplicationDTO> response =
+                handler.handle(new ApplyToProjectCommand(project.getId(), student.getId()));
+
+        // Then
+        assertEquals(ResponseCode.CONFLICT, response.getCode());
+        assertEquals(1, submittedCount(student));
+    }
+
+    @Test
+    void shouldEnforceOneApplicationPerUserInDatabase() {
+        // Given
+        ProjectEntity project = saveProject(ProjectStatus.OPEN, 4, 1);
+        handler.handle(new ApplyToProjectCommand(project.getId(), student.getId()));
+
+        // When: a write that bypasses the handler's existence check
+        ProjectApplicationEntity duplicate = new ProjectApplicationEntity();
+        duplicate.setProject(project);
+        duplicate.setUser(student);
+
+        // Then
+        assertThrows(
+                DataIntegrityViolationException.class,
+                () -> projectApplicationRepository.saveAndFlush(duplicate));
+    }
+
+    @Test
+    void shouldRefuseOwnFullOrClosedProjects() {
+        // Given
+        ProjectEntity open = saveProject(ProjectStatus.OPEN, 4, 1);
+        ProjectEntity full = saveProject(ProjectStatus.OPEN, 2, 2);
+        ProjectEntity draft = saveProject(ProjectStatus.DRAFT, 4, 1);
+
+        // Then
+        assertEquals(
+                ResponseCode.BAD_REQUEST,
+                handler.handle(new ApplyToProjectCommand(open.getId(), owner.getId())).getCode());
+        assertEquals(
+                ResponseCode.CONFLICT,
+                handler.handle(new ApplyToProjectCommand(full.getId(), student.getId())).getCode());
+        assertEquals(
+                ResponseCode.CONFLICT,
+                handler.handle(new ApplyToProjectCommand(draft.getId(), student.getId()))
+                        .getCode());
+        assertEquals(
+                ResponseCode.NOT_FOUND,
+                handler.handle(new ApplyToProjectCommand("missing", student.getId())).getCode());
+    }
+
+    private int submittedCount(UserEntity user) {
+        return userRepository.findById(user.getId()).orElseThrow().getApplicationsSubmittedCount();
+    }
+
+    private ProjectEntity saveProject(
+            ProjectStatus status, Integer maxTeamSize, int currentTeamSize) {
+        return fixtures.saveProject(owner, status, maxTeamSize, currentTeamSize);
+    }
+}
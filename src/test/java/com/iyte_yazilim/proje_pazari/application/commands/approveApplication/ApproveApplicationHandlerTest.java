@@ -0,0 +1,183 @@
+package com.iyte_yazilim.proje_pazari.application.commands.approveApplication;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.iyte_yazilim.proje_pazari.application.commands.applyToProject.ApplyToProjectCommand;
+import com.iyte_yazilim.proje_pazari.application.commands.applyToProject.ApplyToProjectHandler;
+import com.iyte_yazilim.proje_pazari.application.commands.rejectApplication.RejectApplicationCommand;
+import com.iyte_yazilim.proje_pazari.application.commands.rejectApplication.RejectApplicationHandler;
+import com.iyte_yazilim.proje_pazari.domain.enums.ApplicationStatus;
+import com.iyte_yazilim.proje_pazari.domain.enums.ProjectStatus;
+import com.iyte_yazilim.proje_pazari.domain.enums.ResponseCode;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.ProjectApplicationRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.ProjectRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.UserRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.ProjectEntity;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.UserEntity;
+import com.iyte_yazilim.proje_pazari.support.TestFixtures;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Reviews applications from many threads at once and checks that team capacity holds.
+ *
+ * <p>All approvals are released together, so they race for the last places in the team.
+ */
+@SpringBootTest
+class ApproveApplicationHandlerTest {
+
+    private static final int THREADS = 16;
+    private static final int APPLICANTS = 32;
+
+    @Autowired private ApproveApplicationHandler handler;
+    @Autowired private RejectApplicationHandler rejectApplicationHandler;
+    @Autowired private ApplyToProjectHandler applyToProjectHandler;
+    @Autowired private ProjectApplicationRepository projectApplicationRepository;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private UserRepository userRepository;
+
+    private TestFixtures fixtures;
+    private UserEntity owner;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new TestFixtures("approve", userRepository, projectRepository);
+        owner = fixtures.saveUser("owner");
+    }
+
+    @Test
+    void shouldNeverExceedTeamSizeUnderConcurrentApprovals() throws Exception {
+        // Given: three open places and many more pending applicants
+        ProjectEntity project = saveProject(4);
+        List<String> applicationIds = new ArrayList<>();
+        for (int i = 0; i < APPLICANTS; i++) {
+            applicationIds.add(apply(project, fixtures.saveUser("student" + i)));
+        }
+
+        // When
+        List<ResponseCode> codes =
+                race(
+                        applicationIds.stream()
+                                .<Callable<ResponseCode>>map(id -> () -> approve(project, id))
+                                .toList());
+
+        // Then
+        assertEquals(3, codes.stream().filter(c -> c == ResponseCode.SUCCESS).count());
+        assertEquals(
+                APPLICANTS - 3, codes.stream().filter(c -> c == ResponseCode.CONFLICT).count());
+        assertEquals(4, teamSize(project));
+        assertEquals(
+                3,
+                projectApplicationRepository.countByProjectIdAndStatus(
+                        project.getId(), ApplicationStatus.APPROVED));
+        assertEquals(
+                APPLICANTS - 3,
+                projectApplicationRepository.countByProjectIdAndStatus(
+                        project.getId(), ApplicationStatus.PENDING));
+    }
+
+    @Test
+    void shouldReviewEachApplicationOnlyOnce() throws Exception {
+        // Given
+        ProjectEntity project = saveProject(null);
+        String applicationId = apply(project, fixtures.saveUser("student"));
+
+        // When: the owner approves and rejects the same application from many tabs
+        List<Callable<ResponseCode>> reviews = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            reviews.add(
+                    i % 2 == 0
+                            ? () -> approve(project, applicationId)
+                            : () -> reject(project, applicationId));
+        }
+        List<ResponseCode> codes = race(reviews);
+
+        // Then
+        assertEquals(1, codes.stream().filter(c -> c == ResponseCode.SUCCESS).count());
+        ApplicationStatus status =
+                projectApplicationRepository.findById(applicationId).orElseThrow().getStatus();
+        assertEquals(status == ApplicationStatus.APPROVED ? 2 : 1, teamSize(project));
+    }
+
+    @Test
+    void shouldOnlyLetOwnerReview() {
+        // Given
+        ProjectEntity project = saveProject(4);
+        UserEntity student = fixtures.saveUser("student");
+        String applicationId = apply(project, student);
+
+        // When
+        ResponseCode code =
+                handler.handle(
+                                new ApproveApplicationCommand(
+                                        project.getId(), applicationId, student.getId()))
+                        .getCode();
+
+        // Then
+        assertEquals(ResponseCode.FORBIDDEN, code);
+        assertEquals(1, teamSize(project));
+    }
+
+    private List<ResponseCode> race(List<Callable<ResponseCode>> tasks) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<ResponseCode>> futures = new ArrayList<>();
+            for (Callable<ResponseCode> task : tasks) {
+                futures.add(
+                        pool.submit(
+                                () -> {
+                                    start.await();
+                                    return task.call();
+                                }));
+            }
+            start.countDown();
+            List<ResponseCode> codes = new ArrayList<>();
+            for (Future<ResponseCode> future : futures) {
+                codes.add(future.get());
+            }
+            return codes;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private ResponseCode approve(ProjectEntity project, String applicationId) {
+        return handler.handle(
+                        new ApproveApplicationCommand(
+                                project.getId(), applicationId, owner.getId()))
+                .getCode();
+    }
+
+    private ResponseCode reject(ProjectEntity project, String applicationId) {
+        return rejectApplicationHandler
+                .handle(
+                        new RejectApplicationCommand(
+                                project.getId(), applicationId, owner.getId()))
+                .getCode();
+    }
+
+    private String apply(ProjectEntity project, UserEntity student) {
+        return applyToProjectHandler
+                .handle(new ApplyToProjectCommand(project.getId(), student.getId()))
+                .getData()
+                .id();
+    }
+
+    private int teamSize(ProjectEntity project) {
+        return projectRepository.findCurrentTeamSize(project.getId());
+    }
+
+    private ProjectEntity saveProject(Integer maxTeamSize) {
+        return fixtures.saveProject(owner, ProjectStatus.OPEN, maxTeamSize, 1);
+    }
+}
@@ -0,0 +1,66 @@
+package com.iyte_yazilim.proje_pazari.application.commands.changePassword;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.iyte_yazilim.proje_pazari.application.services.PasswordHashingService;
+import com.iyte_yazilim.proje_pazari.domain.enums.ResponseCode;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.ProjectRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.UserRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.UserEntity;
+import com.iyte_yazilim.proje_pazari.support.TestFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class ChangePasswordHandlerTest {
+
+    private static final String CURRENT = "Current-Pass1";
+    private static final String NEW = "Changed-Pass2";
+
+    @Autowired private ChangePasswordHandler handler;
+    @Autowired private PasswordHashingService passwordHashingService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ProjectRepository projectRepository;
+
+    private UserEntity user;
+
+    @BeforeEach
+    void setUp() {
+        user = new TestFixtures("password", userRepository, projectRepository).saveUser("user");
+        user.setPassword(passwordHashingService.encode(CURRENT));
+        user = userRepository.save(user);
+    }
+
+    @Test
+    void shouldStoreHashOfNewPassword() {
+        // When
+        ResponseCode code = handler.handle(command(CURRENT)).getCode();
+
+        // Then
+        assertEquals(ResponseCode.SUCCESS, code);
+        assertTrue(passwordHashingService.matches(NEW, storedHash()));
+    }
+
+    @Test
+    void shouldKeepPasswordWhenCurrentOneIsWrong() {
+        // Given
+        String before = storedHash();
+
+        // When
+        ResponseCode code = handler.handle(command("Wrong-Pass3")).getCode();
+
+        // Then
+        assertEquals(ResponseCode.VALIDATION_ERROR, code);
+        assertEquals(before, storedHash());
+    }
+
+    private ChangePasswordCommand command(String currentPassword) {
+        return new ChangePasswordCommand(user.getId(), currentPassword, NEW, NEW);
+    }
+
+    private String storedHash() {
+        return userRepository.findById(user.getId()).orElseThrow().getPassword();
+    }
+}
@@ -0,0 +1,143 @@
+package com.iyte_yazilim.proje_pazari.application.commands.loginUser;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import com.iyte_yazilim.proje_pazari.application.services.LoginRateLimiter;
+import com.iyte_yazilim.proje_pazari.application.services.MessageService;
+import com.iyte_yazilim.proje_pazari.application.services.PasswordHashingService;
+import com.iyte_yazilim.proje_pazari.application.services.RefreshTokenService;
+import com.iyte_yazilim.proje_pazari.domain.enums.ResponseCode;
+import com.iyte_yazilim.proje_pazari.domain.interfaces.IValidator;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.UserRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.UserEntity;
+import com.iyte_yazilim.proje_pazari.presentation.security.JwtUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+/**
+ * Simulates credential-stuffing traffic against {@link LoginUserHandler}.
+ *
+ * <p>Password hashing is the CPU cost of a login attempt, so the number of hash calls is the
+ * measure used here: it must stay at the configured limit no matter how many attempts are made.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class LoginUserHandlerLoadTest {
+
+    private static final int THREADS = 8;
+    private static final int ATTEMPTS_PER_THREAD = 2_500;
+    private static final int MAX_PER_EMAIL = 10;
+    private static final int MAX_PER_IP = 50;
+
+    @Mock private UserRepository userRepository;
+    @Mock private IValidator<LoginUserCommand> validator;
+    @Mock private PasswordHashingService passwordHashingService;
+    @Mock private JwtUtil jwtUtil;
+    @Mock private RefreshTokenService refreshTokenService;
+    @Mock private MessageService messageService;
+
+    private LoginUserHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        LoginRateLimiter limiter =
+                new LoginRateLimiter(
+                        new SimpleMeterRegistry(), 300, MAX_PER_EMAIL, MAX_PER_IP, 100_000);
+        handler =
+                new LoginUserHandler(
+                        userRepository,
+                        validator,
+                        passwordHashingService,
+                        jwtUtil,
+                        refreshTokenService,
+                        messageService,
+                        limiter);
+
+        UserEntity victim = new UserEntity();
+        victim.setId("01HQXYZ123");
+        victim.setEmail("victim@std.iyte.edu.tr");
+        victim.setPassword("$2a$10$hash");
+        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(victim));
+        when(passwordHashingService.matches(anyString(), anyString())).thenReturn(false);
+    }
+
+    @Test
+    void shouldBoundHashingWhenOneAccountIsAttackedFromManyIps() throws Exception {
+        // When: every attempt comes from a different address
+        AtomicInteger ipCounter = new AtomicInteger();
+        int throttled =
+                attack(
+                        () ->
+                                new LoginUserCommand(
+                                        "victim@std.iyte.edu.tr",
+                                        "guess",
+                                        "10.0." + ipCounter.incrementAndGet()));
+
+        // Then
+        verify(passwordHashingService, atMost(MAX_PER_EMAIL)).matches(anyString(), anyString());
+        verify(userRepository, atMost(MAX_PER_EMAIL)).findByEmail(anyString());
+        assertEquals(THREADS * ATTEMPTS_PER_THREAD - MAX_PER_EMAIL, throttled);
+    }
+
+    @Test
+    void shouldBoundHashingWhenManyAccountsAreSprayedFromOneIp() throws Exception {
+        // When: every attempt targets a different account
+        AtomicInteger emailCounter = new AtomicInteger();
+        int throttled =
+                attack(
+                        () ->
+                                new LoginUserCommand(
+                                        "user" + emailCounter.incrementAndGet() + "@iyte.edu.tr",
+                                        "guess",
+                                        "10.0.0.1"));
+
+        // Then
+        verify(passwordHashingService, atMost(MAX_PER_IP)).matches(anyString(), anyString());
+        verify(userRepository, atMost(MAX_PER_IP)).findByEmail(anyString());
+        assertEquals(THREADS * ATTEMPTS_PER_THREAD - MAX_PER_IP, throttled);
+    }
+
+    private int attack(Supplier<LoginUserCommand> commands) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Callable<Integer>> tasks = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                tasks.add(
+                        () -> {
+                            int rejected = 0;
+                            for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+                                if (handler.handle(commands.get()).getCode()
+                                        == ResponseCode.TOO_MANY_REQUESTS) {
+                                    rejected++;
+                                }
+                            }
+                            return rejected;
+                        });
+            }
+            int throttled = 0;
+            for (Future<Integer> result : pool.invokeAll(tasks)) {
+                throttled += result.get();
+            }
+            return throttled;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
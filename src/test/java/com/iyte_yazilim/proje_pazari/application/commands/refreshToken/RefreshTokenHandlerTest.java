@@ -0,0 +1,93 @@
+package com.iyte_yazilim.proje_pazari.application.commands.refreshToken;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.iyte_yazilim.proje_pazari.application.commands.loginUser.LoginUserCommand;
+import com.iyte_yazilim.proje_pazari.application.commands.loginUser.LoginUserHandler;
+import com.iyte_yazilim.proje_pazari.domain.enums.ResponseCode;
+import com.iyte_yazilim.proje_pazari.domain.enums.UserRole;
+import com.iyte_yazilim.proje_pazari.domain.models.ApiResponse;
+import com.iyte_yazilim.proje_pazari.domain.models.results.LoginUserResult;
+import com.iyte_yazilim.proje_pazari.domain.models.results.RefreshTokenResult;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.UserRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.UserEntity;
+import com.iyte_yazilim.proje_pazari.presentation.security.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@SpringBootTest
+class RefreshTokenHandlerTest {
+
+    private static final String EMAIL = "refresh@std.iyte.edu.tr";
+    private static final String PASSWORD = "SecurePass123!";
+
+    @Autowired private LoginUserHandler loginUserHandler;
+    @Autowired private RefreshTokenHandler refreshTokenHandler;
+    @Autowired private UserRepository userRepository;
+    @Autowired private PasswordEncoder passwordEncoder;
+    @Autowired private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        if (!userRepository.existsByEmail(EMAIL)) {
+            UserEntity user = new UserEntity();
+            user.setEmail(EMAIL);
+            user.setPassword(passwordEncoder.encode(PASSWORD));
+            user.setFirstName("Refresh");
+            user.setLastName("Test");
+            user.setRole(UserRole.USER);
+            userRepository.save(user);
+        }
+    }
+
+    @Test
+    void shouldRotateRefreshToken() {
+        // Given
+        String refreshToken = login().refreshToken();
+
+        // When
+        ApiResponse<RefreshTokenResult> response =
+                refreshTokenHandler.handle(new RefreshTokenCommand(refreshToken));
+
+        // Then
+        assertEquals(ResponseCode.SUCCESS, response.getCode());
+        assertNotEquals(refreshToken, response.getData().refreshToken());
+        assertEquals(EMAIL, jwtUtil.verify(response.getData().token()).principal().getEmail());
+    }
+
+    @Test
+    void shouldRevokeFamilyWhenRefreshTokenIsReused() {
+        // Given
+        String first = login().refreshToken();
+        String second =
+                refreshTokenHandler.handle(new RefreshTokenCommand(first)).getData().refreshToken();
+
+        // When
+        ApiResponse<RefreshTokenResult> reuse =
+                refreshTokenHandler.handle(new RefreshTokenCommand(first));
+        ApiResponse<RefreshTokenResult> afterReuse =
+                refreshTokenHandler.handle(new RefreshTokenCommand(second));
+
+        // Then
+        assertEquals(ResponseCode.UNAUTHORIZED, reuse.getCode());
+        assertEquals(ResponseCode.UNAUTHORIZED, afterReuse.getCode());
+    }
+
+    @Test
+    void shouldRejectUnknownRefreshToken() {
+        ApiResponse<RefreshTokenResult> response =
+                refreshTokenHandler.handle(new RefreshTokenCommand("not-a-real-token"));
+
+        assertEquals(ResponseCode.UNAUTHORIZED, response.getCode());
+    }
+
+    private LoginUserResult login() {
+        ApiResponse<LoginUserResult> response =
+                loginUserHandler.handle(new LoginUserCommand(EMAIL, PASSWORD));
+        assertEquals(ResponseCode.SUCCESS, response.getCode());
+        return response.getData();
+    }
+}
@@ -0,0 +1,144 @@
+package com.iyte_yazilim.proje_pazari.application.commands.rejectApplication;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.iyte_yazilim.proje_pazari.application.commands.applyToProject.ApplyToProjectCommand;
+import com.iyte_yazilim.proje_pazari.application.commands.applyToProject.ApplyToProjectHandler;
+import com.iyte_yazilim.proje_pazari.application.commands.approveApplication.ApproveApplicationCommand;
+import com.iyte_yazilim.proje_pazari.application.commands.approveApplication.ApproveApplicationHandler;
+import com.iyte_yazilim.proje_pazari.application.dtos.ProjectApplicationDTO;
+import com.iyte_yazilim.proje_pazari.domain.enums.ApplicationStatus;
+import com.iyte_yazilim.proje_pazari.domain.enums.ProjectStatus;
+import com.iyte_yazilim.proje_pazari.domain.enums.ResponseCode;
+import com.iyte_yazilim.proje_pazari.domain.models.ApiResponse;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.ProjectApplicationRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.ProjectRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.UserRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.ProjectEntity;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.UserEntity;
+import com.iyte_yazilim.proje_pazari.support.TestFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class RejectApplicationHandlerTest {
+
+    @Autowired private RejectApplicationHandler handler;
+    @Autowired private ApproveApplicationHandler approveApplicationHandler;
+    @Autowired private ApplyToProjectHandler applyToProjectHandler;
+    @Autowired private ProjectApplicationRepository projectApplicationRepository;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private UserRepository userRepository;
+
+    private TestFixtures fixtures;
+    private UserEntity owner;
+    private UserEntity student;
+    private ProjectEntity project;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new TestFixtures("reject", userRepository, projectRepository);
+        owner = fixtures.saveUser("owner");
+        student = fixtures.saveUser("student");
+        project = saveProject();
+    }
+
+    @Test
+    void shouldRejectPendingApplicationWithoutTouchingTeam() {
+        // Given
+        String applicationId = apply();
+
+        // When
+        ApiResponse<ProjectApplicationDTO> response =
+                handler.handle(
+                        new RejectApplicationCommand(
+                                project.getId(), applicationId, owner.getId()));
+
+        // Then
+        assertEquals(ResponseCode.SUCCESS, response.getCode());
+        assertEquals("REJECTED", response.getData().status());
+        assertEquals(ApplicationStatus.REJECTED, status(applicationId));
+        assertEquals(1, projectRepository.findCurrentTeamSize(project.getId()));
+    }
+
+    @Test
+    void shouldOnlyLetOwnerReject() {
+        // Given
+        String applicationId = apply();
+
+        // When
+        ResponseCode code =
+                handler.handle(
+                                new RejectApplicationCommand(
+                                        project.getId(), applicationId, student.getId()))
+                        .getCode();
+
+        // Then
+        assertEquals(ResponseCode.FORBIDDEN, code);
+        assertEquals(ApplicationStatus.PENDING, status(applicationId));
+    }
+
+    @Test
+    void shouldRefuseApplicationsAlreadyReviewed() {
+        // Given
+        String rejected = apply();
+        handler.handle(new RejectApplicationCommand(project.getId(), rejected, owner.getId()));
+        student = fixtures.saveUser("approved");
+        String approved = apply();
+        approveApplicationHandler.handle(
+                new ApproveApplicationCommand(project.getId(), approved, owner.getId()));
+
+        // When
+        ResponseCode rejectedAgain =
+                handler.handle(
+                                new RejectApplicationCommand(
+                                        project.getId(), rejected, owner.getId()))
+                        .getCode();
+        ResponseCode approvedThenRejected =
+                handler.handle(
+                                new RejectApplicationCommand(
+                                        project.getId(), approved, owner.getId()))
+                        .getCode();
+
+        // Then
+        assertEquals(ResponseCode.CONFLICT, rejectedAgain);
+        assertEquals(ResponseCode.CONFLICT, approvedThenRejected);
+        assertEquals(ApplicationStatus.APPROVED, status(approved));
+        assertEquals(2, projectRepository.findCurrentTeamSize(project.getId()));
+    }
+
+    @Test
+    void shouldNotFindApplicationUnderAnotherProject() {
+        // Given
+        String applicationId = apply();
+        ProjectEntity other = saveProject();
+
+        // When
+        ResponseCode code =
+                handler.handle(
+                                new RejectApplicationCommand(
+                                        other.getId(), applicationId, owner.getId()))
+                        .getCode();
+
+        // Then
+        assertEquals(ResponseCode.NOT_FOUND, code);
+        assertEquals(ApplicationStatus.PENDING, status(applicationId));
+    }
+
+    private ApplicationStatus status(String applicationId) {
+        return projectApplicationRepository.findById(applicationId).orElseThrow().getStatus();
+    }
+
+    private String apply() {
+        return applyToProjectHandler
+                .handle(new ApplyToProjectCommand(project.getId(), student.getId()))
+                .getData()
+                .id();
+    }
+
+    private ProjectEntity saveProject() {
+        return fixtures.saveProject(owner, ProjectStatus.OPEN, 4, 1);
+    }
+}
@@ -0,0 +1,99 @@
+package com.iyte_yazilim.proje_pazari.application.commands.uploadProfilePicture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.iyte_yazilim.proje_pazari.domain.enums.ResponseCode;
+import com.iyte_yazilim.proje_pazari.domain.models.ApiResponse;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.ProjectRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.StoredFileRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.UserRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.UserEntity;
+import com.iyte_yazilim.proje_pazari.support.TestFixtures;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+@SpringBootTest
+class UploadProfilePictureHandlerTest {
+
+    @TempDir static Path storageDir;
+
+    @Autowired private UploadProfilePictureHandler handler;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private StoredFileRepository storedFileRepository;
+
+    private UserEntity user;
+
+    @DynamicPropertySource
+    static void uploadDir(DynamicPropertyRegistry registry) {
+        registry.add("app.upload.dir", () -> storageDir.toString());
+    }
+
+    @BeforeEach
+    void setUp() {
+        user = new TestFixtures("upload", userRepository, projectRepository).saveUser("user");
+    }
+
+    @Test
+    void shouldReturnValidationErrorForNonImage() {
+        // Given
+        byte[] content = "not an image".getBytes(StandardCharsets.UTF_8);
+
+        // When
+        ApiResponse<String> response = upload(content);
+
+        // Then
+        assertEquals(ResponseCode.VALIDATION_ERROR, response.getCode());
+        assertNull(userRepository.findById(user.getId()).orElseThrow().getProfilePictureUrl());
+    }
+
+    @Test
+    void shouldReplacePictureAndReleaseOldOne() throws Exception {
+        // Given
+        String first = upload(png(uniqueColor())).getData();
+
+        // When
+        ApiResponse<String> response = upload(png(uniqueColor()));
+
+        // Then
+        assertEquals(ResponseCode.SUCCESS, response.getCode());
+        assertEquals(
+                response.getData(),
+                userRepository.findById(user.getId()).orElseThrow().getProfilePictureUrl());
+        assertFalse(storedFileRepository.existsById(first.substring(first.lastIndexOf('/') + 1)));
+    }
+
+    private ApiResponse<String> upload(byte[] content) {
+        return handler.handle(
+                new UploadProfilePictureCommand(user.getId(), new ByteArrayInputStream(content)));
+    }
+
+    // Other tests in the shared database may hold references to fixed colors
+    private Color uniqueColor() {
+        return new Color((int) System.nanoTime() & 0xFFFFFF);
+    }
+
+    private byte[] png(Color color) throws Exception {
+        BufferedImage image = new BufferedImage(4, 4, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(color);
+        graphics.fillRect(0, 0, 4, 4);
+        graphics.dispose();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
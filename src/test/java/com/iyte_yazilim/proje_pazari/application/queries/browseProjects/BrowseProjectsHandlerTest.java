@@ -0,0 +1,184 @@
+package com.iyte_yazilim.proje_pazari.application.queries.browseProjects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.iyte_yazilim.proje_pazari.application.dtos.CursorPageDTO;
+import com.iyte_yazilim.proje_pazari.application.dtos.ProjectSummaryDTO;
+import com.iyte_yazilim.proje_pazari.application.services.ProjectSkillKeyBackfill;
+import com.iyte_yazilim.proje_pazari.domain.enums.ProjectStatus;
+import com.iyte_yazilim.proje_pazari.domain.enums.ResponseCode;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.ProjectRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.UserRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.ProjectEntity;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.UserEntity;
+import com.iyte_yazilim.proje_pazari.support.TestFixtures;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest
+class BrowseProjectsHandlerTest {
+
+    private static final int PROJECTS = 25;
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    @Autowired private BrowseProjectsHandler handler;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private ProjectSkillKeyBackfill projectSkillKeyBackfill;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    // Each test gets its own category so rows of other tests never match
+    private String category;
+    private TestFixtures fixtures;
+    private UserEntity owner;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new TestFixtures("browse", userRepository, projectRepository);
+        category = fixtures.unique("category");
+        owner = fixtures.saveUser("owner");
+
+        for (int i = 0; i < PROJECTS; i++) {
+            ProjectEntity project = new ProjectEntity();
+            project.setTitle("Project " + i);
+            project.setDescription("x".repeat(500));
+            project.setStatus(i % 5 == 0 ? ProjectStatus.DRAFT : ProjectStatus.OPEN);
+            project.setOwner(owner);
+            project.setCategory(category);
+            project.setDeadline(START.plusDays(i));
+            project.setRequiredSkills(
+                    new ArrayList<>(i % 2 == 0 ? List.of("Java", "Spring") : List.of("Java")));
+            projectRepository.save(project);
+        }
+    }
+
+    @Test
+    void shouldWalkPublishedProjectsNewestFirstWithoutDuplicates() {
+        // Given
+        List<ProjectSummaryDTO> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+
+        // When
+        do {
+            CursorPageDTO<ProjectSummaryDTO> page =
+                    handler.handle(query(cursor, null, null, null, null)).getData();
+            seen.addAll(page.items());
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // Then
+        List<String> ids = seen.stream().map(ProjectSummaryDTO::id).toList();
+        assertEquals(PROJECTS - PROJECTS / 5, ids.size());
+        assertEquals(2, pages);
+        assertEquals(ids.stream().sorted().toList().reversed(), ids);
+        assertTrue(seen.stream().noneMatch(p -> p.status().equals("DRAFT")));
+        assertTrue(seen.stream().allMatch(p -> p.description().length() == 200));
+    }
+
+    @Test
+    void shouldRequireEverySkill() {
+        // When
+        CursorPageDTO<ProjectSummaryDTO> page =
+                handler.handle(
+                                query(
+                                        null,
+                                        ProjectStatus.OPEN,
+                                        List.of("java", " SPRING "),
+                                        null,
+                                        null))
+                        .getData();
+
+        // Then (even indexes, minus the drafts at 0, 10 and 20)
+        assertEquals(10, page.items().size());
+    }
+
+    @Test
+    void shouldResolveSkillAliases() {
+        // Given
+        ProjectEntity project = fixtures.saveProject(owner, ProjectStatus.OPEN, null, 1, "React");
+        project.setCategory(category);
+        projectRepository.save(project);
+
+        // When
+        List<ProjectSummaryDTO> items =
+                handler.handle(query(null, null, List.of("ReactJS", "react.js"), null, null))
+                        .getData()
+                        .items();
+
+        // Then
+        assertEquals(List.of(project.getId()), items.stream().map(ProjectSummaryDTO::id).toList());
+    }
+
+    @Test
+    void shouldMatchSkillsOfProjectsSavedBeforeKeysAfterBackfill() {
+        // Given: keys missing as for projects saved before they were stored, or computed by an
+        // older rule
+        jdbcTemplate.update(
+                "DELETE FROM project_skill_keys WHERE project_id IN"
+                        + " (SELECT id FROM projects WHERE category = ?)",
+                category);
+        jdbcTemplate.update(
+                "INSERT INTO project_skill_keys (project_id, skill_key)"
+                        + " SELECT id, 'stale' FROM projects WHERE category = ?",
+                category);
+        BrowseProjectsQuery spring = query(null, ProjectStatus.OPEN, List.of("spring"), null, null);
+        assertTrue(handler.handle(spring).getData().items().isEmpty());
+
+        // When
+        projectSkillKeyBackfill.backfill();
+
+        // Then
+        assertEquals(10, handler.handle(spring).getData().items().size());
+        assertTrue(
+                handler.handle(query(null, null, List.of("stale"), null, null))
+                        .getData()
+                        .items()
+                        .isEmpty());
+    }
+
+    @Test
+    void shouldFilterByDeadlineWindow() {
+        // When
+        CursorPageDTO<ProjectSummaryDTO> page =
+                handler.handle(query(null, null, null, START.plusDays(10), START.plusDays(15)))
+                        .getData();
+
+        // Then (days 10..14, minus the draft on day 10)
+        assertEquals(
+                Set.of("Project 11", "Project 12", "Project 13", "Project 14"),
+                page.items().stream().map(ProjectSummaryDTO::title).collect(Collectors.toSet()));
+    }
+
+    @Test
+    void shouldRejectDraftsInvalidCursorsAndEmptyWindows() {
+        assertEquals(
+                ResponseCode.BAD_REQUEST,
+                handler.handle(query(null, ProjectStatus.DRAFT, null, null, null)).getCode());
+        assertEquals(
+                ResponseCode.BAD_REQUEST,
+                handler.handle(query("not-a-cursor!", null, null, null, null)).getCode());
+        assertEquals(
+                ResponseCode.BAD_REQUEST,
+                handler.handle(query(null, null, null, START, START)).getCode());
+    }
+
+    private BrowseProjectsQuery query(
+            String cursor,
+            ProjectStatus status,
+            List<String> skills,
+            LocalDateTime deadlineFrom,
+            LocalDateTime deadlineTo) {
+        return new BrowseProjectsQuery(
+                cursor, 10, status, category, skills, deadlineFrom, deadlineTo);
+    }
+}
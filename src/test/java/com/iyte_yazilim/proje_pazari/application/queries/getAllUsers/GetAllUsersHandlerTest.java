@@ -0,0 +1,92 @@
+package com.iyte_yazilim.proje_pazari.application.queries.getAllUsers;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.iyte_yazilim.proje_pazari.application.dtos.CursorPageDTO;
+import com.iyte_yazilim.proje_pazari.application.dtos.UserDto;
+import com.iyte_yazilim.proje_pazari.domain.enums.ResponseCode;
+import com.iyte_yazilim.proje_pazari.domain.enums.UserRole;
+import com.iyte_yazilim.proje_pazari.domain.models.ApiResponse;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.UserRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.UserEntity;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class GetAllUsersHandlerTest {
+
+    private static final int MODERATORS = 45;
+
+    @Autowired private GetAllUsersHandler handler;
+    @Autowired private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        if (userRepository.existsByEmail("moderator0@iyte.edu.tr")) {
+            return;
+        }
+        for (int i = 0; i < MODERATORS; i++) {
+            UserEntity user = new UserEntity();
+            user.setEmail("moderator" + i + "@iyte.edu.tr");
+            user.setPassword("hash");
+            user.setRole(UserRole.MODERATOR);
+            user.setIsActive(i % 3 != 0);
+            userRepository.save(user);
+        }
+    }
+
+    @Test
+    void shouldWalkAllPagesInIdOrderWithoutDuplicates() {
+        // Given
+        List<String> ids = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+
+        // When
+        do {
+            CursorPageDTO<UserDto> page =
+                    handler.handle(new GetAllUsersQuery(cursor, 20, UserRole.MODERATOR, null))
+                            .getData();
+            page.items().forEach(u -> ids.add(u.userId()));
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // Then
+        assertEquals(MODERATORS, ids.size());
+        assertEquals(3, pages);
+        assertEquals(ids.stream().sorted().toList(), ids);
+    }
+
+    @Test
+    void shouldFilterByActiveFlag() {
+        // When
+        CursorPageDTO<UserDto> page =
+                handler.handle(new GetAllUsersQuery(null, 100, UserRole.MODERATOR, false))
+                        .getData();
+
+        // Then
+        assertEquals(MODERATORS / 3, page.items().size());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void shouldCapPageSize() {
+        assertEquals(
+                GetAllUsersQuery.MAX_LIMIT,
+                new GetAllUsersQuery(null, 10_000, null, null).effectiveLimit());
+        assertEquals(GetAllUsersQuery.DEFAULT_LIMIT, new GetAllUsersQuery().effectiveLimit());
+    }
+
+    @Test
+    void shouldRejectInvalidCursor() {
+        ApiResponse<CursorPageDTO<UserDto>> response =
+                handler.handle(new GetAllUsersQuery("not-a-cursor!", null, null, null));
+
+        assertEquals(ResponseCode.BAD_REQUEST, response.getCode());
+    }
+}
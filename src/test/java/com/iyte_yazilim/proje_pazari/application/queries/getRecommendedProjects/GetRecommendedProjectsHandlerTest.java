@@ -0,0 +1,125 @@
+package com.iyte_yazilim.proje_pazari.application.queries.getRecommendedProjects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.iyte_yazilim.proje_pazari.application.commands.updateUserProfile.UpdateUserProfileCommand;
+import com.iyte_yazilim.proje_pazari.application.commands.updateUserProfile.UpdateUserProfileHandler;
+import com.iyte_yazilim.proje_pazari.application.dtos.ProjectSummaryDTO;
+import com.iyte_yazilim.proje_pazari.application.services.ProjectSkillIndex;
+import com.iyte_yazilim.proje_pazari.domain.enums.ProjectStatus;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.ProjectRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.UserRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.UserEntity;
+import com.iyte_yazilim.proje_pazari.support.TestFixtures;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class GetRecommendedProjectsHandlerTest {
+
+    @Autowired private GetRecommendedProjectsHandler handler;
+    @Autowired private UpdateUserProfileHandler updateUserProfileHandler;
+    @Autowired private ProjectSkillIndex projectSkillIndex;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private UserRepository userRepository;
+
+    // Skill names no other test uses, so only this test's projects can be recommended
+    private TestFixtures fixtures;
+    private UserEntity owner;
+    private UserEntity student;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new TestFixtures("rec", userRepository, projectRepository);
+        owner = fixtures.saveUser("owner");
+        student = fixtures.saveUser("student");
+    }
+
+    @Test
+    void shouldRankBySkillSimilarityAndSkipUnavailableProjects() {
+        // Given
+        setSkills(student, skill("a"), skill("b"));
+        String exact = saveProject(owner, ProjectStatus.OPEN, 4, 1, skill("a"), skill("b"));
+        String partial =
+                saveProject(owner, ProjectStatus.OPEN, 4, 1, skill("a"), skill("c"), skill("d"));
+        saveProject(owner, ProjectStatus.DRAFT, 4, 1, skill("a"));
+        saveProject(owner, ProjectStatus.IN_PROGRESS, 4, 1, skill("a"));
+        saveProject(owner, ProjectStatus.OPEN, 3, 3, skill("a"));
+        saveProject(student, ProjectStatus.OPEN, 4, 1, skill("a"));
+        saveProject(owner, ProjectStatus.OPEN, 4, 1, skill("c"));
+        projectSkillIndex.synchronize();
+
+        // When
+        List<String> recommended = recommend();
+
+        // Then
+        assertEquals(List.of(exact, partial), recommended);
+    }
+
+    @Test
+    void shouldPreferProjectsWithMoreOpenPlaces() {
+        // Given
+        setSkills(student, skill("a"));
+        String almostFull = saveProject(owner, ProjectStatus.OPEN, 4, 3, skill("a"));
+        String mostlyOpen = saveProject(owner, ProjectStatus.OPEN, 4, 1, skill("a"));
+        String unlimited = saveProject(owner, ProjectStatus.OPEN, null, 1, skill("a"));
+        projectSkillIndex.synchronize();
+
+        // Then
+        assertEquals(List.of(unlimited, mostlyOpen, almostFull), recommend());
+    }
+
+    @Test
+    void shouldRecomputeWhenProjectsOrSkillsChange() {
+        // Given
+        String first = saveProject(owner, ProjectStatus.OPEN, 4, 1, skill("a"));
+        projectSkillIndex.synchronize();
+        assertTrue(recommend().isEmpty());
+
+        // When (the user adds a skill)
+        setSkills(student, skill("A"));
+
+        // Then
+        assertEquals(List.of(first), recommend());
+
+        // When (a new matching project is published)
+        String second = saveProject(owner, ProjectStatus.OPEN, null, 1, skill("a"));
+        projectSkillIndex.synchronize();
+
+        // Then
+        assertEquals(List.of(second, first), recommend());
+    }
+
+    private List<String> recommend() {
+        return handler
+                .handle(new GetRecommendedProjectsQuery(student.getId(), null))
+                .getData()
+                .stream()
+                .map(ProjectSummaryDTO::id)
+                .toList();
+    }
+
+    private String skill(String suffix) {
+        return fixtures.unique(suffix);
+    }
+
+    private void setSkills(UserEntity user, String... skills) {
+        updateUserProfileHandler.handle(
+                new UpdateUserProfileCommand(
+                        user.getId(), null, null, null, null, null, null, List.of(skills)));
+    }
+
+    private String saveProject(
+            UserEntity projectOwner,
+            ProjectStatus status,
+            Integer maxTeamSize,
+            int currentTeamSize,
+            String... requiredSkills) {
+        return fixtures.saveProject(
+                        projectOwner, status, maxTeamSize, currentTeamSize, requiredSkills)
+                .getId();
+    }
+}
@@ -0,0 +1,129 @@
+package com.iyte_yazilim.proje_pazari.application.queries.getUserProfile;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.iyte_yazilim.proje_pazari.application.commands.updateUserProfile.UpdateUserProfileCommand;
+import com.iyte_yazilim.proje_pazari.application.commands.updateUserProfile.UpdateUserProfileHandler;
+import com.iyte_yazilim.proje_pazari.application.dtos.UserProfileDTO;
+import com.iyte_yazilim.proje_pazari.application.services.UserStatsReconciler;
+import com.iyte_yazilim.proje_pazari.domain.enums.ProjectStatus;
+import com.iyte_yazilim.proje_pazari.domain.enums.ResponseCode;
+import com.iyte_yazilim.proje_pazari.domain.enums.UserRole;
+import com.iyte_yazilim.proje_pazari.domain.models.ApiResponse;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.ProjectRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.UserRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.ProjectApplicationEntity;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.ProjectEntity;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.UserEntity;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class GetUserProfileHandlerTest {
+
+    @Autowired private GetUserProfileHandler handler;
+    @Autowired private UpdateUserProfileHandler updateUserProfileHandler;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private UserStatsReconciler userStatsReconciler;
+
+    private String ownerId;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        UserEntity owner = saveUser("profile-owner-" + System.nanoTime() + "@iyte.edu.tr");
+        UserEntity otherUser = saveUser("profile-other-" + System.nanoTime() + "@iyte.edu.tr");
+        ownerId = owner.getId();
+
+        saveProject(owner, "First project");
+        saveProject(owner, "Second project");
+
+        // The owner applies to a project of another user
+        ProjectEntity otherProject = saveProject(otherUser, "Other project");
+        ProjectApplicationEntity application = new ProjectApplicationEntity();
+        application.setProject(otherProject);
+        application.setUser(owner);
+        otherProject.setApplications(new ArrayList<>(List.of(application)));
+        projectRepository.save(otherProject);
+
+        // Projects were inserted directly, bring the counters in line
+        userStatsReconciler.reconcile();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void shouldLoadProfileAndSkillsWithTwoStatements() {
+        // When
+        ApiResponse<UserProfileDTO> response = handler.handle(new GetUserProfileQuery(ownerId));
+
+        // Then
+        assertEquals(ResponseCode.SUCCESS, response.getCode());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        UserProfileDTO profile = response.getData();
+        assertEquals(2, profile.projectsCreated());
+        assertEquals(2, profile.projects().size());
+        assertEquals(1, profile.applicationsSubmitted());
+        assertTrue(profile.projects().get(0).description().length() <= 200);
+    }
+
+    @Test
+    void shouldServeRepeatedViewsFromCacheUntilProfileChanges() {
+        // Given
+        handler.handle(new GetUserProfileQuery(ownerId));
+        statistics.clear();
+
+        // When
+        handler.handle(new GetUserProfileQuery(ownerId));
+        long cachedStatements = statistics.getPrepareStatementCount();
+        updateUserProfileHandler.handle(
+                new UpdateUserProfileCommand(
+                        ownerId, "Renamed", null, null, null, null, null, List.of("Java")));
+        UserProfileDTO updated = handler.handle(new GetUserProfileQuery(ownerId)).getData();
+
+        // Then
+        assertEquals(0, cachedStatements);
+        assertEquals("Renamed", updated.firstName());
+        assertEquals(List.of("Java"), updated.skills());
+    }
+
+    @Test
+    void shouldReturnNotFoundForUnknownUser() {
+        // When
+        ApiResponse<UserProfileDTO> response =
+                handler.handle(new GetUserProfileQuery("01HQZX9K2M3N4P5Q6R7S8T9V0W"));
+
+        // Then
+        assertEquals(ResponseCode.NOT_FOUND, response.getCode());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private UserEntity saveUser(String email) {
+        UserEntity user = new UserEntity();
+        user.setEmail(email);
+        user.setPassword("hash");
+        user.setFirstName("Profile");
+        user.setLastName("Test");
+        user.setRole(UserRole.USER);
+        return userRepository.save(user);
+    }
+
+    private ProjectEntity saveProject(UserEntity owner, String title) {
+        ProjectEntity project = new ProjectEntity();
+        project.setTitle(title);
+        project.setDescription("x".repeat(5000));
+        project.setStatus(ProjectStatus.OPEN);
+        project.setOwner(owner);
+        return projectRepository.save(project);
+    }
+}
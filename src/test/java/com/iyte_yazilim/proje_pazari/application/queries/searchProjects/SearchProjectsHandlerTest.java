@@ -0,0 +1,115 @@
+package com.iyte_yazilim.proje_pazari.application.queries.searchProjects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.iyte_yazilim.proje_pazari.application.commands.createProject.CreateProjectCommand;
+import com.iyte_yazilim.proje_pazari.application.commands.createProject.CreateProjectHandler;
+import com.iyte_yazilim.proje_pazari.application.dtos.ProjectSummaryDTO;
+import com.iyte_yazilim.proje_pazari.application.services.ProjectSearchIndex;
+import com.iyte_yazilim.proje_pazari.domain.enums.ProjectStatus;
+import com.iyte_yazilim.proje_pazari.domain.enums.ResponseCode;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.ProjectRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.UserRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.ProjectEntity;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.UserEntity;
+import com.iyte_yazilim.proje_pazari.support.TestFixtures;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class SearchProjectsHandlerTest {
+
+    @Autowired private SearchProjectsHandler handler;
+    @Autowired private CreateProjectHandler createProjectHandler;
+    @Autowired private ProjectSearchIndex projectSearchIndex;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private UserRepository userRepository;
+
+    private UserEntity owner;
+
+    // A term no other test uses, so results only contain this test's projects
+    private String keyword;
+
+    @BeforeEach
+    void setUp() {
+        keyword = "kw" + System.nanoTime();
+        owner = new TestFixtures("search", userRepository, projectRepository).saveUser("owner");
+    }
+
+    @Test
+    void shouldRankTitleMatchesFirstAndIgnoreTurkishCase() {
+        // Given
+        saveProject("Mobil uygulama", keyword + " kullanan bir proje", ProjectStatus.OPEN);
+        saveProject(
+                "Yazılım " + keyword.toUpperCase(), "Web tabanlı bir proje", ProjectStatus.OPEN);
+        saveProject("Taslak " + keyword, "Henüz yayınlanmadı", ProjectStatus.DRAFT);
+        projectSearchIndex.synchronize(null);
+
+        // When
+        List<ProjectSummaryDTO> results =
+                handler.handle(new SearchProjectsQuery("YAZILIM " + keyword, null)).getData();
+
+        // Then
+        assertEquals(
+                List.of("Yazılım " + keyword.toUpperCase(), "Mobil uygulama"),
+                results.stream().map(ProjectSummaryDTO::title).toList());
+    }
+
+    @Test
+    void shouldIndexCreatedProjectsAndListThemOncePublished() {
+        // Given
+        String projectId =
+                createProjectHandler
+                        .handle(
+                                new CreateProjectCommand(
+                                        "Robot " + keyword,
+                                        "Otonom bir robot kolu tasarımı",
+                                        owner.getId(),
+                                        null,
+                                        null,
+                                        4,
+                                        null,
+                                        "Robotics",
+                                        null))
+                        .getData()
+                        .projectId();
+
+        // Then (drafts are indexed but not listed)
+        assertTrue(search(keyword).isEmpty());
+
+        // When
+        ProjectEntity project = projectRepository.findById(projectId).orElseThrow();
+        project.setStatus(ProjectStatus.OPEN);
+        projectRepository.save(project);
+        projectSearchIndex.synchronize(LocalDateTime.now().plusDays(1));
+
+        // Then
+        assertEquals(List.of(projectId), search(keyword));
+    }
+
+    @Test
+    void shouldRejectBlankQueries() {
+        assertEquals(
+                ResponseCode.BAD_REQUEST,
+                handler.handle(new SearchProjectsQuery("  ", null)).getCode());
+    }
+
+    private List<String> search(String query) {
+        return handler.handle(new SearchProjectsQuery(query, null)).getData().stream()
+                .map(ProjectSummaryDTO::id)
+                .toList();
+    }
+
+    private void saveProject(String title, String description, ProjectStatus status) {
+        ProjectEntity project = new ProjectEntity();
+        project.setTitle(title);
+        project.setDescription(description);
+        project.setStatus(status);
+        project.setOwner(owner);
+        projectRepository.save(project);
+    }
+}
@@ -0,0 +1,94 @@
+package com.iyte_yazilim.proje_pazari.application.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.StoredFileRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.storage.LocalStorageBackend;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class AvatarRenditionServiceTest {
+
+    @TempDir Path storageDir;
+
+    private FileStorageService fileStorageService;
+    private AvatarRenditionService renditionService;
+
+    @BeforeEach
+    void setUp() {
+        fileStorageService =
+                new FileStorageService(
+                        storageDir.toAbsolutePath().normalize(),
+                        new LocalStorageBackend(storageDir),
+                        mock(StoredFileRepository.class),
+                        new HotFileCache(new SimpleMeterRegistry(), 1 << 20, 65_536),
+                        mock(PlatformTransactionManager.class),
+                        0,
+                        new int[] {64, 256},
+                        40_000_000L,
+                        300);
+        renditionService =
+                new AvatarRenditionService(
+                        fileStorageService, new SimpleMeterRegistry(), 1, 10, 40_000_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        renditionService.shutdown();
+    }
+
+    @Test
+    void shouldRenderEveryConfiguredSizeInBackground() throws Exception {
+        // Given
+        ImageIO.write(
+                new BufferedImage(1000, 500, BufferedImage.TYPE_INT_RGB),
+                "png",
+                storageDir.resolve("avatar.png").toFile());
+
+        // When
+        renditionService.requestRenditions("avatar.png");
+
+        // Then
+        BufferedImage small = awaitImage(stored("avatar-64.png"));
+        BufferedImage large = awaitImage(stored("avatar-256.png"));
+        assertEquals(64, small.getWidth());
+        assertEquals(32, small.getHeight());
+        assertEquals(256, large.getWidth());
+        assertEquals(128, large.getHeight());
+    }
+
+    @Test
+    void shouldNeverUpscale() {
+        // Given
+        BufferedImage source = new BufferedImage(40, 20, BufferedImage.TYPE_INT_ARGB);
+
+        // When
+        BufferedImage scaled = AvatarRenditionService.scale(source, 64);
+
+        // Then
+        assertEquals(40, scaled.getWidth());
+        assertEquals(20, scaled.getHeight());
+    }
+
+    private BufferedImage awaitImage(Path path) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!Files.exists(path) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertTrue(Files.exists(path), "rendition was not produced: " + path.getFileName());
+        return ImageIO.read(path.toFile());
+    }
+
+    private Path stored(String fileName) {
+        return storageDir.resolve(fileStorageService.shardedKey(fileName));
+    }
+}
@@ -0,0 +1,196 @@
+package com.iyte_yazilim.proje_pazari.application.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.iyte_yazilim.proje_pazari.domain.models.StoredObject;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.StoredFileRepository;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+class FileStorageServiceDeduplicationTest {
+
+    private static final int THREADS = 8;
+
+    @TempDir static Path storageDir;
+
+    @Autowired private FileStorageService fileStorageService;
+    @Autowired private StoredFileRepository storedFileRepository;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    @DynamicPropertySource
+    static void uploadDir(DynamicPropertyRegistry registry) {
+        registry.add("app.upload.dir", () -> storageDir.toString());
+    }
+
+    @Test
+    void shouldStoreIdenticalUploadsOnce() throws Exception {
+        // Given
+        byte[] content = png(Color.RED);
+
+        // When
+        String first = fileStorageService.storeImage(new ByteArrayInputStream(content));
+        String second = fileStorageService.storeImage(new ByteArrayInputStream(content));
+
+        // Then
+        assertEquals(first, second);
+        assertTrue(first.matches("[0-9a-f]{64}\\.png"));
+        assertEquals(2, storedFileRepository.findById(first).orElseThrow().getRefCount());
+        assertArrayEquals(content, Files.readAllBytes(stored(first)));
+        try (var files = Files.list(storageDir)) {
+            assertTrue(files.noneMatch(f -> f.getFileName().toString().endsWith(".tmp")));
+        }
+    }
+
+    @Test
+    void shouldDeleteFileWhenLastReferenceIsReleased() throws Exception {
+        // Given
+        byte[] content = png(Color.BLUE);
+        String name = fileStorageService.storeImage(new ByteArrayInputStream(content));
+        fileStorageService.storeImage(new ByteArrayInputStream(content));
+
+        // When
+        fileStorageService.releaseFile(name);
+
+        // Then
+        assertTrue(Files.exists(stored(name)));
+
+        // When
+        fileStorageService.releaseFile(name);
+
+        // Then
+        assertFalse(Files.exists(stored(name)));
+        assertFalse(storedFileRepository.existsById(name));
+    }
+
+    @Test
+    void shouldDeleteLegacyFileAndRenditionsOnlyWhenReleaseCommits() throws Exception {
+        // Given: a file stored before content addressing, which has no reference count
+        String name = "01HQZX9K2M3N4P5Q6R7S8T9V0W_1.png";
+        List<Path> files = new ArrayList<>(List.of(stored(name)));
+        for (int size : fileStorageService.renditionSizes()) {
+            files.add(stored(fileStorageService.renditionName(name, size)));
+        }
+        for (Path file : files) {
+            Files.createDirectories(file.getParent());
+            Files.write(file, png(Color.GREEN));
+        }
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // When
+        transaction.executeWithoutResult(
+                status -> {
+                    release(name);
+                    status.setRollbackOnly();
+                });
+
+        // Then
+        assertTrue(files.stream().allMatch(Files::exists));
+
+        // When
+        transaction.executeWithoutResult(status -> release(name));
+
+        // Then
+        assertTrue(files.stream().noneMatch(Files::exists));
+    }
+
+    @Test
+    void shouldKeepFileReferencedAgainBeforeCollectorDeletesIt() throws Exception {
+        // Given: the collector saw the file unreferenced, then the same content was uploaded
+        byte[] content = png(Color.MAGENTA);
+        String name = fileStorageService.storeImage(new ByteArrayInputStream(content));
+        Instant cutoff = Instant.now().plusSeconds(60);
+        StoredObject seen;
+        try (Stream<StoredObject> files = fileStorageService.walkFiles()) {
+            seen = files.filter(f -> f.name().equals(name)).findFirst().orElseThrow();
+        }
+
+        // When
+        long reclaimed = fileStorageService.deleteIfUnmodifiedSince(seen, cutoff);
+
+        // Then
+        assertEquals(-1, reclaimed);
+        assertTrue(Files.exists(stored(name)));
+        assertEquals(1, storedFileRepository.findById(name).orElseThrow().getRefCount());
+    }
+
+    @Test
+    void shouldCountConcurrentFirstUploadsOfSameContent() throws Exception {
+        // Given
+        byte[] content = png(Color.ORANGE);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When: every upload finds no row and races to create it
+        List<Future<String>> uploads = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                uploads.add(
+                        pool.submit(
+                                () -> {
+                                    start.await();
+                                    return fileStorageService.storeImage(
+                                            new ByteArrayInputStream(content));
+                                }));
+            }
+            start.countDown();
+            for (Future<String> upload : uploads) {
+                upload.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // Then
+        String name = uploads.get(0).get();
+        assertEquals(THREADS, storedFileRepository.findById(name).orElseThrow().getRefCount());
+        assertArrayEquals(content, Files.readAllBytes(stored(name)));
+    }
+
+    private void release(String fileName) {
+        try {
+            fileStorageService.releaseFile(fileName);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private byte[] png(Color color) throws Exception {
+        BufferedImage image = new BufferedImage(4, 4, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(color);
+        graphics.fillRect(0, 0, 4, 4);
+        graphics.dispose();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    private Path stored(String fileName) {
+        return storageDir.resolve(fileStorageService.shardedKey(fileName));
+    }
+}
@@ -0,0 +1,192 @@
+package com.iyte_yazilim.proje_pazari.application.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.StoredFileRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.storage.LocalStorageBackend;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class FileStorageServiceTest {
+
+    @TempDir Path storageDir;
+
+    private FileStorageService fileStorageService;
+
+    @BeforeEach
+    void setUp() {
+        fileStorageService =
+                new FileStorageService(
+                        storageDir.toAbsolutePath().normalize(),
+                        new LocalStorageBackend(storageDir),
+                        mock(StoredFileRepository.class),
+                        new HotFileCache(new SimpleMeterRegistry(), 1 << 20, 65_536),
+                        mock(PlatformTransactionManager.class),
+                        0,
+                        new int[] {256, 64, 128},
+                        40_000_000L,
+                        300);
+    }
+
+    @Test
+    void shouldReturnStableContentETag() throws Exception {
+        // Given
+        Files.write(storageDir.resolve("a.png"), new byte[] {1, 2, 3});
+        Files.write(storageDir.resolve("b.png"), new byte[] {1, 2, 3});
+
+        // When
+        StoredFileMetadata first = fileStorageService.getFileMetadata("a.png");
+        StoredFileMetadata second = fileStorageService.getFileMetadata("a.png");
+        StoredFileMetadata copy = fileStorageService.getFileMetadata("b.png");
+
+        // Then
+        assertEquals(3, first.size());
+        assertEquals(first, second);
+        assertEquals(first.etag(), copy.etag());
+    }
+
+    @Test
+    void shouldRecomputeETagWhenFileChanges() throws Exception {
+        // Given
+        Path file = storageDir.resolve("avatar.png");
+        Files.write(file, new byte[] {1, 2, 3});
+        StoredFileMetadata before = fileStorageService.getFileMetadata("avatar.png");
+
+        // When
+        Files.write(file, new byte[] {4, 5, 6, 7});
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(60)));
+        StoredFileMetadata after = fileStorageService.getFileMetadata("avatar.png");
+
+        // Then
+        assertNotEquals(before.etag(), after.etag());
+        assertEquals(4, after.size());
+    }
+
+    @Test
+    void shouldServeFreshMetadataWithoutTouchingTheDisk() throws Exception {
+        // Given
+        FileStorageService cachingService =
+                new FileStorageService(
+                        storageDir.toAbsolutePath().normalize(),
+                        new LocalStorageBackend(storageDir),
+                        mock(StoredFileRepository.class),
+                        new HotFileCache(new SimpleMeterRegistry(), 1 << 20, 65_536),
+                        mock(PlatformTransactionManager.class),
+                        3600,
+                        new int[] {64},
+                        40_000_000L,
+                        300);
+        Path file = storageDir.resolve("01HQZX9K2M3N4P5Q6R7S8T9V0W_1700000000000.png");
+        Files.write(file, new byte[] {1, 2, 3});
+        StoredFileMetadata first = cachingService.getFileMetadata(file.getFileName().toString());
+
+        // When
+        Files.delete(file);
+        StoredFileMetadata second = cachingService.getFileMetadata(file.getFileName().toString());
+
+        // Then
+        assertSame(first, second);
+        assertTrue(first.immutable());
+    }
+
+    @Test
+    void shouldPickSmallestSufficientRendition() {
+        // Given
+        String digestName = "ab".repeat(32) + ".jpeg";
+
+        // When / Then
+        assertEquals("ab".repeat(32) + "-64.jpg", fileStorageService.renditionFor(digestName, 40));
+        assertEquals("ab".repeat(32) + "-128.jpg", fileStorageService.renditionFor(digestName, 65));
+        assertNull(fileStorageService.renditionFor(digestName, 1024));
+        assertEquals("avatar-64.png", fileStorageService.renditionName("avatar.gif", 64));
+    }
+
+    @Test
+    void shouldRejectMissingFilesAndPathTraversal() {
+        assertThrows(
+                FileNotFoundException.class, () -> fileStorageService.getFileMetadata("none.png"));
+        assertThrows(
+                FileNotFoundException.class,
+                () -> fileStorageService.getFileMetadata("../outside.png"));
+    }
+
+    @Test
+    void shouldRejectNonImagesBeforeReadingTheWholeBody() throws Exception {
+        // Given
+        byte[] body = new byte[1024 * 1024];
+        System.arraycopy("<html>".getBytes(), 0, body, 0, 6);
+        ByteArrayInputStream content = new ByteArrayInputStream(body);
+
+        // When
+        assertThrows(IllegalArgumentException.class, () -> fileStorageService.storeImage(content));
+
+        // Then
+        assertTrue(content.available() > 0);
+        assertNoFilesLeft();
+    }
+
+    @Test
+    void shouldRejectImagesWithTooManyPixelsFromTheHeader() throws Exception {
+        // Given
+        ByteBuffer header = ByteBuffer.allocate(64);
+        header.put(new byte[] {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'});
+        header.putInt(13).put("IHDR".getBytes()).putInt(50_000).putInt(50_000);
+
+        // When / Then
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> fileStorageService.storeImage(new ByteArrayInputStream(header.array())));
+        assertNoFilesLeft();
+    }
+
+    @Test
+    void shouldStageImageWhoseHeaderSpansSeveralReads() throws Exception {
+        // Given: a JPEG whose frame header follows a 20 KB metadata segment
+        ByteBuffer body = ByteBuffer.allocate(24_000);
+        body.put(new byte[] {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE1});
+        body.putShort((short) 20_002).put(new byte[20_000]);
+        body.put(new byte[] {(byte) 0xFF, (byte) 0xC0}).putShort((short) 17).put((byte) 8);
+        body.putShort((short) 16).putShort((short) 16);
+
+        // When
+        try (StagedImage image =
+                fileStorageService.stageImage(new ByteArrayInputStream(body.array()))) {
+
+            // Then
+            assertTrue(image.fileName().endsWith(".jpg"));
+            assertEquals(body.capacity(), image.size());
+            assertArrayEquals(body.array(), Files.readAllBytes(image.file()));
+        }
+        assertNoFilesLeft();
+    }
+
+    @Test
+    void shouldRejectUploadsAboveTheSizeLimit() throws Exception {
+        // Given
+        ByteBuffer body = ByteBuffer.allocate((int) FileStorageService.MAX_UPLOAD_BYTES + 1);
+        body.put(new byte[] {'G', 'I', 'F', '8', '9', 'a', 16, 0, 16, 0});
+
+        // When / Then
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> fileStorageService.storeImage(new ByteArrayInputStream(body.array())));
+        assertNoFilesLeft();
+    }
+
+    private void assertNoFilesLeft() throws Exception {
+        try (var files = Files.walk(storageDir)) {
+            assertTrue(files.noneMatch(Files::isRegularFile));
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.iyte_yazilim.proje_pazari.application.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class HotFileCacheTest {
+
+    private static final Instant MODIFIED = Instant.parse("2025-01-01T00:00:00Z");
+
+    @TempDir Path storageDir;
+
+    private SimpleMeterRegistry meterRegistry;
+    private HotFileCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new HotFileCache(meterRegistry, 1024, 16);
+    }
+
+    @Test
+    void shouldServeRepeatedReadsFromMemory() throws Exception {
+        // Given
+        StoredFileMetadata file = write("a.png", "avatar", "v1");
+        assertNull(cache.acquire(file));
+        cache.acquire(file).close();
+        Files.delete(file.path());
+
+        // When
+        try (HotFileCache.Lease lease = cache.acquire(file)) {
+
+            // Then
+            ByteBuffer body = lease.body();
+            assertTrue(body.isDirect());
+            assertTrue(body.isReadOnly());
+            assertEquals("avatar", text(body));
+        }
+        assertEquals(1.0 / 3, meterRegistry.get("files.hot.hit.ratio").gauge().value(), 1e-9);
+        assertEquals(16.0, meterRegistry.get("files.hot.resident.bytes").gauge().value());
+    }
+
+    @Test
+    void shouldReuseBuffersOfEvictedFiles() throws Exception {
+        // Given: room for four 16-byte slots
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new HotFileCache(meterRegistry, 64, 16);
+
+        // When
+        for (int i = 0; i < 50; i++) {
+            StoredFileMetadata file = write(i + ".png", "content-" + i, "v1");
+            cache.acquire(file);
+            cache.acquire(file).close();
+        }
+
+        // Then: never more than the cache plus one spare slot
+        assertEquals(80.0, meterRegistry.get("files.hot.resident.bytes").gauge().value(), 0.0);
+    }
+
+    @Test
+    void shouldKeepLeasedBodyIntactAfterEviction() throws Exception {
+        // Given
+        StoredFileMetadata file = write("a.png", "avatar", "v1");
+        cache.acquire(file);
+        HotFileCache.Lease lease = cache.acquire(file);
+
+        // When
+        cache.invalidate("a.png");
+        StoredFileMetadata other = write("b.png", "second", "v1");
+        cache.acquire(other);
+        cache.acquire(other).close();
+
+        // Then
+        assertEquals("avatar", text(lease.body()));
+        lease.close();
+    }
+
+    @Test
+    void shouldReloadWhenFileChanged() throws Exception {
+        // Given
+        StoredFileMetadata old = write("a.png", "old", "v1");
+        cache.acquire(old);
+        cache.acquire(old).close();
+
+        // When
+        try (HotFileCache.Lease lease = cache.acquire(write("a.png", "newer", "v2"))) {
+
+            // Then
+            assertEquals("newer", text(lease.body()));
+        }
+    }
+
+    @Test
+    void shouldReloadAfterInvalidation() throws Exception {
+        // Given
+        StoredFileMetadata file = write("a.png", "avatar", "v1");
+        cache.acquire(file);
+        cache.acquire(file).close();
+
+        // When
+        cache.invalidate("a.png");
+        Files.delete(file.path());
+
+        // Then
+        assertThrows(NoSuchFileException.class, () -> cache.acquire(file));
+    }
+
+    @Test
+    void shouldSkipLargeAndRemoteFiles() throws Exception {
+        // Given
+        StoredFileMetadata large = write("large.png", "x".repeat(17), "v1");
+        StoredFileMetadata remote =
+                new StoredFileMetadata("r.png", "ab/cd/r.png", null, 3, MODIFIED, "v1", true);
+
+        // Then
+        assertNull(cache.acquire(large));
+        assertNull(cache.acquire(large));
+        assertNull(cache.acquire(remote));
+    }
+
+    private StoredFileMetadata write(String fileName, String content, String etag)
+            throws Exception {
+        Path path = Files.writeString(storageDir.resolve(fileName), content);
+        return new StoredFileMetadata(
+                fileName, fileName, path, content.length(), MODIFIED, etag, true);
+    }
+
+    private static String text(ByteBuffer body) {
+        byte[] bytes = new byte[body.remaining()];
+        body.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,70 @@
+package com.iyte_yazilim.proje_pazari.application.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class ImageHeaderTest {
+
+    @ParameterizedTest
+    @CsvSource({"png, png", "jpg, jpg", "gif, gif"})
+    void shouldReadFormatAndDimensionsFromHeader(String format, String extension)
+            throws Exception {
+        // Given
+        byte[] bytes = encode(new BufferedImage(37, 21, BufferedImage.TYPE_INT_RGB), format);
+
+        // When
+        ImageHeader header = ImageHeader.parse(bytes, bytes.length);
+
+        // Then
+        assertEquals(new ImageHeader(extension, 37, 21), header);
+        assertEquals(777, header.pixels());
+    }
+
+    @Test
+    void shouldAskForMoreBytesWhenHeaderIsIncomplete() throws Exception {
+        // Given
+        byte[] bytes = encode(new BufferedImage(8, 8, BufferedImage.TYPE_INT_RGB), "jpg");
+
+        // When / Then
+        assertNull(ImageHeader.parse(Arrays.copyOf(bytes, 16), 16));
+        assertNull(ImageHeader.parse(bytes, 4));
+    }
+
+    @Test
+    void shouldRejectContentThatIsNotAnImage() {
+        // Given
+        byte[] bytes = "<?php echo 'not an image'; ?>".getBytes();
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> ImageHeader.parse(bytes, bytes.length));
+    }
+
+    @Test
+    void shouldReadWebpCanvasSize() {
+        // Given
+        byte[] bytes = new byte[30];
+        System.arraycopy("RIFF".getBytes(), 0, bytes, 0, 4);
+        System.arraycopy("WEBPVP8X".getBytes(), 0, bytes, 8, 8);
+        bytes[24] = (byte) 0xFF; // width - 1 = 255
+        bytes[27] = 0x7F; // height - 1 = 127
+
+        // When
+        ImageHeader header = ImageHeader.parse(bytes, bytes.length);
+
+        // Then
+        assertEquals(new ImageHeader("webp", 256, 128), header);
+    }
+
+    private byte[] encode(BufferedImage image, String format) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,132 @@
+package com.iyte_yazilim.proje_pazari.application.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class InvertedIndexTest {
+
+    @Test
+    void shouldRankByTermFrequencyAndRarity() {
+        // Given
+        InvertedIndex index = new InvertedIndex();
+        index.put("a", document("java spring web"), true);
+        index.put("b", document("java java java spring"), true);
+        index.put("c", document("python web"), true);
+
+        // When
+        List<InvertedIndex.Hit> hits = index.search(List.of("java"), 10);
+        List<InvertedIndex.Hit> rare = index.search(List.of("java", "python"), 10);
+
+        // Then
+        assertEquals(List.of("b", "a"), keys(hits));
+        assertEquals("c", rare.get(0).key());
+    }
+
+    @Test
+    void shouldHideUnlistedDocumentsAndHonourTheLimit() {
+        // Given
+        InvertedIndex index = new InvertedIndex();
+        for (int i = 0; i < 10; i++) {
+            index.put("p" + i, document("robot"), i != 9);
+        }
+
+        // When
+        List<InvertedIndex.Hit> hits = index.search(List.of("robot"), 3);
+
+        // Then (equal scores: newest first, p9 is unlisted)
+        assertEquals(List.of("p8", "p7", "p6"), keys(hits));
+
+        // When
+        index.setListed("p9", true);
+
+        // Then
+        assertEquals("p9", index.search(List.of("robot"), 1).get(0).key());
+    }
+
+    @Test
+    void shouldReplaceAndRemoveDocumentsAcrossCompaction() {
+        // Given
+        InvertedIndex index = new InvertedIndex();
+        for (int i = 0; i < 200; i++) {
+            index.put("p" + i, document("drone"), true);
+        }
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            index.remove("p" + i);
+        }
+        index.put("p150", document("satellite"), true);
+
+        // Then
+        assertEquals(100, index.size());
+        assertEquals(99, index.search(List.of("drone"), 1000).size());
+        assertEquals(List.of("p150"), keys(index.search(List.of("satellite"), 10)));
+    }
+
+    @Test
+    void shouldRoundTripThroughSnapshot() throws Exception {
+        // Given
+        InvertedIndex index = new InvertedIndex();
+        index.put("a", document("yapay zeka sohbet"), true);
+        index.put("b", document("mobil uygulama zeka"), false);
+        index.put("c", document("mobil oyun"), true);
+        index.remove("c");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        index.writeTo(new DataOutputStream(bytes));
+
+        // When
+        InvertedIndex restored =
+                InvertedIndex.readFrom(
+                        new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        // Then
+        assertEquals(2, restored.size());
+        assertEquals(
+                keys(index.search(List.of("zeka", "mobil"), 10)),
+                keys(restored.search(List.of("zeka", "mobil"), 10)));
+        assertEquals(
+                index.search(List.of("zeka"), 1).get(0).score(),
+                restored.search(List.of("zeka"), 1).get(0).score());
+        assertFalse(restored.contains("c"));
+    }
+
+    @Test
+    void shouldKeepCopyIndependentOfLaterChanges() throws Exception {
+        // Given
+        InvertedIndex index = new InvertedIndex();
+        index.put("a", document("robot kol"), true);
+        index.put("b", document("robot araba"), true);
+
+        // When
+        InvertedIndex copy = index.copy();
+        index.remove("a");
+        index.put("c", document("robot"), true);
+        copy.writeTo(new DataOutputStream(new ByteArrayOutputStream()));
+
+        // Then
+        assertEquals(List.of("a"), keys(copy.search(List.of("kol"), 10)));
+        assertFalse(copy.contains("c"));
+        assertEquals(2, index.size());
+        assertEquals(2, index.search(List.of("robot"), 10).size());
+    }
+
+    private static Map<String, Integer> document(String text) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String term : SearchTextAnalyzer.tokenize(text)) {
+            frequencies.merge(term, 1, Integer::sum);
+        }
+        return frequencies;
+    }
+
+    private static List<String> keys(List<InvertedIndex.Hit> hits) {
+        return hits.stream().map(InvertedIndex.Hit::key).toList();
+    }
+}
@@ -0,0 +1,98 @@
+package com.iyte_yazilim.proje_pazari.application.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class PasswordHashingServiceTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ExecutorService callers = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+    }
+
+    @Test
+    void shouldDelegateToPasswordEncoder() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PasswordHashingService service =
+                new PasswordHashingService(new PlainEncoder(null), registry, 1, 1, 1000);
+
+        // When / Then
+        assertEquals("{plain}secret", service.encode("secret"));
+        assertTrue(service.matches("secret", "{plain}secret"));
+        assertEquals(
+                1,
+                registry.get("password.hashing.duration")
+                        .tag("operation", "matches")
+                        .timer()
+                        .count());
+    }
+
+    @Test
+    void shouldRejectFastWhenSaturated() throws Exception {
+        // Given: one worker busy and one task queued
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PasswordHashingService service =
+                new PasswordHashingService(new PlainEncoder(release), registry, 1, 1, 10_000);
+        callers.submit(() -> service.encode("a"));
+        callers.submit(() -> service.encode("b"));
+        waitForQueueDepth(registry, 1);
+
+        // When
+        long start = System.nanoTime();
+        assertThrows(PasswordHashingRejectedException.class, () -> service.encode("c"));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Then
+        assertTrue(elapsedMillis < 1000, "Rejection took " + elapsedMillis + " ms");
+        assertEquals(1.0, registry.get("password.hashing.rejected").counter().count());
+    }
+
+    private void waitForQueueDepth(SimpleMeterRegistry registry, int depth)
+            throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (registry.get("password.hashing.queue.depth").gauge().value() < depth) {
+            assertTrue(System.currentTimeMillis() < deadline, "Queue never filled");
+            Thread.sleep(10);
+        }
+    }
+
+    /** Encoder that optionally blocks until released, standing in for a slow BCrypt. */
+    private record PlainEncoder(CountDownLatch release) implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            await();
+            return "{plain}" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            await();
+            return encodedPassword.equals("{plain}" + rawPassword);
+        }
+
+        private void await() {
+            if (release == null) {
+                return;
+            }
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.iyte_yazilim.proje_pazari.application.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.iyte_yazilim.proje_pazari.domain.enums.ProjectStatus;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.ProjectRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.UserRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.UserEntity;
+import com.iyte_yazilim.proje_pazari.support.TestFixtures;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class ProjectSkillIndexTest {
+
+    @Autowired private ProjectSkillIndex projectSkillIndex;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private UserRepository userRepository;
+
+    // Skill names no other test uses, so matches only contain this test's projects
+    private TestFixtures fixtures;
+    private UserEntity owner;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new TestFixtures("skill", userRepository, projectRepository);
+        owner = fixtures.saveUser("owner");
+    }
+
+    @Test
+    void shouldRankByOverlapAndSkipDrafts() {
+        // Given
+        String two = saveProject(ProjectStatus.OPEN, skill("a"), skill("b"), skill("c"));
+        String three = saveProject(ProjectStatus.OPEN, skill("a"), skill("b"), skill("d"));
+        String one = saveProject(ProjectStatus.IN_PROGRESS, skill("c").toUpperCase());
+        saveProject(ProjectStatus.DRAFT, skill("a"), skill("b"), skill("c"), skill("d"));
+        saveProject(ProjectStatus.OPEN, skill("e"));
+        projectSkillIndex.synchronize();
+
+        // When
+        List<String> all = rankByOverlap(skills("a", "b", "c", "d"), 10);
+        List<String> best = rankByOverlap(skills("a", "b", "d"), 2);
+
+        // Then
+        assertEquals(List.of(three, two, one), all);
+        assertEquals(List.of(three, two), best);
+    }
+
+    @Test
+    void shouldDropDeletedProjects() {
+        // Given
+        String id = saveProject(ProjectStatus.OPEN, skill("a"));
+        projectSkillIndex.synchronize();
+
+        // When
+        projectRepository.deleteById(id);
+        projectSkillIndex.synchronize();
+
+        // Then
+        assertTrue(rankByOverlap(skills("a"), 10).isEmpty());
+    }
+
+    private List<String> rankByOverlap(List<String> skills, int limit) {
+        SkillSet wanted = projectSkillIndex.lookup(skills);
+        return projectSkillIndex
+                .top(
+                        project -> project.skills().intersects(wanted),
+                        project -> project.skills().overlap(wanted),
+                        limit)
+                .stream()
+                .map(ProjectSkillIndex.IndexedProject::id)
+                .toList();
+    }
+
+    private String skill(String suffix) {
+        return fixtures.unique(suffix);
+    }
+
+    private List<String> skills(String... suffixes) {
+        return fixtures.uniqueAll(suffixes);
+    }
+
+    private String saveProject(ProjectStatus status, String... requiredSkills) {
+        return fixtures.saveProject(owner, status, null, 1, requiredSkills).getId();
+    }
+}
@@ -0,0 +1,33 @@
+package com.iyte_yazilim.proje_pazari.application.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SearchTextAnalyzerTest {
+
+    @Test
+    void shouldFoldTurkishLettersAndCase() {
+        assertEquals(
+                List.of("istanbul", "izmir", "yazilim", "cagri", "ogrenci", "sifre"),
+                SearchTextAnalyzer.tokenize("İSTANBUL, Izmir: Yazılım çağrı ÖĞRENCİ şifre"));
+    }
+
+    @Test
+    void shouldMatchQueriesTypedWithoutTurkishKeyboard() {
+        assertEquals(
+                SearchTextAnalyzer.tokenize("YAZILIM GELİŞTİRME"),
+                SearchTextAnalyzer.tokenize("yazilim gelistirme"));
+        assertEquals(List.of("internet"), SearchTextAnalyzer.tokenize("INTERNET"));
+    }
+
+    @Test
+    void shouldSplitOnPunctuationAndDropShortTerms() {
+        assertEquals(
+                List.of("spring", "boot", "ve", "react", "v18"),
+                SearchTextAnalyzer.tokenize("Spring-Boot ve React (v18) + a"));
+        assertTrue(SearchTextAnalyzer.tokenize(null).isEmpty());
+        assertTrue(SearchTextAnalyzer.tokenize("x".repeat(41)).isEmpty());
+    }
+}
@@ -0,0 +1,84 @@
+package com.iyte_yazilim.proje_pazari.application.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SkillDictionaryTest {
+
+    private SkillDictionary dictionary;
+
+    @BeforeEach
+    void setUp() {
+        dictionary = new SkillDictionary(new SimpleMeterRegistry());
+    }
+
+    @Test
+    void shouldNormalizeCaseDiacriticsAndSeparators() {
+        assertEquals("makine ogrenmesi", SkillDictionary.normalize("  MAKİNE_Öğrenmesi "));
+        assertEquals("spring boot", SkillDictionary.normalize("Spring-Boot"));
+        assertEquals("c++", SkillDictionary.normalize("C++"));
+        assertNull(SkillDictionary.normalize(" - "));
+    }
+
+    @Test
+    void shouldResolveAliasesToOneCanonicalSkill() {
+        // When
+        int react = dictionary.register("ReactJS");
+
+        // Then
+        assertEquals(react, dictionary.register("react.js"));
+        assertEquals(react, dictionary.idOf("React"));
+        assertEquals("React", dictionary.nameOf(react));
+        assertEquals(dictionary.register("ML"), dictionary.idOf("Makine Öğrenmesi"));
+        assertEquals(2, dictionary.size());
+    }
+
+    @Test
+    void shouldKeepFirstSpellingOfUnknownSkillsAndAssignDenseIds() {
+        // When
+        int rust = dictionary.register(" Rust ");
+        int figma = dictionary.register("Figma");
+
+        // Then
+        assertEquals(0, rust);
+        assertEquals(1, figma);
+        assertEquals(rust, dictionary.register("RUST"));
+        assertEquals("Rust", dictionary.nameOf(rust));
+        assertEquals(-1, dictionary.idOf("Elixir"));
+        assertEquals(-1, dictionary.register(" "));
+    }
+
+    @Test
+    void shouldCompareSkillSetsWordByWord() {
+        // Given (ids across two words)
+        SkillSet project = SkillSet.of(1, 5, 70);
+        SkillSet both = SkillSet.of(5, 70);
+        SkillSet other = SkillSet.of(2, 130);
+
+        // Then
+        assertTrue(project.containsAll(both));
+        assertFalse(both.containsAll(project));
+        assertFalse(project.containsAll(SkillSet.of(5, 200)));
+        assertTrue(project.containsAll(SkillSet.EMPTY));
+        assertTrue(project.intersects(both));
+        assertFalse(project.intersects(other));
+        assertEquals(2, project.overlap(SkillSet.of(1, 70, 130)));
+        assertEquals(3, project.size());
+        assertEquals(List.of(1, 5, 70), project.ids().boxed().toList());
+        assertEquals(SkillSet.of(70, 5), both);
+    }
+
+    @Test
+    void shouldEncodeNamesIntoASet() {
+        // When
+        SkillSet skills = dictionary.encode(List.of("Java", "js", "JavaScript", ""));
+
+        // Then
+        assertEquals(2, skills.size());
+        assertTrue(skills.contains(dictionary.idOf("ECMAScript")));
+    }
+}
@@ -0,0 +1,93 @@
+package com.iyte_yazilim.proje_pazari.application.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.ProjectRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.UserRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.UserEntity;
+import com.iyte_yazilim.proje_pazari.support.TestFixtures;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+@SpringBootTest
+class UploadGarbageCollectorTest {
+
+    @TempDir static Path storageDir;
+
+    @Autowired private UploadGarbageCollector uploadGarbageCollector;
+    @Autowired private FileStorageService fileStorageService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ProjectRepository projectRepository;
+
+    @DynamicPropertySource
+    static void uploadDir(DynamicPropertyRegistry registry) {
+        registry.add("app.upload.dir", () -> storageDir.toString());
+        registry.add("app.upload.migration.enabled", () -> "false");
+        registry.add("app.upload.gc.batch-pause-ms", () -> "0");
+        registry.add("app.upload.gc.batch-size", () -> "2");
+    }
+
+    @Test
+    void shouldDeleteOnlyOldUnreferencedFiles() throws Exception {
+        // Given
+        Path referenced = oldFile(storageDir.resolve("01HQZX9K2M3N4P5Q6R7S8T9V0W_1.png"), 10);
+        UserEntity user =
+                new TestFixtures("gc", userRepository, projectRepository).saveUser("user");
+        user.setProfilePictureUrl(FileStorageService.PUBLIC_URL_PREFIX + referenced.getFileName());
+        userRepository.save(user);
+
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(2, 2, BufferedImage.TYPE_INT_RGB), "png", png);
+        String counted =
+                fileStorageService.storeImage(new ByteArrayInputStream(png.toByteArray()));
+        Path countedPath = age(stored(counted));
+        Path countedRendition = oldFile(stored(counted.replace(".png", "-64.png")), 3);
+
+        Path orphan = oldFile(storageDir.resolve("orphan.png"), 100);
+        Path orphanRendition = oldFile(stored("gone-64.png"), 20);
+        Path abandonedUpload = oldFile(storageDir.resolve("upload-123.tmp"), 1000);
+        Path freshOrphan = storageDir.resolve("fresh.png");
+        Files.write(freshOrphan, new byte[5]);
+
+        // When
+        long reclaimed = uploadGarbageCollector.collect();
+
+        // Then
+        assertEquals(1120, reclaimed);
+        assertFalse(Files.exists(orphan));
+        assertFalse(Files.exists(orphanRendition));
+        assertFalse(Files.exists(abandonedUpload));
+        assertTrue(Files.exists(referenced));
+        assertTrue(Files.exists(countedPath));
+        assertTrue(Files.exists(countedRendition));
+        assertTrue(Files.exists(freshOrphan));
+    }
+
+    private Path oldFile(Path path, int size) throws Exception {
+        Files.createDirectories(path.getParent());
+        Files.write(path, new byte[size]);
+        return age(path);
+    }
+
+    private Path age(Path path) throws Exception {
+        Files.setLastModifiedTime(path, FileTime.from(Instant.now().minus(2, ChronoUnit.DAYS)));
+        return path;
+    }
+
+    private Path stored(String fileName) {
+        return storageDir.resolve(fileStorageService.shardedKey(fileName));
+    }
+}
@@ -0,0 +1,89 @@
+package com.iyte_yazilim.proje_pazari.application.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.StoredFileRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.storage.LocalStorageBackend;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class UploadLayoutMigratorTest {
+
+    @TempDir Path storageDir;
+
+    private FileStorageService fileStorageService;
+    private UploadLayoutMigrator migrator;
+
+    @BeforeEach
+    void setUp() {
+        fileStorageService =
+                new FileStorageService(
+                        storageDir.toAbsolutePath().normalize(),
+                        new LocalStorageBackend(storageDir),
+                        mock(StoredFileRepository.class),
+                        new HotFileCache(new SimpleMeterRegistry(), 1 << 20, 65_536),
+                        mock(PlatformTransactionManager.class),
+                        3600,
+                        new int[] {64},
+                        40_000_000L,
+                        300);
+        migrator =
+                new UploadLayoutMigrator(
+                        fileStorageService, new SimpleMeterRegistry(), false, 2, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        migrator.shutdown();
+    }
+
+    @Test
+    void shouldMoveFlatFilesIntoShardedLayout() throws Exception {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            Files.write(storageDir.resolve("legacy-" + i + ".png"), new byte[] {(byte) i});
+        }
+        Path before = fileStorageService.getFileMetadata("legacy-0.png").path();
+
+        // When
+        int moved = migrator.migrate();
+
+        // Then
+        assertEquals(5, moved);
+        assertEquals(storageDir.resolve("legacy-0.png"), before);
+        for (int i = 0; i < 5; i++) {
+            assertTrue(Files.exists(stored("legacy-" + i + ".png")));
+            assertFalse(Files.exists(storageDir.resolve("legacy-" + i + ".png")));
+        }
+        assertEquals(
+                stored("legacy-0.png"),
+                fileStorageService.getFileMetadata("legacy-0.png").path());
+    }
+
+    @Test
+    void shouldResumeWithRemainingFilesOnly() throws Exception {
+        // Given
+        Files.write(storageDir.resolve("a.png"), new byte[] {1});
+        migrator.migrate();
+        Files.write(storageDir.resolve("b.png"), new byte[] {2});
+
+        // When
+        int moved = migrator.migrate();
+
+        // Then
+        assertEquals(1, moved);
+        assertTrue(Files.exists(stored("a.png")));
+        assertTrue(Files.exists(stored("b.png")));
+    }
+
+    private Path stored(String fileName) {
+        return storageDir.resolve(fileStorageService.shardedKey(fileName));
+    }
+}
@@ -0,0 +1,90 @@
+package com.iyte_yazilim.proje_pazari.application.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.iyte_yazilim.proje_pazari.application.dtos.UserProfileDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class UserProfileCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserProfileCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new UserProfileCache(meterRegistry, 100, 300);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void shouldServeRepeatedReadsFromCache() {
+        // When
+        for (int i = 0; i < 10; i++) {
+            cache.get("01HQXYZ123", this::load);
+        }
+
+        // Then
+        assertEquals(1, loads.get());
+        assertEquals(
+                9.0,
+                meterRegistry
+                        .get("cache.gets")
+                        .tag("cache", UserProfileCache.CACHE_NAME)
+                        .tag("result", "hit")
+                        .functionCounter()
+                        .count());
+    }
+
+    @Test
+    void shouldReloadAfterEviction() {
+        // When
+        cache.get("01HQXYZ123", this::load);
+        cache.evict("01HQXYZ123");
+        cache.get("01HQXYZ123", this::load);
+
+        // Then
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void shouldNotCacheMissingUsers() {
+        // When
+        for (int i = 0; i < 3; i++) {
+            assertNull(
+                    cache.get(
+                            "missing",
+                            id -> {
+                                loads.incrementAndGet();
+                                return null;
+                            }));
+        }
+
+        // Then
+        assertEquals(3, loads.get());
+    }
+
+    private UserProfileDTO load(String userId) {
+        loads.incrementAndGet();
+        return new UserProfileDTO(
+                userId,
+                "test@std.iyte.edu.tr",
+                "Test",
+                "User",
+                "Test User",
+                null,
+                null,
+                null,
+                null,
+                List.of(),
+                null,
+                0,
+                0,
+                List.of());
+    }
+}
@@ -0,0 +1,94 @@
+package com.iyte_yazilim.proje_pazari.application.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.iyte_yazilim.proje_pazari.application.commands.createProject.CreateProjectCommand;
+import com.iyte_yazilim.proje_pazari.application.commands.createProject.CreateProjectHandler;
+import com.iyte_yazilim.proje_pazari.domain.enums.ResponseCode;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.ProjectRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.UserRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.UserEntity;
+import com.iyte_yazilim.proje_pazari.support.TestFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest
+class UserStatsReconcilerTest {
+
+    @Autowired private CreateProjectHandler createProjectHandler;
+    @Autowired private UserStatsReconciler userStatsReconciler;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private String ownerId;
+
+    @BeforeEach
+    void setUp() {
+        ownerId =
+                new TestFixtures("stats", userRepository, projectRepository)
+                        .saveUser("owner")
+                        .getId();
+    }
+
+    @Test
+    void shouldIncrementProjectCounterWithProjectCreation() {
+        // When
+        var response = createProjectHandler.handle(command());
+
+        // Then
+        assertEquals(ResponseCode.CREATED, response.getCode());
+        assertEquals(1, userRepository.findById(ownerId).orElseThrow().getProjectsCreatedCount());
+    }
+
+    @Test
+    void shouldKeepConcurrentIncrementWhenStaleUserIsSaved() {
+        // Given: a user loaded before the project is created
+        UserEntity stale = userRepository.findById(ownerId).orElseThrow();
+        createProjectHandler.handle(command());
+
+        // When
+        stale.setFirstName("Renamed");
+        userRepository.save(stale);
+
+        // Then
+        UserEntity saved = userRepository.findById(ownerId).orElseThrow();
+        assertEquals("Renamed", saved.getFirstName());
+        assertEquals(1, saved.getProjectsCreatedCount());
+    }
+
+    @Test
+    void shouldRepairDriftedCounters() {
+        // Given
+        createProjectHandler.handle(command());
+        jdbcTemplate.update(
+                "UPDATE users SET projects_created_count = 42, applications_submitted_count = 7"
+                        + " WHERE id = ?",
+                ownerId);
+
+        // When
+        int repaired = userStatsReconciler.reconcile();
+
+        // Then
+        UserEntity repairedOwner = userRepository.findById(ownerId).orElseThrow();
+        assertTrue(repaired >= 1);
+        assertEquals(1, repairedOwner.getProjectsCreatedCount());
+        assertEquals(0, repairedOwner.getApplicationsSubmittedCount());
+    }
+
+    private CreateProjectCommand command() {
+        return new CreateProjectCommand(
+                "Counter Test Project",
+                "A project used to test activity counters",
+                ownerId,
+                null,
+                null,
+                4,
+                null,
+                "Testing",
+                null);
+    }
+}
@@ -0,0 +1,282 @@
+package com.iyte_yazilim.proje_pazari.infrastructure.storage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.iyte_yazilim.proje_pazari.domain.models.StoredObject;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class S3StorageBackendTest {
+
+    private static final String BUCKET = "uploads";
+
+    @TempDir Path tempDir;
+
+    private FakeObjectStore objectStore;
+    private S3StorageBackend backend;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        objectStore = new FakeObjectStore();
+        backend =
+                new S3StorageBackend(
+                        objectStore.endpoint(),
+                        "https://cdn.example.org",
+                        "us-east-1",
+                        BUCKET,
+                        "access",
+                        "secret");
+    }
+
+    @AfterEach
+    void tearDown() {
+        objectStore.stop();
+    }
+
+    @Test
+    void shouldStoreReadAndDeleteObjects() throws Exception {
+        // Given
+        Path source = Files.write(tempDir.resolve("upload.tmp"), "image-bytes".getBytes());
+
+        // When
+        backend.put("ab/cd/abcd.png", source, "image/png");
+
+        // Then
+        StoredObject stored = backend.stat("ab/cd/abcd.png");
+        assertEquals(11, stored.size());
+        assertEquals("abcd.png", stored.name());
+        try (InputStream in = backend.open("ab/cd/abcd.png")) {
+            assertEquals("image-bytes", new String(in.readAllBytes()));
+        }
+        assertTrue(objectStore.lastAuthorization.startsWith("AWS4-HMAC-SHA256 Credential=access/"));
+
+        // When
+        backend.delete("ab/cd/abcd.png");
+
+        // Then
+        assertNull(backend.stat("ab/cd/abcd.png"));
+        assertThrows(FileNotFoundException.class, () -> backend.open("ab/cd/abcd.png"));
+    }
+
+    @Test
+    void shouldMoveObjectsAndListAcrossPages() throws Exception {
+        // Given
+        for (String key : List.of("a.png", "b.png", "c.png", "12/34/d.png")) {
+            backend.put(key, Files.write(tempDir.resolve(key.replace('/', '_')), new byte[3]), "x");
+        }
+
+        // When
+        boolean moved = backend.move("a.png", "56/78/a.png");
+        boolean missing = backend.move("none.png", "90/12/none.png");
+
+        // Then
+        assertTrue(moved);
+        assertFalse(missing);
+        try (Stream<StoredObject> all = backend.list(true);
+                Stream<StoredObject> flat = backend.list(false)) {
+            assertEquals(
+                    List.of("12/34/d.png", "56/78/a.png", "b.png", "c.png"),
+                    all.map(StoredObject::key).toList());
+            assertEquals(List.of("b.png", "c.png"), flat.map(StoredObject::key).toList());
+        }
+    }
+
+    @Test
+    void shouldPresignDownloadsAgainstThePublicEndpoint() {
+        // When
+        URI uri = backend.presignedDownloadUri("ab/cd/abcd.png", Duration.ofMinutes(5));
+
+        // Then
+        assertTrue(uri.toString().startsWith("https://cdn.example.org/uploads/ab/cd/abcd.png?"));
+        assertTrue(uri.getRawQuery().contains("X-Amz-Expires=300"));
+        assertTrue(uri.getRawQuery().contains("X-Amz-Signature="));
+    }
+
+    @Test
+    void shouldServePresignedDownloadsWithoutTheApplication() throws Exception {
+        // Given
+        S3StorageBackend direct =
+                new S3StorageBackend(
+                        objectStore.endpoint(), null, "us-east-1", BUCKET, "access", "secret");
+        Path source = Files.write(tempDir.resolve("k.tmp"), "direct".getBytes());
+        direct.put("k.png", source, "image/png");
+        URI uri = direct.presignedDownloadUri("k.png", Duration.ofMinutes(5));
+
+        // When
+        HttpResponse<String> response =
+                HttpClient.newHttpClient()
+                        .send(
+                                HttpRequest.newBuilder(uri).build(),
+                                HttpResponse.BodyHandlers.ofString());
+
+        // Then
+        assertEquals(200, response.statusCode());
+        assertEquals("direct", response.body());
+        assertEquals("image/png", response.headers().firstValue("Content-Type").orElseThrow());
+    }
+
+    /**
+     * Minimal in-memory stand-in for an S3-compatible store, in the spirit of a local MinIO. It
+     * records but does not verify signatures; pages hold two keys to exercise continuation.
+     */
+    private static final class FakeObjectStore {
+
+        private static final int PAGE_SIZE = 2;
+
+        private final Map<String, StoredBytes> objects = new ConcurrentSkipListMap<>();
+        private final HttpServer server;
+        private volatile String lastAuthorization;
+
+        FakeObjectStore() throws IOException {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.createContext("/", this::handle);
+            server.start();
+        }
+
+        String endpoint() {
+            return "http://127.0.0.1:" + server.getAddress().getPort();
+        }
+
+        void stop() {
+            server.stop(0);
+        }
+
+        private void handle(HttpExchange exchange) throws IOException {
+            String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+            if (authorization != null) {
+                lastAuthorization = authorization;
+            }
+            String rawPath = exchange.getRequestURI().getRawPath();
+            String path = URLDecoder.decode(rawPath, StandardCharsets.UTF_8);
+            String bucketPath = "/" + BUCKET + "/";
+            String key = path.startsWith(bucketPath) ? path.substring(bucketPath.length()) : "";
+
+            switch (exchange.getRequestMethod()) {
+                case "GET" -> {
+                    if (key.isEmpty()) {
+                        list(exchange);
+                    } else {
+                        get(exchange, key, true);
+                    }
+                }
+                case "HEAD" -> get(exchange, key, false);
+                case "PUT" -> put(exchange, key);
+                case "DELETE" -> {
+                    objects.remove(key);
+                    exchange.sendResponseHeaders(204, -1);
+                }
+                default -> exchange.sendResponseHeaders(405, -1);
+            }
+            exchange.close();
+        }
+
+        private void get(HttpExchange exchange, String key, boolean withBody) throws IOException {
+            StoredBytes object = objects.get(key);
+            if (object == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", object.contentType());
+            exchange.getResponseHeaders()
+                    .set(
+                            "Last-Modified",
+                            DateTimeFormatter.RFC_1123_DATE_TIME.format(
+                                    object.lastModified().atZone(ZoneOffset.UTC)));
+            if (withBody) {
+                exchange.sendResponseHeaders(200, object.content().length);
+                exchange.getResponseBody().write(object.content());
+            } else {
+                exchange.getResponseHeaders()
+                        .set("Content-Length", String.valueOf(object.content().length));
+                exchange.sendResponseHeaders(200, -1);
+            }
+        }
+
+        private void put(HttpExchange exchange, String key) throws IOException {
+            String copySource = exchange.getRequestHeaders().getFirst("x-amz-copy-source");
+            if (copySource != null) {
+                String sourceKey =
+                        URLDecoder.decode(copySource, StandardCharsets.UTF_8)
+                                .substring(BUCKET.length() + 2);
+                StoredBytes source = objects.get(sourceKey);
+                if (source == null) {
+                    exchange.sendResponseHeaders(404, -1);
+                    return;
+                }
+                objects.put(key, source);
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            byte[] content = exchange.getRequestBody().readAllBytes();
+            String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+            objects.put(key, new StoredBytes(content, contentType, Instant.now()));
+            exchange.sendResponseHeaders(200, -1);
+        }
+
+        private void list(HttpExchange exchange) throws IOException {
+            String query = exchange.getRequestURI().getRawQuery();
+            boolean flat = query.contains("delimiter=");
+            String after = null;
+            for (String parameter : query.split("&")) {
+                if (parameter.startsWith("continuation-token=")) {
+                    after = URLDecoder.decode(parameter.substring(19), StandardCharsets.UTF_8);
+                }
+            }
+
+            List<String> keys =
+                    objects.keySet().stream().filter(k -> !flat || !k.contains("/")).toList();
+            int start = after == null ? 0 : keys.indexOf(after) + 1;
+            int end = Math.min(keys.size(), start + PAGE_SIZE);
+            boolean truncated = end < keys.size();
+
+            StringBuilder xml = new StringBuilder("<ListBucketResult>");
+            xml.append("<IsTruncated>").append(truncated).append("</IsTruncated>");
+            if (truncated) {
+                xml.append("<NextContinuationToken>")
+                        .append(keys.get(end - 1))
+                        .append("</NextContinuationToken>");
+            }
+            for (String key : keys.subList(start, end)) {
+                StoredBytes object = objects.get(key);
+                xml.append("<Contents><Key>")
+                        .append(key)
+                        .append("</Key><LastModified>")
+                        .append(object.lastModified())
+                        .append("</LastModified><Size>")
+                        .append(object.content().length)
+                        .append("</Size></Contents>");
+            }
+            xml.append("</ListBucketResult>");
+
+            byte[] body = xml.toString().getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+        }
+    }
+
+    private record StoredBytes(byte[] content, String contentType, Instant lastModified) {}
+}
@@ -0,0 +1,75 @@
+package com.iyte_yazilim.proje_pazari.presentation.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class JwtKeyRingTest {
+
+    private static final String OLD_SECRET =
+            "old-secret-key-for-testing-purposes-at-least-256-bits";
+    private static final String NEW_SECRET =
+            "new-secret-key-for-testing-purposes-at-least-256-bits";
+
+    @Test
+    void shouldVerifyTokensSignedWithRetiredKey() {
+        // Given
+        JwtKeyRing keyRing = JwtKeyRing.of("2025-02", NEW_SECRET, "2025-01:" + OLD_SECRET);
+        JwtParser parser = Jwts.parser().keyLocator(keyRing.locator()).build();
+        String oldToken = sign("2025-01", OLD_SECRET);
+        String newToken = sign("2025-02", NEW_SECRET);
+
+        // When / Then
+        assertEquals("user", parser.parseSignedClaims(oldToken).getPayload().getSubject());
+        assertEquals("user", parser.parseSignedClaims(newToken).getPayload().getSubject());
+    }
+
+    @Test
+    void shouldRejectUnknownKeyId() {
+        // Given
+        JwtKeyRing keyRing = JwtKeyRing.of("2025-02", NEW_SECRET, null);
+        JwtParser parser = Jwts.parser().keyLocator(keyRing.locator()).build();
+        String token = sign("2025-01", OLD_SECRET);
+
+        // When / Then
+        assertThrows(JwtException.class, () -> parser.parseSignedClaims(token));
+    }
+
+    @Test
+    void shouldVerifyTokensWithoutKeyIdWithActiveKey() {
+        // Given
+        JwtKeyRing keyRing = JwtKeyRing.of("2025-02", NEW_SECRET, "2025-01:" + OLD_SECRET);
+        JwtParser parser = Jwts.parser().keyLocator(keyRing.locator()).build();
+        String token =
+                Jwts.builder()
+                        .subject("user")
+                        .signWith(Keys.hmacShaKeyFor(NEW_SECRET.getBytes(StandardCharsets.UTF_8)))
+                        .compact();
+
+        // When / Then
+        assertEquals("user", parser.parseSignedClaims(token).getPayload().getSubject());
+    }
+
+    @Test
+    void shouldRejectMalformedOrDuplicateEntries() {
+        assertThrows(IllegalStateException.class, () -> JwtKeyRing.of("a", NEW_SECRET, "no-colon"));
+        assertThrows(
+                IllegalStateException.class,
+                () -> JwtKeyRing.of("a", NEW_SECRET, "a:" + OLD_SECRET));
+    }
+
+    private String sign(String keyId, String secret) {
+        return Jwts.builder()
+                .header()
+                .keyId(keyId)
+                .and()
+                .subject("user")
+                .signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+}
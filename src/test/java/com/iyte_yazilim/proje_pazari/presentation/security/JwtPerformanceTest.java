@@ -1,10 +1,18 @@
 package com.iyte_yazilim.proje_pazari.presentation.security;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
 
 @SpringBootTest
 class JwtPerformanceTest {
@@ -104,4 +112,34 @@ class JwtPerformanceTest {
                 duration < 5000,
                 "UserPrincipal extraction should be fast (< 5 seconds for 1000 iterations)");
     }
+
+    @Test
+    void shouldParseTokenOncePerRequest() throws Exception {
+        // Given
+        String token = jwtUtil.generateToken("01HQXYZ123", "test@std.iyte.edu.tr", "USER");
+        JwtUtil countingJwtUtil = spy(jwtUtil);
+        JwtAuthenticationFilter filter =
+                new JwtAuthenticationFilter(
+                        countingJwtUtil,
+                        new VerifiedTokenCache(1024 * 1024, new SimpleMeterRegistry()));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+
+        // When
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+            // Then
+            UserPrincipal principal =
+                    (UserPrincipal)
+                            SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+            assertEquals("01HQXYZ123", principal.getUserId());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        verify(countingJwtUtil, times(1)).verify(token);
+        verify(countingJwtUtil, never()).validateToken(anyString());
+        verify(countingJwtUtil, never()).extractUserPrincipal(anyString());
+        verify(countingJwtUtil, never()).extractClaim(anyString(), any());
+    }
 }
@@ -98,4 +98,29 @@ class JwtUtilTest {
                 principal.getAuthorities().stream()
                         .anyMatch(a -> a.getAuthority().equals("ROLE_MODERATOR")));
     }
+
+    @Test
+    void shouldCarryPreferredLanguageClaim() {
+        // Given
+        String token =
+                jwtUtil.generateToken("01HQXYZ123", "test@std.iyte.edu.tr", "USER", "en");
+
+        // When
+        UserPrincipal principal = jwtUtil.verify(token).principal();
+
+        // Then
+        assertEquals("en", principal.getPreferredLanguage());
+    }
+
+    @Test
+    void shouldOmitPreferredLanguageWhenNotSet() {
+        // Given
+        String token = jwtUtil.generateToken("01HQXYZ123", "test@std.iyte.edu.tr", "USER");
+
+        // When
+        UserPrincipal principal = jwtUtil.verify(token).principal();
+
+        // Then
+        assertNull(principal.getPreferredLanguage());
+    }
 }
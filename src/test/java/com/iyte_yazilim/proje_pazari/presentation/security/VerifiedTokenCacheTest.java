@@ -0,0 +1,97 @@
+package com.iyte_yazilim.proje_pazari.presentation.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.jsonwebtoken.MalformedJwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class VerifiedTokenCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private VerifiedTokenCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new VerifiedTokenCache(1024 * 1024, meterRegistry);
+    }
+
+    @Test
+    void shouldVerifyOnlyOnceForRepeatedToken() {
+        // Given
+        AtomicInteger verifications = new AtomicInteger();
+        VerifiedToken verified = verifiedToken(Instant.now().plusSeconds(60));
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            cache.get(
+                    "token-a",
+                    t -> {
+                        verifications.incrementAndGet();
+                        return verified;
+                    });
+        }
+
+        // Then
+        assertEquals(1, verifications.get());
+        assertEquals(
+                99.0,
+                meterRegistry
+                        .get("cache.gets")
+                        .tag("cache", VerifiedTokenCache.CACHE_NAME)
+                        .tag("result", "hit")
+                        .functionCounter()
+                        .count());
+    }
+
+    @Test
+    void shouldNotCacheFailedVerification() {
+        // Given
+        AtomicInteger verifications = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            assertThrows(
+                    MalformedJwtException.class,
+                    () ->
+                            cache.get(
+                                    "bad-token",
+                                    t -> {
+                                        verifications.incrementAndGet();
+                                        throw new MalformedJwtException("bad");
+                                    }));
+        }
+
+        // Then
+        assertEquals(3, verifications.get());
+    }
+
+    @Test
+    void shouldNotServeExpiredEntries() {
+        // Given
+        AtomicInteger verifications = new AtomicInteger();
+        VerifiedToken expired = verifiedToken(Instant.now().minusSeconds(1));
+
+        // When
+        for (int i = 0; i < 2; i++) {
+            cache.get(
+                    "token-b",
+                    t -> {
+                        verifications.incrementAndGet();
+                        return expired;
+                    });
+        }
+
+        // Then
+        assertTrue(verifications.get() >= 2);
+    }
+
+    private VerifiedToken verifiedToken(Instant expiresAt) {
+        return new VerifiedToken(
+                new UserPrincipal("01HQXYZ123", "test@std.iyte.edu.tr", "USER"), expiresAt);
+    }
+}
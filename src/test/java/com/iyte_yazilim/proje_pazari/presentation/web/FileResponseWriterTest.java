@@ -0,0 +1,187 @@
+package com.iyte_yazilim.proje_pazari.presentation.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.iyte_yazilim.proje_pazari.application.services.HotFileCache;
+import com.iyte_yazilim.proje_pazari.application.services.StoredFileMetadata;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class FileResponseWriterTest {
+
+    @TempDir Path storageDir;
+
+    private final FileResponseWriter writer =
+            new FileResponseWriter(new HotFileCache(new SimpleMeterRegistry(), 1 << 20, 1024));
+    private StoredFileMetadata file;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path path = storageDir.resolve("avatar.png");
+        Files.write(path, "0123456789".getBytes());
+        file =
+                new StoredFileMetadata(
+                        "avatar.png",
+                        "avatar.png",
+                        path,
+                        10,
+                        Instant.parse("2025-01-01T00:00:00Z"),
+                        "abc",
+                        true);
+    }
+
+    @Test
+    void shouldServeWholeFileWithImmutableCaching() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/files/a");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        writer.write(file, "image/png", request, response);
+
+        // Then
+        assertEquals(200, response.getStatus());
+        assertEquals("0123456789", response.getContentAsString());
+        assertEquals("\"abc\"", response.getHeader(HttpHeaders.ETAG));
+        assertEquals("bytes", response.getHeader(HttpHeaders.ACCEPT_RANGES));
+        assertTrue(response.getHeader(HttpHeaders.CACHE_CONTROL).contains("immutable"));
+    }
+
+    @Test
+    void shouldServeSingleRange() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/files/a");
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        writer.write(file, "image/png", request, response);
+
+        // Then
+        assertEquals(206, response.getStatus());
+        assertEquals("2345", response.getContentAsString());
+        assertEquals("bytes 2-5/10", response.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertEquals(4, response.getContentLengthLong());
+    }
+
+    @Test
+    void shouldServeSuffixRange() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/files/a");
+        request.addHeader(HttpHeaders.RANGE, "bytes=-3");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        writer.write(file, "image/png", request, response);
+
+        // Then
+        assertEquals(206, response.getStatus());
+        assertEquals("789", response.getContentAsString());
+    }
+
+    @Test
+    void shouldRejectUnsatisfiableRange() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/files/a");
+        request.addHeader(HttpHeaders.RANGE, "bytes=20-30");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        writer.write(file, "image/png", request, response);
+
+        // Then
+        assertEquals(416, response.getStatus());
+        assertEquals("bytes */10", response.getHeader(HttpHeaders.CONTENT_RANGE));
+    }
+
+    @Test
+    void shouldIgnoreRangeWhenIfRangeIsStale() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/files/a");
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+        request.addHeader(HttpHeaders.IF_RANGE, "\"old\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        writer.write(file, "image/png", request, response);
+
+        // Then
+        assertEquals(200, response.getStatus());
+        assertEquals("0123456789", response.getContentAsString());
+    }
+
+    @Test
+    void shouldAnswerNotModifiedWithoutBody() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/files/a");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"abc\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        writer.write(file, "image/png", request, response);
+
+        // Then
+        assertEquals(304, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void shouldServeRepeatedRequestsFromMemory() throws Exception {
+        // Given: the first request is served from disk, the second one caches the file
+        for (int i = 0; i < 2; i++) {
+            writer.write(
+                    file,
+                    "image/png",
+                    new MockHttpServletRequest("GET", "/api/v1/files/a"),
+                    new MockHttpServletResponse());
+        }
+        Files.delete(file.path());
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/files/a");
+        request.addHeader(HttpHeaders.RANGE, "bytes=4-");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        writer.write(file, "image/png", request, response);
+
+        // Then
+        assertEquals(206, response.getStatus());
+        assertEquals("456789", response.getContentAsString());
+    }
+
+    @Test
+    void shouldDelegateLargeFilesToSendfile() throws Exception {
+        // Given
+        Path large = storageDir.resolve("large.png");
+        Files.write(large, new byte[(int) FileResponseWriter.SENDFILE_THRESHOLD_BYTES]);
+        StoredFileMetadata largeFile =
+                new StoredFileMetadata(
+                        "large.png",
+                        "large.png",
+                        large,
+                        FileResponseWriter.SENDFILE_THRESHOLD_BYTES,
+                        Instant.now(),
+                        "def",
+                        false);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/files/b");
+        request.setAttribute(FileResponseWriter.SENDFILE_SUPPORT, Boolean.TRUE);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        writer.write(largeFile, "image/png", request, response);
+
+        // Then
+        assertEquals(large.toString(), request.getAttribute(FileResponseWriter.SENDFILE_FILENAME));
+        assertEquals(
+                FileResponseWriter.SENDFILE_THRESHOLD_BYTES,
+                request.getAttribute(FileResponseWriter.SENDFILE_END));
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+}
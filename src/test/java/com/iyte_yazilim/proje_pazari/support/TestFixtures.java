@@ -0,0 +1,100 @@
+package com.iyte_yazilim.proje_pazari.support;
+
+import com.iyte_yazilim.proje_pazari.domain.enums.ProjectStatus;
+import com.iyte_yazilim.proje_pazari.domain.enums.UserRole;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.ProjectRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.UserRepository;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.ProjectEntity;
+import com.iyte_yazilim.proje_pazari.infrastructure.persistence.models.UserEntity;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Saves users and projects for tests running against the shared in-memory database.
+ *
+ * <p>All test classes write to the same database, so every value that must not collide with
+ * another test's data (emails, skill names, categories) is derived from a prefix made of the
+ * given name and the time the fixtures were created.
+ */
+public class TestFixtures {
+
+    private final UserRepository userRepository;
+    private final ProjectRepository projectRepository;
+    private final String prefix;
+
+    /**
+     * Creates fixtures with a fresh prefix.
+     *
+     * @param name short name of the test, for readable data
+     * @param userRepository repository users are saved with
+     * @param projectRepository repository projects are saved with
+     */
+    public TestFixtures(
+            String name, UserRepository userRepository, ProjectRepository projectRepository) {
+        this.userRepository = userRepository;
+        this.projectRepository = projectRepository;
+        this.prefix = name + System.nanoTime();
+    }
+
+    /**
+     * Returns a value no other test uses.
+     *
+     * @param suffix distinguishes values within the test
+     * @return the prefixed value
+     */
+    public String unique(String suffix) {
+        return prefix + "-" + suffix;
+    }
+
+    /**
+     * Returns values no other test uses.
+     *
+     * @param suffixes distinguish values within the test
+     * @return the prefixed values, in order
+     */
+    public List<String> uniqueAll(String... suffixes) {
+        return Arrays.stream(suffixes).map(this::unique).toList();
+    }
+
+    /**
+     * Saves an active user with a unique email.
+     *
+     * @param name distinguishes users within the test
+     * @return the saved user
+     */
+    public UserEntity saveUser(String name) {
+        UserEntity user = new UserEntity();
+        user.setEmail(unique(name) + "@iyte.edu.tr");
+        user.setPassword("hash");
+        user.setRole(UserRole.USER);
+        return userRepository.save(user);
+    }
+
+    /**
+     * Saves a project.
+     *
+     * @param owner the project owner
+     * @param status the project status
+     * @param maxTeamSize team size limit, or null for none
+     * @param currentTeamSize team size including the owner
+     * @param requiredSkills skills the project needs
+     * @return the saved project
+     */
+    public ProjectEntity saveProject(
+            UserEntity owner,
+            ProjectStatus status,
+            Integer maxTeamSize,
+            int currentTeamSize,
+            String... requiredSkills) {
+        ProjectEntity project = new ProjectEntity();
+        project.setTitle("Project");
+        project.setDescription("Description");
+        project.setStatus(status);
+        project.setOwner(owner);
+        project.setMaxTeamSize(maxTeamSize);
+        project.setCurrentTeamSize(currentTeamSize);
+        project.setRequiredSkills(new ArrayList<>(List.of(requiredSkills)));
+        return projectRepository.save(project);
+    }
+}